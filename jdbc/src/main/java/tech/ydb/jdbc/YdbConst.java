@@ -92,7 +92,9 @@ public final class YdbConst {
     public static final String READONLY_INSIDE_TRANSACTION = "Cannot change read-only attribute inside a transaction";
     public static final String CHANGE_ISOLATION_INSIDE_TX = "Cannot change transaction isolation inside a transaction";
     public static final String UNSUPPORTED_TRANSACTION_LEVEL = "Unsupported transaction level: ";
+    public static final String UNSUPPORTED_READ_TX_MODE = "Unsupported read-only transaction mode: ";
     public static final String CLOSED_CONNECTION = "Connection is closed";
+    public static final String STARTUP_TIMEOUT = "Connection startup is not finished in ";
     public static final String DB_QUERY_DEADLINE_EXCEEDED = "DB query deadline exceeded: ";
     public static final String DB_QUERY_CANCELLED = "DB query cancelled: ";
     public static final String DATABASE_UNAVAILABLE = "Database is unavailable: ";
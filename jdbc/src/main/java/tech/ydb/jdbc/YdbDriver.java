@@ -12,7 +12,9 @@ import java.util.logging.Logger;
 
 import javax.annotation.Nullable;
 
+import tech.ydb.jdbc.context.YdbClients;
 import tech.ydb.jdbc.context.YdbContext;
+import tech.ydb.jdbc.context.YdbSharedResources;
 import tech.ydb.jdbc.impl.YdbConnectionImpl;
 import tech.ydb.jdbc.settings.YdbConfig;
 import tech.ydb.scheme.SchemeClient;
@@ -39,6 +41,8 @@ public class YdbDriver implements Driver {
     }
 
     private final ConcurrentHashMap<YdbConfig, YdbContext> cache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<YdbConfig.ClientsKey, YdbClients> clientsCache = new ConcurrentHashMap<>();
+    private final YdbSharedResources sharedResources = new YdbSharedResources();
 
     @Override
     public YdbConnection connect(String url, Properties info) throws SQLException {
@@ -53,7 +57,7 @@ public class YdbDriver implements Driver {
         });
 
         if (!config.isCacheConnectionsInDriver()) {
-            final YdbContext context = YdbContext.createContext(config);
+            final YdbContext context = createContext(config, YdbClients.create(config, sharedResources));
             return new YdbConnectionImpl(context) {
                 @Override
                 public void close() throws SQLException {
@@ -69,7 +73,7 @@ public class YdbDriver implements Driver {
             public void close() throws SQLException {
                 super.close();
                 if (!cached.hasConnections() && cache.remove(config, cached)) {
-                    cached.close();
+                    closeCachedContext(cached);
                 }
             }
         };
@@ -84,15 +88,59 @@ public class YdbDriver implements Driver {
             return context;
         }
 
-        context = YdbContext.createContext(config);
+        YdbClients clients = getCachedClients(config);
+        context = createContext(config, clients);
         YdbContext old = cache.putIfAbsent(config, context);
         if (old != null) {
-            context.close();
+            closeCachedContext(context);
             return old;
         }
         return context;
     }
 
+    private YdbClients getCachedClients(YdbConfig config) throws SQLException {
+        YdbConfig.ClientsKey key = config.getClientsKey();
+        while (true) {
+            YdbClients clients = clientsCache.get(key);
+            if (clients != null) {
+                if (clients.retain()) {
+                    LOGGER.log(Level.FINEST, "Reusing YDB clients to {0}", config.getSafeUrl());
+                    return clients;
+                }
+                // clients were closed by the last context, but are not removed from the cache yet
+                clientsCache.remove(key, clients);
+                continue;
+            }
+
+            clients = YdbClients.create(config, sharedResources);
+            YdbClients old = clientsCache.putIfAbsent(key, clients);
+            if (old == null) {
+                return clients;
+            }
+            clients.release();
+        }
+    }
+
+    private YdbContext createContext(YdbConfig config, YdbClients clients) throws SQLException {
+        try {
+            return YdbContext.createContext(config, clients);
+        } catch (SQLException | RuntimeException ex) {
+            clients.release();
+            if (clients.isClosed()) {
+                clientsCache.values().remove(clients);
+            }
+            throw ex;
+        }
+    }
+
+    private void closeCachedContext(YdbContext context) {
+        YdbClients clients = context.getClients();
+        context.close();
+        if (clients.isClosed()) {
+            clientsCache.values().remove(clients);
+        }
+    }
+
     @Override
     public boolean acceptsURL(String url) {
         return YdbConfig.isYdb(url);
@@ -139,6 +187,7 @@ public class YdbDriver implements Driver {
             cache.values().forEach(YdbContext::close);
             cache.clear();
         }
+        clientsCache.clear();
     }
 
     public static boolean isRegistered() {
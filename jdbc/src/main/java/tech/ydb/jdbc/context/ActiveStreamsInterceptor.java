@@ -0,0 +1,69 @@
+package tech.ydb.jdbc.context;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * Counter of active GRPC streams of the channel. Attach streams of query sessions live as long as the session, so
+ * they are not counted and don't make the channel with many idle sessions look loaded
+ */
+class ActiveStreamsInterceptor implements ClientInterceptor {
+    private static final String ATTACH_SESSION_METHOD = "/AttachSession";
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    int getActiveStreams() {
+        return active.get();
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+            CallOptions callOptions, Channel next) {
+        ClientCall<ReqT, RespT> call = next.newCall(method, callOptions);
+        if (method.getFullMethodName().endsWith(ATTACH_SESSION_METHOD)) {
+            return call;
+        }
+        return new CountedCall<>(call);
+    }
+
+    private class CountedCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+        private final AtomicBoolean isFinished = new AtomicBoolean(false);
+
+        CountedCall(ClientCall<ReqT, RespT> delegate) {
+            super(delegate);
+        }
+
+        private void finish() {
+            if (isFinished.compareAndSet(false, true)) {
+                active.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void start(Listener<RespT> listener, Metadata headers) {
+            active.incrementAndGet();
+            try {
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(listener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        finish();
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            } catch (RuntimeException ex) {
+                finish();
+                throw ex;
+            }
+        }
+    }
+}
@@ -4,8 +4,12 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 
 import tech.ydb.core.Status;
 import tech.ydb.core.grpc.GrpcReadStream;
@@ -15,6 +19,8 @@ import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.YdbTracer;
 import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.impl.YdbQueryResultBase;
+import tech.ydb.jdbc.impl.YdbQueryResultParallel;
 import tech.ydb.jdbc.impl.YdbQueryResultReader;
 import tech.ydb.jdbc.impl.YdbQueryResultStatic;
 import tech.ydb.jdbc.impl.YdbResultSetMemory;
@@ -24,30 +30,45 @@ import tech.ydb.table.Session;
 import tech.ydb.table.SessionRetryContext;
 import tech.ydb.table.TableClient;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.query.ReadRowsResult;
 import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.table.settings.ExecuteScanQuerySettings;
 import tech.ydb.table.settings.ExecuteSchemeQuerySettings;
+import tech.ydb.table.settings.ReadRowsSettings;
 import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.Value;
 
 /**
  *
  * @author Aleksandr Gorshenin
  */
 public abstract class BaseYdbExecutor implements YdbExecutor {
+    private interface Execution<T> {
+        T execute() throws SQLException;
+    }
+
     private final Duration sessionTimeout;
-    private final TableClient tableClient;
     private final SessionRetryContext retryCtx;
     private final SessionRetryContext idempotentRetryCtx;
     private final boolean useStreamResultSet;
+    private final int parallelScanStreams;
+    private final boolean isParallelScanOrdered;
+    private final boolean isResumableScan;
 
     private final AtomicReference<YdbQueryResult> currResult;
+    private final Set<YdbQuery> txWrites = new HashSet<>();
     protected final String prefixPragma;
     protected final YdbTypes types;
+    protected final SessionPoolController poolController;
+    protected final YdbClients clients;
 
     public BaseYdbExecutor(YdbContext ctx) {
         this.sessionTimeout = ctx.getOperationProperties().getSessionTimeout();
         this.useStreamResultSet = ctx.getOperationProperties().getUseStreamResultSets();
-        this.tableClient = ctx.getTableClient();
+        this.parallelScanStreams = ctx.getOperationProperties().getParallelScanStreams();
+        this.isParallelScanOrdered = ctx.getOperationProperties().isParallelScanOrdered();
+        this.isResumableScan = ctx.getOperationProperties().isResumableScanStreams();
+        TableClient tableClient = ctx.getTableClient();
         this.retryCtx = SessionRetryContext.create(tableClient)
                 .sessionCreationTimeout(ctx.getOperationProperties().getSessionTimeout())
                 .build();
@@ -58,10 +79,18 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         this.prefixPragma = ctx.getPrefixPragma();
         this.types = ctx.getTypes();
         this.currResult = new AtomicReference<>();
+        this.poolController = ctx.getSessionPoolController();
+        this.clients = ctx.getClients();
     }
 
     protected Session createNewTableSession(YdbValidator validator) throws SQLException {
-        return validator.call("Get session", null, () -> tableClient.createSession(sessionTimeout));
+        long startedAt = System.nanoTime();
+        try {
+            TableClient client = clients.selectTableClient();
+            return validator.call("Get session", null, () -> client.createSession(sessionTimeout));
+        } finally {
+            poolController.recordAcquire(System.nanoTime() - startedAt);
+        }
     }
 
     @Override
@@ -87,6 +116,56 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         }
     }
 
+    /**
+     * Invalidates cached results of queries which read the tables changed by the query. Changes of the transaction
+     * are not visible to other connections until its commit, so they invalidate cached results only after it
+     *
+     * @param ctx context of the executor
+     * @param query executed query
+     * @throws SQLException if the executor is closed
+     */
+    private void invalidateResults(YdbContext ctx, YdbQuery query) throws SQLException {
+        if (!query.isWriting()) {
+            return;
+        }
+
+        if (isInsideTransaction()) {
+            txWrites.add(query);
+        } else {
+            ctx.invalidateQueryResults(query);
+        }
+    }
+
+    /**
+     * Invalidates cached results of the tables changed by the committed transaction. The failed commit may be applied
+     * too, so it invalidates the results as well
+     *
+     * @param ctx context of the executor
+     */
+    protected void onTransactionCommit(YdbContext ctx) {
+        for (YdbQuery query: txWrites) {
+            ctx.invalidateQueryResults(query);
+        }
+        txWrites.clear();
+    }
+
+    /**
+     * Forgets the tables changed by the rolled back transaction
+     */
+    protected void onTransactionRollback() {
+        txWrites.clear();
+    }
+
+    /**
+     * Sends the statements deferred by the executor, so the next operation is executed after them
+     *
+     * @param statement statement of the next operation
+     * @throws SQLException if deferred statements were failed
+     */
+    protected void flushDeferredWrites(YdbStatement statement) throws SQLException {
+        // nothing is deferred by default
+    }
+
     @Override
     public YdbQueryResult executeSchemeQuery(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
             throws SQLException {
@@ -95,6 +174,7 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         if (!params.isEmpty()) {
             throw new SQLFeatureNotSupportedException(YdbConst.PARAMETERIZED_SCHEME_QUERIES_UNSUPPORTED);
         }
+        flushDeferredWrites(statement);
 
         String yql = prefixPragma + preparedYql;
         YdbContext ctx = statement.getConnection().getCtx();
@@ -117,10 +197,103 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         return updateCurrentResult(new YdbQueryResultStatic(query));
     }
 
+    /**
+     * Executes the query and records its latency, failure and count of returned rows to the statistics of the full
+     * scan detector. Rows of streamed results are counted as their parts arrive
+     */
+    private <T> T recordStats(YdbStatement statement, YdbQuery query, String yql, Execution<T> execution,
+            BiConsumer<QueryStat, T> rowsCounter) throws SQLException {
+        QueryStat stat = statement.getConnection().getCtx().traceQueryByFullScanDetector(query, yql);
+        if (stat == null) {
+            return execution.execute();
+        }
+
+        long startedAt = System.nanoTime();
+        boolean isFailed = true;
+        try {
+            T result = execution.execute();
+            if (result != null) {
+                rowsCounter.accept(stat, result);
+            }
+            isFailed = false;
+            return result;
+        } finally {
+            stat.recordExecution(System.nanoTime() - startedAt, isFailed);
+        }
+    }
+
+    private static void countResultRows(QueryStat stat, YdbQueryResult result) {
+        if (result instanceof YdbQueryResultBase) {
+            ((YdbQueryResultBase) result).recordRowsTo(stat);
+        }
+    }
+
+    private static void countMemoryRows(QueryStat stat, YdbResultSetMemory[] results) {
+        for (YdbResultSetMemory rs: results) {
+            for (ResultSetReader reader: rs.getResultSets()) {
+                stat.addRows(reader.getRowCount());
+            }
+        }
+    }
+
+    @Override
+    public YdbQueryResult executeDataQuery(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
+            throws SQLException {
+        try {
+            return recordStats(statement, query, preparedYql,
+                    () -> executeDataQueryImpl(statement, query, preparedYql, params),
+                    BaseYdbExecutor::countResultRows);
+        } finally {
+            invalidateResults(statement.getConnection().getCtx(), query);
+        }
+    }
+
+    @Override
+    public YdbResultSetMemory[] executeInMemoryQuery(YdbStatement statement, YdbQuery query, String preparedYql,
+            Params params) throws SQLException {
+        try {
+            return recordStats(statement, query, preparedYql,
+                    () -> executeInMemoryQueryImpl(statement, query, preparedYql, params),
+                    BaseYdbExecutor::countMemoryRows);
+        } finally {
+            invalidateResults(statement.getConnection().getCtx(), query);
+        }
+    }
+
     @Override
     public YdbQueryResult executeBulkUpsert(YdbStatement statement, YdbQuery query, String tablePath, ListValue rows)
             throws SQLException {
+        return recordStats(statement, query, query.getPreparedYql(),
+                () -> executeBulkUpsertImpl(statement, query, tablePath, rows),
+                BaseYdbExecutor::countResultRows);
+    }
+
+    @Override
+    public YdbQueryResult executeReadRows(YdbStatement statement, YdbQuery query, String tablePath, ListValue keys,
+            List<String> columns) throws SQLException {
+        return recordStats(statement, query, query.getPreparedYql(),
+                () -> executeReadRowsImpl(statement, query, tablePath, keys, columns),
+                BaseYdbExecutor::countResultRows);
+    }
+
+    @Override
+    public YdbQueryResult executeScanQuery(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
+            throws SQLException {
+        return recordStats(statement, query, preparedYql,
+                () -> executeScanQueryImpl(statement, query, preparedYql, params),
+                BaseYdbExecutor::countResultRows);
+    }
+
+    protected abstract YdbQueryResult executeDataQueryImpl(YdbStatement statement, YdbQuery query,
+            String preparedYql, Params params) throws SQLException;
+
+    protected abstract YdbResultSetMemory[] executeInMemoryQueryImpl(YdbStatement statement, YdbQuery query,
+            String preparedYql, Params params) throws SQLException;
+
+    private YdbQueryResult executeBulkUpsertImpl(YdbStatement statement, YdbQuery query, String tablePath,
+            ListValue rows) throws SQLException {
         ensureOpened();
+        flushDeferredWrites(statement);
 
         String yql = prefixPragma + query.getPreparedYql();
         YdbValidator validator = statement.getValidator();
@@ -139,10 +312,45 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         return updateCurrentResult(new YdbQueryResultStatic(query));
     }
 
-    @Override
-    public YdbQueryResult executeScanQuery(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
-            throws SQLException {
+    private YdbQueryResult executeReadRowsImpl(YdbStatement statement, YdbQuery query, String tablePath,
+            ListValue keys, List<String> columns) throws SQLException {
+        ensureOpened();
+        flushDeferredWrites(statement);
+
+        YdbContext ctx = statement.getConnection().getCtx();
+        YdbValidator validator = statement.getValidator();
+        String msg = "ReadRows from " + tablePath + " >>\n" + keys;
+
+        YdbTracer tracer = ctx.getTracer();
+        tracer.trace("--> read rows");
+        tracer.query(tablePath);
+
+        int timeout = statement.getQueryTimeout();
+        ReadRowsSettings.Builder builder = timeout > 0
+                ? ReadRowsSettings.newBuilder().withRequestTimeout(Duration.ofSeconds(timeout))
+                : ctx.withRequestTimeout(ReadRowsSettings.newBuilder());
+        builder = builder.withKeys(keys);
+        for (String column: columns) {
+            builder.addColumn(column);
+        }
+        ReadRowsSettings settings = builder.build();
+
+        ReadRowsResult result = validator.call(msg, tracer,
+                () -> idempotentRetryCtx.supplyResult(session -> session.readRows(tablePath, settings))
+        );
+
+        if (!isInsideTransaction()) {
+            tracer.close();
+        }
+
+        YdbResultSet rs = new YdbResultSetMemory(types, statement, result.getResultSetReader());
+        return updateCurrentResult(new YdbQueryResultStatic(query, rs));
+    }
+
+    private YdbQueryResult executeScanQueryImpl(YdbStatement statement, YdbQuery query, String preparedYql,
+            Params params) throws SQLException {
         ensureOpened();
+        flushDeferredWrites(statement);
 
         String yql = prefixPragma + preparedYql;
         YdbContext ctx = statement.getConnection().getCtx();
@@ -154,6 +362,15 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         tracer.trace("--> scan query");
         tracer.query(yql);
 
+        if (parallelScanStreams > 1) {
+            List<ParallelScan.RangeQuery> ranges = ParallelScan.split(
+                    ctx, preparedYql, params, parallelScanStreams, isParallelScanOrdered
+            );
+            if (ranges != null) {
+                return updateCurrentResult(executeParallelScan(statement, query, ranges));
+            }
+        }
+
         final Session session = createNewTableSession(validator);
 
         if (!useStreamResultSet) {
@@ -164,7 +381,6 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
 
                 List<ResultSetReader> parts = new ArrayList<>();
 
-                ctx.traceQueryByFullScanDetector(query, yql);
                 validator.execute(QueryType.SCAN_QUERY + " >>\n" + yql, tracer,
                         () -> session.executeScanQuery(yql, params, settings).start(parts::add)
                 );
@@ -177,6 +393,11 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
             }
         }
 
+        ResumableScan resumable = isResumableScan ? ResumableScan.parse(ctx, preparedYql, params) : null;
+        if (resumable != null) {
+            return updateCurrentResult(executeResumableScan(statement, query, resumable, session, preparedYql, params));
+        }
+
         final YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, query) {
             @Override
             public void onClose(Status status, Throwable th) {
@@ -203,4 +424,122 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         validator.execute(msg, tracer, () -> reader.load(stream));
         return updateCurrentResult(reader);
     }
+
+    private YdbQueryResultReader executeResumableScan(YdbStatement statement, YdbQuery query, ResumableScan scan,
+            Session session, String preparedYql, Params params) throws SQLException {
+        YdbContext ctx = statement.getConnection().getCtx();
+        YdbValidator validator = statement.getValidator();
+        YdbTracer tracer = ctx.getTracer();
+        Duration scanQueryTimeout = ctx.getOperationProperties().getScanQueryTimeout();
+        String yql = prefixPragma + preparedYql;
+
+        final AtomicReference<Session> current = new AtomicReference<>(session);
+        final YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, query) {
+            @Override
+            public void onClose(Status status, Throwable th) {
+                current.get().close();
+                if (th != null) {
+                    tracer.trace("<-- " + th.getMessage());
+                }
+                if (status != null) {
+                    validator.addStatusIssues(status);
+                    tracer.trace("<-- " + status.toString());
+                }
+                tracer.close();
+
+                super.onClose(status, th);
+            }
+        };
+
+        ExecuteScanQuerySettings settings = ExecuteScanQuerySettings.newBuilder()
+                .withRequestTimeout(scanQueryTimeout)
+                .setGrpcFlowControl(reader)
+                .build();
+
+        YdbQueryResultReader.StreamResumer resumer = new YdbQueryResultReader.StreamResumer() {
+            @Override
+            public List<String> getKeyColumns() {
+                return scan.getKeyColumns();
+            }
+
+            @Override
+            public GrpcReadStream<ResultSetReader> resume(Value<?>[] lastKey) throws SQLException {
+                ParallelScan.RangeQuery next = lastKey != null ? scan.resumeAfter(lastKey)
+                        : new ParallelScan.RangeQuery(preparedYql, params);
+                if (next == null) {
+                    return null;
+                }
+
+                // the failed stream may be caused by the broken session, so the new stream uses the new session
+                current.getAndSet(createNewTableSession(validator)).close();
+                String resumeYql = prefixPragma + next.getYql();
+                tracer.trace("--> resume scan query");
+                tracer.query(resumeYql);
+                return current.get().executeScanQuery(resumeYql, next.getParams(), settings);
+            }
+
+            @Override
+            public long resumeDelayMillis(Status status, int attempt, long firstFailureAt) {
+                return ctx.getRetryPolicy().resumeDelayMillis(status.getCode(), attempt, firstFailureAt);
+            }
+        };
+
+        GrpcReadStream<ResultSetReader> stream = session.executeScanQuery(yql, params, settings);
+        validator.execute(QueryType.SCAN_QUERY + " >>\n" + yql, tracer, () -> reader.load(stream, resumer));
+        return reader;
+    }
+
+    private YdbQueryResult executeParallelScan(YdbStatement statement, YdbQuery query,
+            List<ParallelScan.RangeQuery> ranges) throws SQLException {
+        YdbContext ctx = statement.getConnection().getCtx();
+        YdbValidator validator = statement.getValidator();
+        YdbTracer tracer = ctx.getTracer();
+        Duration scanQueryTimeout = ctx.getOperationProperties().getScanQueryTimeout();
+
+        YdbQueryResultParallel result = new YdbQueryResultParallel(types, statement, query, ranges.size(),
+                isParallelScanOrdered, parallelScanStreams);
+
+        // every range is read by its own stream concurrently with others, so it needs its own session
+        List<Session> sessions = new ArrayList<>();
+        try {
+            for (int idx = 0; idx < ranges.size(); idx++) {
+                sessions.add(createNewTableSession(validator));
+            }
+        } catch (SQLException ex) {
+            sessions.forEach(Session::close);
+            tracer.close();
+            throw ex;
+        }
+
+        AtomicInteger activeRanges = new AtomicInteger(ranges.size());
+        StringBuilder msg = new StringBuilder(QueryType.SCAN_QUERY.toString()).append(" >>");
+        for (int idx = 0; idx < ranges.size(); idx++) {
+            String yql = prefixPragma + ranges.get(idx).getYql();
+            Params params = ranges.get(idx).getParams();
+            msg.append("\n").append(yql);
+            tracer.query(yql);
+
+            Session session = sessions.get(idx);
+            ExecuteScanQuerySettings settings = ExecuteScanQuerySettings.newBuilder()
+                    .withRequestTimeout(scanQueryTimeout)
+                    .setGrpcFlowControl(result.getFlowControl(idx))
+                    .build();
+
+            result.register(idx, () -> session.executeScanQuery(yql, params, settings), () -> {
+                session.close();
+                if (activeRanges.decrementAndGet() == 0) {
+                    tracer.close();
+                }
+            });
+        }
+
+        result.start();
+        validator.execute(msg.toString(), tracer, result::getFirstResult);
+
+        if (!useStreamResultSet) {
+            YdbResultSet rs = result.readAll();
+            return rs != null ? new YdbQueryResultStatic(query, rs) : new YdbQueryResultStatic(query);
+        }
+        return result;
+    }
 }
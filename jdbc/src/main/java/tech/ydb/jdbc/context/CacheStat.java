@@ -0,0 +1,118 @@
+package tech.ydb.jdbc.context;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+
+import tech.ydb.core.metrics.LongCounter;
+import tech.ydb.core.metrics.Meter;
+import tech.ydb.jdbc.common.FixedResultSetFactory;
+import tech.ydb.table.result.ResultSetReader;
+
+public class CacheStat {
+    private static final String METRIC_PREFIX = "ydb.jdbc.cache.";
+
+    private static final FixedResultSetFactory CACHE_RS_FACTORY = FixedResultSetFactory.newBuilder()
+            .addTextColumn("cache")
+            .addLongColumn("size")
+            .addLongColumn("hits")
+            .addLongColumn("misses")
+            .addLongColumn("evictions")
+            .addLongColumn("loads")
+            .addLongColumn("load_errors")
+            .addLongColumn("load_time_ms")
+            .build();
+
+    private static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0);
+
+    private final String name;
+    private final Cache<?, ?> cache;
+
+    private final LongCounter hitsCounter;
+    private final LongCounter missesCounter;
+    private final LongCounter evictionsCounter;
+    private final LongCounter loadTimeCounter;
+    private final AtomicReference<CacheStats> reported = new AtomicReference<>(EMPTY);
+
+    CacheStat(String name, Cache<?, ?> cache, Meter meter) {
+        this.name = name;
+        this.cache = cache;
+
+        if (meter != null) {
+            String prefix = METRIC_PREFIX + name;
+            this.hitsCounter = meter.createCounter(prefix + ".hits", "{request}", "Count of cache hits");
+            this.missesCounter = meter.createCounter(prefix + ".misses", "{request}", "Count of cache misses");
+            this.evictionsCounter = meter.createCounter(prefix + ".evictions", "{entry}", "Count of evictions");
+            this.loadTimeCounter = meter.createCounter(prefix + ".load.time", "ms", "Time of cache loadings");
+        } else {
+            this.hitsCounter = null;
+            this.missesCounter = null;
+            this.evictionsCounter = null;
+            this.loadTimeCounter = null;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getSize() {
+        return cache.size();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * Pushes the difference between the current cache stats and the last reported ones to the meter counters
+     */
+    void report() {
+        if (hitsCounter == null) {
+            return;
+        }
+
+        CacheStats last = reported.get();
+        CacheStats current = cache.stats();
+        if (current.equals(last) || !reported.compareAndSet(last, current)) {
+            return;
+        }
+
+        CacheStats delta = current.minus(last);
+        if (delta.hitCount() > 0) {
+            hitsCounter.add(delta.hitCount());
+        }
+        if (delta.missCount() > 0) {
+            missesCounter.add(delta.missCount());
+        }
+        if (delta.evictionCount() > 0) {
+            evictionsCounter.add(delta.evictionCount());
+        }
+        long loadTimeMs = TimeUnit.NANOSECONDS.toMillis(current.totalLoadTime())
+                - TimeUnit.NANOSECONDS.toMillis(last.totalLoadTime());
+        if (loadTimeMs > 0) {
+            loadTimeCounter.add(loadTimeMs);
+        }
+    }
+
+    public static ResultSetReader toResultSetReader(Collection<CacheStat> stats) {
+        FixedResultSetFactory.ResultSetBuilder builder = CACHE_RS_FACTORY.createResultSet();
+        for (CacheStat stat: stats) {
+            CacheStats cs = stat.getStats();
+            builder.newRow()
+                    .withTextValue("cache", stat.name)
+                    .withLongValue("size", stat.getSize())
+                    .withLongValue("hits", cs.hitCount())
+                    .withLongValue("misses", cs.missCount())
+                    .withLongValue("evictions", cs.evictionCount())
+                    .withLongValue("loads", cs.loadCount())
+                    .withLongValue("load_errors", cs.loadExceptionCount())
+                    .withLongValue("load_time_ms", TimeUnit.NANOSECONDS.toMillis(cs.totalLoadTime()))
+                    .build();
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,184 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import tech.ydb.table.description.KeyBound;
+import tech.ydb.table.description.KeyRange;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.OptionalValue;
+import tech.ydb.table.values.TupleValue;
+import tech.ydb.table.values.Value;
+
+/**
+ * Splitter of the scan query over a single table into several queries over disjoint ranges of the primary key. The
+ * ranges are built from the partition boundaries of the table, so every range query reads its own partitions
+ */
+class ParallelScan {
+    private static final Pattern SIMPLE_SELECT = Pattern.compile(""
+            + "^(?<declares>(\\s*DECLARE\\s+[^;]+;)*)"
+            + "\\s*SELECT\\s+(?<columns>.+?)\\s+FROM\\s+(?<table>`[^`]+`|[\\w/.-]+)"
+            + "(\\s+WHERE\\s+(?<where>.+?))?\\s*;?\\s*$",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    // Queries with aggregations, sorting, limits or joins cannot be executed by parts
+    private static final Pattern UNSUPPORTED = Pattern.compile(""
+            + "\\b(JOIN|GROUP|ORDER|LIMIT|OFFSET|UNION|DISTINCT|FLATTEN|WINDOW|SAMPLE|TABLESAMPLE|VIEW)\\b"
+            + "|;|--|/\\*",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final String FROM_PRM = "$__scan_from";
+    private static final String TO_PRM = "$__scan_to";
+
+    static class RangeQuery {
+        private final String yql;
+        private final Params params;
+
+        RangeQuery(String yql, Params params) {
+            this.yql = yql;
+            this.params = params;
+        }
+
+        String getYql() {
+            return yql;
+        }
+
+        Params getParams() {
+            return params;
+        }
+    }
+
+    private ParallelScan() { }
+
+    /**
+     * Splits the scan query by the partitions of the table
+     *
+     * @param ctx context
+     * @param preparedYql scan query without SCAN keyword
+     * @param params parameters of the query
+     * @param maxRanges max count of ranges
+     * @param isOrdered sort every range by primary key, so the concatenation of ranges is sorted too
+     * @return list of range queries or null if the query cannot be split
+     * @throws SQLException if the current thread was interrupted while the table was described
+     */
+    static List<RangeQuery> split(YdbContext ctx, String preparedYql, Params params, int maxRanges,
+            boolean isOrdered) throws SQLException {
+        Matcher matcher = SIMPLE_SELECT.matcher(preparedYql);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        String columns = matcher.group("columns");
+        String table = matcher.group("table");
+        String where = matcher.group("where");
+        if (columns.contains("(") || UNSUPPORTED.matcher(columns).find()
+                || (where != null && UNSUPPORTED.matcher(where).find())) {
+            return null;
+        }
+
+        String tableName = table.startsWith("`") ? table.substring(1, table.length() - 1) : table;
+        String tablePath = tableName.startsWith("/") ? tableName : YdbContext.joined(ctx.getPrefixPath(), tableName);
+
+        TableDescription description = ctx.describeTableWithKeyBounds(tablePath);
+        if (description == null || description.getPrimaryKeys().isEmpty()) {
+            return null;
+        }
+
+        List<Value<?>> bounds = readFirstKeyBounds(description.getKeyRanges());
+        if (bounds.isEmpty()) {
+            return null;
+        }
+
+        int count = Math.min(maxRanges, bounds.size() + 1);
+        List<Value<?>> splits = new ArrayList<>();
+        for (int idx = 1; idx < count; idx++) {
+            splits.add(bounds.get(idx * (bounds.size() + 1) / count - 1));
+        }
+
+        String key = "`" + description.getPrimaryKeys().get(0) + "`";
+        StringBuilder orderBy = new StringBuilder();
+        if (isOrdered) {
+            for (String pk: description.getPrimaryKeys()) {
+                orderBy.append(orderBy.length() == 0 ? " ORDER BY " : ", ").append('`').append(pk).append('`');
+            }
+        }
+
+        List<RangeQuery> ranges = new ArrayList<>();
+        for (int idx = 0; idx <= splits.size(); idx++) {
+            Value<?> from = idx > 0 ? splits.get(idx - 1) : null;
+            Value<?> to = idx < splits.size() ? splits.get(idx) : null;
+
+            StringBuilder yql = new StringBuilder(matcher.group("declares"));
+            Params rangeParams = Params.create();
+            for (Map.Entry<String, Value<?>> prm: params.values().entrySet()) {
+                rangeParams.put(prm.getKey(), prm.getValue());
+            }
+
+            String condition;
+            if (from == null) { // first range contains NULL keys too
+                yql.append("\nDECLARE ").append(TO_PRM).append(" AS ").append(to.getType()).append(";");
+                rangeParams.put(TO_PRM, to);
+                condition = "(" + key + " IS NULL OR " + key + " < " + TO_PRM + ")";
+            } else if (to == null) {
+                yql.append("\nDECLARE ").append(FROM_PRM).append(" AS ").append(from.getType()).append(";");
+                rangeParams.put(FROM_PRM, from);
+                condition = key + " >= " + FROM_PRM;
+            } else {
+                yql.append("\nDECLARE ").append(FROM_PRM).append(" AS ").append(from.getType()).append(";");
+                yql.append("\nDECLARE ").append(TO_PRM).append(" AS ").append(to.getType()).append(";");
+                rangeParams.put(FROM_PRM, from);
+                rangeParams.put(TO_PRM, to);
+                condition = key + " >= " + FROM_PRM + " AND " + key + " < " + TO_PRM;
+            }
+
+            yql.append("\nSELECT ").append(columns).append(" FROM ").append(table).append(" WHERE ");
+            if (where != null) {
+                yql.append("(").append(where).append(") AND ");
+            }
+            yql.append(condition).append(orderBy).append(";");
+
+            ranges.add(new RangeQuery(yql.toString(), rangeParams));
+        }
+
+        return ranges;
+    }
+
+    /**
+     * Returns sorted unique values of the first key column of the partition boundaries. Boundaries with NULL values
+     * are skipped
+     */
+    private static List<Value<?>> readFirstKeyBounds(List<KeyRange> ranges) {
+        List<Value<?>> bounds = new ArrayList<>();
+        for (KeyRange range: ranges) {
+            Optional<KeyBound> from = range.getFrom();
+            if (!from.isPresent() || !(from.get().getValue() instanceof TupleValue)) {
+                continue;
+            }
+
+            TupleValue tuple = (TupleValue) from.get().getValue();
+            if (tuple.size() == 0) {
+                continue;
+            }
+
+            Value<?> first = tuple.get(0);
+            if (first instanceof OptionalValue) {
+                OptionalValue optional = (OptionalValue) first;
+                if (!optional.isPresent()) {
+                    continue;
+                }
+                first = optional.get();
+            }
+
+            if (bounds.isEmpty() || !bounds.get(bounds.size() - 1).equals(first)) {
+                bounds.add(first);
+            }
+        }
+        return bounds;
+    }
+}
@@ -0,0 +1,135 @@
+package tech.ydb.jdbc.context;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tech.ydb.common.transaction.TxMode;
+import tech.ydb.core.Issue;
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.query.QueryStream;
+import tech.ydb.query.result.QueryInfo;
+import tech.ydb.query.result.QueryResultPart;
+import tech.ydb.query.settings.ExecuteQuerySettings;
+import tech.ydb.query.settings.QueryExecMode;
+import tech.ydb.query.tools.SessionRetryContext;
+import tech.ydb.table.query.Params;
+
+/**
+ * Bounded queue of queries waiting for explain. Queries are explained one by one by the transport scheduler, so
+ * the full scan detector doesn't add explain latency to the traced queries
+ */
+class QueryExplainQueue {
+    private static final Logger LOGGER = Logger.getLogger(QueryExplainQueue.class.getName());
+
+    private static final QueryStream.PartsHandler NO_PARTS = new QueryStream.PartsHandler() {
+        @Override
+        public void onIssues(Issue[] issues) {
+            // nothing
+        }
+
+        @Override
+        public void onNextPart(QueryResultPart part) {
+            // nothing
+        }
+    };
+
+    private final YdbContext ctx;
+    private final SessionRetryContext retryCtx;
+    private final int capacity;
+    private final Consumer<QueryStat> onExplained;
+
+    private final Queue<QueryStat> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicBoolean isExplaining = new AtomicBoolean(false);
+
+    QueryExplainQueue(YdbContext ctx, int capacity, Consumer<QueryStat> onExplained) {
+        this.ctx = ctx;
+        this.retryCtx = SessionRetryContext.create(ctx.getQueryClient()).idempotent(true).build();
+        this.capacity = capacity;
+        this.onExplained = onExplained;
+    }
+
+    /**
+     * Adds the query to the explain queue
+     *
+     * @param stat query stat waiting for explain
+     * @return false if the queue is full and the query was not added
+     */
+    boolean offer(QueryStat stat) {
+        if (queueSize.incrementAndGet() > capacity) {
+            queueSize.decrementAndGet();
+            return false;
+        }
+
+        queue.offer(stat);
+        scheduleNext();
+        return true;
+    }
+
+    private void scheduleNext() {
+        if (queue.isEmpty() || !isExplaining.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            ctx.getGrpcTransport().getScheduler().execute(this::explainNext);
+        } catch (RejectedExecutionException ex) {
+            LOGGER.log(Level.FINE, "Explain queue is stopped");
+            QueryStat stat = queue.poll();
+            while (stat != null) {
+                queueSize.decrementAndGet();
+                stat.setError(Status.of(StatusCode.CLIENT_CANCELLED, ex));
+                stat = queue.poll();
+            }
+            isExplaining.set(false);
+        }
+    }
+
+    private void explainNext() {
+        QueryStat stat = queue.poll();
+        if (stat == null) {
+            isExplaining.set(false);
+            scheduleNext();
+            return;
+        }
+
+        queueSize.decrementAndGet();
+        explain(stat).whenComplete((res, th) -> {
+            if (th != null) {
+                stat.setError(Status.of(StatusCode.CLIENT_INTERNAL_ERROR, th));
+            } else if (!res.isSuccess()) {
+                stat.setError(res.getStatus());
+            } else if (!res.getValue().hasStats()) {
+                stat.setError(Status.of(StatusCode.CLIENT_INTERNAL_ERROR, Issue.of("No explain data",
+                        Issue.Severity.ERROR)));
+            } else {
+                stat.setExplain(res.getValue().getStats().getQueryAst(), res.getValue().getStats().getQueryPlan());
+            }
+            onExplained.accept(stat);
+
+            isExplaining.set(false);
+            scheduleNext();
+        });
+    }
+
+    private CompletableFuture<Result<QueryInfo>> explain(QueryStat stat) {
+        String yql = ctx.getPrefixPragma() + stat.getPreparedYQL();
+        ExecuteQuerySettings settings = ctx.withRequestTimeout(ExecuteQuerySettings.newBuilder())
+                .withExecMode(QueryExecMode.EXPLAIN)
+                .build();
+
+        return retryCtx.supplyResult(session -> session
+                .createQuery(yql, TxMode.NONE, Params.empty(), settings)
+                .execute(NO_PARTS)
+        );
+    }
+}
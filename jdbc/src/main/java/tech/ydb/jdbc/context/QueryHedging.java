@@ -0,0 +1,60 @@
+package tech.ydb.jdbc.context;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Delay of hedged read-only queries. The delay is the maximum of the configured value and the given percentile of
+ * latency of recent hedged queries. Latency is collected in the histogram which is replaced by the new one after
+ * {@link #MAX_SAMPLES} records, so the percentile follows the recent state of the cluster
+ */
+class QueryHedging {
+    private static final long MIN_SAMPLES = 100;
+    private static final long MAX_SAMPLES = 10000;
+
+    private final long delayNanos;
+    private final int percentile;
+    private final AtomicReference<LatencyHistogram> latency = new AtomicReference<>(new LatencyHistogram());
+    private volatile LatencyHistogram previous = null;
+
+    QueryHedging(Duration delay, int percentile) {
+        this.delayNanos = delay.toNanos();
+        this.percentile = Math.min(100, percentile);
+    }
+
+    static QueryHedging create(Duration delay, int percentile) {
+        if (delay.isNegative() || (delay.isZero() && percentile <= 0)) {
+            return null;
+        }
+        return new QueryHedging(delay, percentile);
+    }
+
+    /**
+     * @return delay before the duplicate of the query in nanoseconds or -1 if the delay is not known yet
+     */
+    long getDelayNanos() {
+        long adaptive = 0;
+        if (percentile > 0) {
+            LatencyHistogram histogram = latency.get();
+            LatencyHistogram prev = previous;
+            if (histogram.getCount() < MIN_SAMPLES && prev != null) {
+                histogram = prev;
+            }
+            if (histogram.getCount() >= MIN_SAMPLES) {
+                adaptive = TimeUnit.MICROSECONDS.toNanos(histogram.getPercentile(percentile));
+            }
+        }
+
+        long delay = Math.max(delayNanos, adaptive);
+        return delay > 0 ? delay : -1;
+    }
+
+    void record(long nanos) {
+        LatencyHistogram histogram = latency.get();
+        histogram.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+        if (histogram.getCount() >= MAX_SAMPLES && latency.compareAndSet(histogram, new LatencyHistogram())) {
+            previous = histogram;
+        }
+    }
+}
@@ -4,8 +4,19 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -13,7 +24,9 @@ import java.util.logging.Logger;
 import tech.ydb.common.transaction.TxMode;
 import tech.ydb.common.transaction.YdbTransaction;
 import tech.ydb.core.Issue;
+import tech.ydb.core.Result;
 import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbQueryResult;
 import tech.ydb.jdbc.YdbStatement;
@@ -23,8 +36,11 @@ import tech.ydb.jdbc.impl.YdbQueryResultExplain;
 import tech.ydb.jdbc.impl.YdbQueryResultReader;
 import tech.ydb.jdbc.impl.YdbQueryResultStatic;
 import tech.ydb.jdbc.impl.YdbResultSetMemory;
+import tech.ydb.jdbc.query.QueryCmd;
+import tech.ydb.jdbc.query.QueryStatement;
 import tech.ydb.jdbc.query.QueryType;
 import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.YdbQueryParser;
 import tech.ydb.jdbc.settings.YdbOperationProperties;
 import tech.ydb.jdbc.spi.YdbQueryExtentionService;
 import tech.ydb.query.QueryClient;
@@ -39,6 +55,8 @@ import tech.ydb.query.settings.QueryExecMode;
 import tech.ydb.query.settings.RollbackTransactionSettings;
 import tech.ydb.query.tools.QueryReader;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.Value;
 
 /**
  *
@@ -48,9 +66,17 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     private static final Logger LOGGER = Logger.getLogger(QueryServiceExecutor.class.getName());
 
     private final Duration sessionTimeout;
-    private final QueryClient queryClient;
     private final boolean useStreamResultSet;
     private final YdbQueryExtentionService querySpi;
+    private final boolean useStickySession;
+    private final long stickySessionMaxIdleNanos;
+    private final boolean deferDmlToCommit;
+    private final int maxDeferredDml;
+    private final TxMode autoCommitReadTxMode;
+    private final boolean useImplicitAutoCommitTx;
+    private final YdbResultCache resultCache;
+    private final QueryHedging hedging;
+    private final ScheduledExecutorService scheduler;
 
     private int transactionLevel;
     private boolean isReadOnly;
@@ -58,15 +84,25 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     private TxMode txMode;
 
     private final AtomicReference<QueryTransaction> tx = new AtomicReference<>();
+    private final AtomicReference<StickySession> stickySession = new AtomicReference<>();
+    private final List<DeferredDml> deferredDml = new ArrayList<>();
     private volatile boolean isClosed;
 
     public QueryServiceExecutor(YdbContext ctx) throws SQLException {
         super(ctx);
         YdbOperationProperties options = ctx.getOperationProperties();
         this.sessionTimeout = options.getSessionTimeout();
-        this.queryClient = ctx.getQueryClient();
         this.useStreamResultSet = options.getUseStreamResultSets();
         this.querySpi = ctx.getQuerySpi();
+        this.useStickySession = options.isUseStickyQuerySession();
+        this.stickySessionMaxIdleNanos = options.getStickySessionMaxIdleTime().toNanos();
+        this.deferDmlToCommit = options.isDeferDmlToCommit();
+        this.maxDeferredDml = Math.max(1, options.getMaxDeferredDmlStatements());
+        this.autoCommitReadTxMode = validateReadTxMode(options.getAutoCommitReadTxMode());
+        this.useImplicitAutoCommitTx = options.isUseImplicitAutoCommitTx();
+        this.resultCache = ctx.getResultCache();
+        this.hedging = ctx.getQueryHedging();
+        this.scheduler = ctx.getGrpcTransport().getScheduler();
 
         this.transactionLevel = options.getTransactionLevel();
         this.isAutoCommit = options.isAutoCommit();
@@ -76,38 +112,104 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     }
 
     protected QuerySession createNewQuerySession(YdbValidator validator) throws SQLException {
-        return validator.call("Get query session", null, () -> queryClient.createSession(sessionTimeout));
+        long startedAt = System.nanoTime();
+        try {
+            QueryClient client = clients.selectQueryClient();
+            return validator.call("Get query session", null, () -> client.createSession(sessionTimeout));
+        } finally {
+            poolController.recordAcquire(System.nanoTime() - startedAt);
+        }
     }
 
     private QueryTransaction getOrCreateTransaction(YdbValidator validator, boolean lazyTx) throws SQLException {
+        return getOrCreateTransaction(validator, lazyTx, txMode);
+    }
+
+    private QueryTransaction getOrCreateTransaction(YdbValidator validator, boolean lazyTx, TxMode mode)
+            throws SQLException {
         QueryTransaction nextTx = tx.get();
         while (nextTx == null) {
             querySpi.onNewTransaction();
-            QuerySession session = createNewQuerySession(validator);
+            QuerySession session = acquireSession(validator);
 
             if (lazyTx) {
-                nextTx = session.createNewTransaction(txMode);
+                nextTx = session.createNewTransaction(mode);
             } else {
-                nextTx = validator.call("Begin transaction", null, () -> session.beginTransaction(txMode));
+                try {
+                    nextTx = validator.call("Begin transaction", null, () -> session.beginTransaction(mode));
+                } catch (SQLException | RuntimeException ex) {
+                    session.close();
+                    throw ex;
+                }
             }
 
             if (tx.compareAndSet(null, nextTx)) {
                 return nextTx;
             }
-            session.close();
+            releaseSession(session, true);
             nextTx = tx.get();
         }
         return nextTx;
     }
 
+    private QuerySession acquireSession(YdbValidator validator) throws SQLException {
+        StickySession sticky = stickySession.getAndSet(null);
+        if (sticky != null) {
+            // idle sessions may be closed by server, so too old sticky sessions are returned to the pool
+            if (System.nanoTime() - sticky.releasedAt < stickySessionMaxIdleNanos) {
+                return sticky.session;
+            }
+            sticky.session.close();
+        }
+        return createNewQuerySession(validator);
+    }
+
+    /**
+     * Returns the session to the pool or keeps it as sticky session of the connection. Sessions after failed
+     * operations are always returned to the pool, so BAD_SESSION retry will use a new one
+     *
+     * @param session session to release
+     * @param isValid true if the last operation on the session was successful
+     */
+    private void releaseSession(QuerySession session, boolean isValid) {
+        if (!useStickySession || !isValid || isClosed) {
+            session.close();
+            return;
+        }
+
+        StickySession old = stickySession.getAndSet(new StickySession(session));
+        if (old != null) {
+            old.session.close();
+        }
+        if (isClosed) {
+            closeStickySession();
+        }
+    }
+
+    private void releaseTransaction(QueryTransaction localTx, boolean isValid) {
+        if (tx.compareAndSet(localTx, null)) {
+            releaseSession(localTx.getSession(), isValid);
+        }
+    }
+
+    private void closeStickySession() {
+        StickySession old = stickySession.getAndSet(null);
+        if (old != null) {
+            old.session.close();
+        }
+    }
+
     @Override
     public void close() throws SQLException {
         clearState();
         isClosed = true;
+        deferredDml.clear();
+        onTransactionRollback();
         QueryTransaction old = tx.getAndSet(null);
         if (old != null) {
             old.getSession().close();
         }
+        closeStickySession();
     }
 
     @Override
@@ -119,7 +221,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         }
 
         QueryTransaction localTx = tx.get();
-        if (localTx != null && localTx.isActive()) {
+        if (localTx != null && isActive(localTx)) {
             throw new SQLFeatureNotSupportedException(YdbConst.CHANGE_ISOLATION_INSIDE_TX);
         }
 
@@ -140,7 +242,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         }
 
         QueryTransaction localTx = tx.get();
-        if (localTx != null && localTx.isActive()) {
+        if (localTx != null && isActive(localTx)) {
             throw new SQLFeatureNotSupportedException(YdbConst.READONLY_INSIDE_TRANSACTION);
         }
 
@@ -157,7 +259,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         }
 
         QueryTransaction localTx = tx.get();
-        if (localTx != null && localTx.isActive()) {
+        if (localTx != null && isActive(localTx)) {
             throw new SQLFeatureNotSupportedException(YdbConst.CHANGE_ISOLATION_INSIDE_TX);
         }
 
@@ -179,7 +281,11 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     public boolean isInsideTransaction() throws SQLException {
         ensureOpened();
         QueryTransaction localTx = tx.get();
-        return localTx != null && localTx.isActive();
+        return localTx != null && isActive(localTx);
+    }
+
+    private boolean isActive(QueryTransaction localTx) {
+        return localTx.isActive() || !deferredDml.isEmpty();
     }
 
     @Override
@@ -205,16 +311,27 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         ensureOpened();
 
         QueryTransaction localTx = tx.get();
-        if (localTx == null || !localTx.isActive()) {
+        if (localTx == null || !isActive(localTx)) {
+            // changes of the failed transaction were rolled back
+            onTransactionRollback();
             return;
         }
 
+        List<DeferredDml> dml = takeDeferredDml();
+
+        boolean isSuccess = false;
         try {
-            commitImpl(ctx, validator, localTx);
-        } finally {
-            if (tx.compareAndSet(localTx, null)) {
-                localTx.getSession().close();
+            if (!dml.isEmpty()) {
+                // the last statements are executed with commit flag, so commit doesn't need a separate request
+                validator.clearWarnings();
+                executeDeferredDml(ctx, validator, localTx, dml, true);
+            } else {
+                commitImpl(ctx, validator, localTx);
             }
+            isSuccess = true;
+        } finally {
+            releaseTransaction(localTx, isSuccess);
+            onTransactionCommit(ctx);
             ctx.getTracer().close();
         }
     }
@@ -233,6 +350,8 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     public void rollback(YdbContext ctx, YdbValidator validator) throws SQLException {
         ensureOpened();
 
+        deferredDml.clear();
+        onTransactionRollback();
         QueryTransaction localTx = tx.get();
         if (localTx == null || !localTx.isActive()) {
             return;
@@ -245,19 +364,19 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         RollbackTransactionSettings settings = ctx.withRequestTimeout(RollbackTransactionSettings.newBuilder())
             .build();
 
+        boolean isSuccess = false;
         try {
             validator.clearWarnings();
             validator.execute("Rollback TxId: " + localTx.getId(), tracer, () -> localTx.rollback(settings));
+            isSuccess = true;
         } finally {
-            if (tx.compareAndSet(localTx, null)) {
-                localTx.getSession().close();
-            }
+            releaseTransaction(localTx, isSuccess);
             tracer.close();
         }
     }
 
     @Override
-    public YdbResultSetMemory[] executeInMemoryQuery(YdbStatement statement, YdbQuery query, String preparedYql,
+    protected YdbResultSetMemory[] executeInMemoryQueryImpl(YdbStatement statement, YdbQuery query, String preparedYql,
             Params params) throws SQLException {
         ensureOpened();
 
@@ -271,18 +390,23 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             settings = settings.withRequestTimeout(timeout, TimeUnit.SECONDS);
         }
 
-        QueryTransaction localTx = getOrCreateTransaction(validator, true);
+        flushDeferredDml(statement.getConnection().getCtx(), validator);
+
+        final HedgedQuery hedged = isHedgeable(query) ? new HedgedQuery(yql, queryTxMode(query), params) : null;
+        QueryTransaction localTx = getOrCreateTransaction(validator, true, queryTxMode(query));
         YdbQueryExtentionService.QueryCall spi = querySpi.newDataQuery(statement, query, yql);
         settings = spi.prepareQuerySettings(settings);
 
+        boolean isSuccess = false;
         try {
             tracer.trace("--> data query");
             tracer.query(yql);
             ExecuteQuerySettings requestSettings = settings.build();
 
-            QueryReader result = validator.call(QueryType.DATA_QUERY + " >>\n" + yql, tracer,
-                    () -> QueryReader.readFrom(localTx.createQuery(yql, isAutoCommit, params, requestSettings))
-            );
+            QueryReader result = validator.call(QueryType.DATA_QUERY + " >>\n" + yql, tracer, () -> {
+                QueryStream stream = localTx.createQuery(yql, isAutoCommit, params, requestSettings);
+                return hedged != null ? hedged.start(stream, requestSettings) : QueryReader.readFrom(stream);
+            });
             validator.addStatusIssues(result.getIssueList());
 
             YdbResultSetMemory[] readers = new YdbResultSetMemory[result.getResultSetCount()];
@@ -295,6 +419,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             }
 
             spi.onQueryResult(Status.SUCCESS, null);
+            isSuccess = true;
             return readers;
         } catch (SQLException | RuntimeException ex) {
             if (ex instanceof YdbStatusable) {
@@ -305,8 +430,15 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             throw ex;
         } finally {
             if (!localTx.isActive()) {
-                if (tx.compareAndSet(localTx, null)) {
-                    localTx.getSession().close();
+                if (hedged != null && hedged.isFirstRunning()) {
+                    // the session of the cancelled first attempt is busy until the end of its stream
+                    if (tx.compareAndSet(localTx, null)) {
+                        QuerySession session = localTx.getSession();
+                        hedged.whenFirstCompleted(session::close);
+                    }
+                } else {
+                    // the session of the cancelled loser of hedged query is not reused
+                    releaseTransaction(localTx, isSuccess && (hedged == null || hedged.isFirstWinner()));
                 }
             }
 
@@ -319,12 +451,23 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     }
 
     @Override
-    public YdbQueryResult executeDataQuery(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
-            throws SQLException {
+    protected YdbQueryResult executeDataQueryImpl(YdbStatement statement, YdbQuery query, String preparedYql,
+            Params params) throws SQLException {
         ensureOpened();
 
+        if (canDeferDml(query)) {
+            deferDml(statement, query, preparedYql, params);
+            return updateCurrentResult(new YdbQueryResultStatic(query));
+        }
+
+        YdbResultCache.Request cacheRequest = isResultCacheable(query) ? resultCache.newRequest(preparedYql, params)
+                : null;
+        if (cacheRequest != null) {
+            return updateCurrentResult(executeCachedQuery(statement, query, cacheRequest, preparedYql, params));
+        }
+
         if (!useStreamResultSet) {
-            YdbResultSetMemory[] readers = executeInMemoryQuery(statement, query, preparedYql, params);
+            YdbResultSetMemory[] readers = executeInMemoryQueryImpl(statement, query, preparedYql, params);
             return updateCurrentResult(new YdbQueryResultStatic(query, readers));
         }
 
@@ -337,7 +480,9 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             settings = settings.withRequestTimeout(timeout, TimeUnit.SECONDS);
         }
 
-        QueryTransaction localTx = getOrCreateTransaction(validator, true);
+        flushDeferredDml(statement.getConnection().getCtx(), validator);
+
+        QueryTransaction localTx = getOrCreateTransaction(validator, true, queryTxMode(query));
         YdbQueryExtentionService.QueryCall spi = querySpi.newDataQuery(statement, query, yql);
         settings = spi.prepareQuerySettings(settings);
 
@@ -376,8 +521,8 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
                     validator.addStatusIssues(status);
                 }
 
-                if (!localTx.isActive() && tx.compareAndSet(localTx, null)) {
-                    localTx.getSession().close();
+                if (!localTx.isActive()) {
+                    releaseTransaction(localTx, th == null && status != null && status.isSuccess());
                 }
 
                 super.onClose(status, th);
@@ -390,6 +535,228 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         return updateCurrentResult(reader);
     }
 
+    /**
+     * Only results of autocommit queries in the stale or online read-only modes may be cached, these modes don't
+     * guarantee that the query sees the latest committed data anyway
+     */
+    private boolean isResultCacheable(YdbQuery query) throws SQLException {
+        if (resultCache == null || !isAutoCommit || isInsideTransaction() || !query.isReadOnly()) {
+            return false;
+        }
+        TxMode mode = queryTxMode(query);
+        return mode == TxMode.STALE_RO || mode == TxMode.ONLINE_RO;
+    }
+
+    private boolean isHedgeable(YdbQuery query) throws SQLException {
+        return hedging != null && isAutoCommit && !isInsideTransaction() && deferredDml.isEmpty()
+                && query.isReadOnly();
+    }
+
+    private YdbQueryResult executeCachedQuery(YdbStatement statement, YdbQuery query, YdbResultCache.Request request,
+            String preparedYql, Params params) throws SQLException {
+        ResultSetReader[] cached = request.get();
+        if (cached != null) {
+            YdbResultSetMemory[] readers = new YdbResultSetMemory[cached.length];
+            for (int idx = 0; idx < cached.length; idx++) {
+                readers[idx] = new YdbResultSetMemory(types, statement, cached[idx]);
+            }
+            return new YdbQueryResultStatic(query, readers);
+        }
+
+        YdbResultSetMemory[] readers = executeInMemoryQueryImpl(statement, query, preparedYql, params);
+        ResultSetReader[] results = new ResultSetReader[readers.length];
+        for (int idx = 0; idx < readers.length; idx++) {
+            results[idx] = readers[idx].getResultSets()[0];
+        }
+        request.put(results);
+        return new YdbQueryResultStatic(query, readers);
+    }
+
+    /**
+     * Read-only autocommit queries may be executed in the read-only transaction mode, it doesn't need locks and
+     * can't be aborted by concurrent writes. Single statement autocommit queries may be executed in the implicit
+     * transaction, which has the same guarantees for one statement but doesn't need transaction control
+     */
+    private TxMode queryTxMode(YdbQuery query) {
+        if (!isAutoCommit || isReadOnly) {
+            return txMode;
+        }
+
+        if (autoCommitReadTxMode != null && query.isReadOnly()) {
+            return autoCommitReadTxMode;
+        }
+
+        if (useImplicitAutoCommitTx && isSingleStatement(query)) {
+            return TxMode.NONE;
+        }
+
+        return txMode;
+    }
+
+    private static boolean isSingleStatement(YdbQuery query) {
+        int count = 0;
+        for (QueryStatement st: query.getStatements()) {
+            if (st.getType() == QueryType.DECLARE) {
+                continue;
+            }
+            if (st.getCmd() != QueryCmd.SELECT && st.getCmd() != QueryCmd.DML) {
+                return false;
+            }
+            count++;
+        }
+        return count == 1;
+    }
+
+    /**
+     * Checks if the query can be deferred until the next read or commit. Only DML statements without results can be
+     * deferred, because they don't return anything to the client before commit
+     *
+     * @param query query to check
+     * @return true if execution of the query may be deferred
+     */
+    protected boolean canDeferDml(YdbQuery query) {
+        if (!deferDmlToCommit || isAutoCommit || query.getStatements().isEmpty()) {
+            return false;
+        }
+
+        for (QueryStatement st: query.getStatements()) {
+            if (!st.hasUpdateCount() || st.hasResults() || st.hasUpdateWithGenerated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void deferDml(YdbStatement statement, YdbQuery query, String yql, Params params) throws SQLException {
+        YdbContext ctx = statement.getConnection().getCtx();
+        YdbValidator validator = statement.getValidator();
+
+        // statements of the merged query don't see changes of each other, so the statement which reads tables
+        // starts a new merged query after the previous changes
+        if (deferredDml.size() >= maxDeferredDml || (!deferredDml.isEmpty() && !query.isBlindWrite())) {
+            flushDeferredDml(ctx, validator);
+        }
+        getOrCreateTransaction(validator, true);
+
+        YdbQueryExtentionService.QueryCall spi = querySpi.newDataQuery(statement, query, prefixPragma + yql);
+        deferredDml.add(new DeferredDml(yql, params, statement.getQueryTimeout(), spi));
+        ctx.getTracer().trace("--> deferred data query");
+    }
+
+    private List<DeferredDml> takeDeferredDml() {
+        if (deferredDml.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<DeferredDml> list = new ArrayList<>(deferredDml);
+        deferredDml.clear();
+        return list;
+    }
+
+    @Override
+    protected void flushDeferredWrites(YdbStatement statement) throws SQLException {
+        flushDeferredDml(statement.getConnection().getCtx(), statement.getValidator());
+    }
+
+    private void flushDeferredDml(YdbContext ctx, YdbValidator validator) throws SQLException {
+        List<DeferredDml> dml = takeDeferredDml();
+        if (dml.isEmpty()) {
+            return;
+        }
+
+        QueryTransaction localTx = getOrCreateTransaction(validator, true);
+        boolean isSuccess = false;
+        try {
+            executeDeferredDml(ctx, validator, localTx, dml, false);
+            isSuccess = true;
+        } finally {
+            if (!localTx.isActive()) {
+                releaseTransaction(localTx, isSuccess);
+                ctx.getTracer().close();
+            }
+        }
+    }
+
+    /**
+     * Executes deferred statements as one multi-statement query. Parameters and named expressions of every statement
+     * get its own prefix, so the statements can't conflict with each other
+     */
+    private void executeDeferredDml(YdbContext ctx, YdbValidator validator, QueryTransaction localTx,
+            List<DeferredDml> dml, boolean commitTx) throws SQLException {
+        String yql;
+        Params params;
+        if (dml.size() == 1) {
+            yql = prefixPragma + dml.get(0).yql;
+            params = dml.get(0).params;
+        } else {
+            StringBuilder merged = new StringBuilder(prefixPragma);
+            params = Params.create();
+            for (int idx = 0; idx < dml.size(); idx++) {
+                String prefix = "d" + idx + "_";
+                DeferredDml st = dml.get(idx);
+
+                String stYql = YdbQueryParser.addNamesPrefix(st.yql, prefix).trim();
+                while (stYql.endsWith(";")) {
+                    stYql = stYql.substring(0, stYql.length() - 1).trim();
+                }
+                merged.append(stYql).append("\n;\n");
+
+                for (Map.Entry<String, Value<?>> prm: st.params.values().entrySet()) {
+                    params.put("$" + prefix + prm.getKey().substring(1), prm.getValue());
+                }
+            }
+            yql = merged.toString();
+        }
+
+        YdbTracer tracer = ctx.getTracer();
+        tracer.trace(commitTx ? "--> data query with commit" : "--> data query");
+        tracer.query(yql);
+
+        // merged query executes all statements, so it gets the sum of their timeouts
+        int timeout = 0;
+        for (DeferredDml st: dml) {
+            if (st.timeout <= 0) {
+                timeout = 0;
+                break;
+            }
+            timeout += st.timeout;
+        }
+        ExecuteQuerySettings.Builder builder = ExecuteQuerySettings.newBuilder();
+        if (timeout > 0) {
+            builder = builder.withRequestTimeout(timeout, TimeUnit.SECONDS);
+        }
+        for (DeferredDml st: dml) {
+            builder = st.spi.prepareQuerySettings(builder);
+        }
+        ExecuteQuerySettings settings = builder.build();
+
+        Status status = Status.SUCCESS;
+        Throwable th = null;
+        try {
+            QueryReader result = validator.call(QueryType.DATA_QUERY + " >>\n" + yql, tracer,
+                    () -> QueryReader.readFrom(localTx.createQuery(yql, commitTx, params, settings))
+            );
+            validator.addStatusIssues(result.getIssueList());
+
+            if (result.getQueryInfo().hasStats()) {
+                for (DeferredDml st: dml) {
+                    st.spi.onQueryStats(result.getQueryInfo().getStats());
+                }
+            }
+        } catch (SQLException | RuntimeException ex) {
+            if (ex instanceof YdbStatusable) {
+                status = ((YdbStatusable) ex).getStatus();
+            } else {
+                status = null;
+                th = ex;
+            }
+            throw ex;
+        } finally {
+            for (DeferredDml st: dml) {
+                st.spi.onQueryResult(status, th);
+            }
+        }
+    }
+
     @Override
     public YdbQueryResult executeSchemeQuery(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
             throws SQLException {
@@ -398,6 +765,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         String yql = prefixPragma + preparedYql;
         YdbContext ctx = statement.getConnection().getCtx();
         YdbValidator validator = statement.getValidator();
+        flushDeferredDml(ctx, validator);
 
         // Scheme query does not affect transactions or result sets
         YdbTracer tracer = ctx.getTracer();
@@ -455,6 +823,143 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         }
     }
 
+    private static class DeferredDml {
+        private final String yql;
+        private final Params params;
+        private final int timeout;
+        private final YdbQueryExtentionService.QueryCall spi;
+
+        DeferredDml(String yql, Params params, int timeout, YdbQueryExtentionService.QueryCall spi) {
+            this.yql = yql;
+            this.params = params;
+            this.timeout = timeout;
+            this.spi = spi;
+        }
+    }
+
+    /**
+     * Read-only autocommit query which is duplicated on another session if the first attempt has no result after the
+     * hedging delay. The first successful attempt wins, the other one is cancelled. The duplicate is always executed
+     * in the read-only transaction mode, so it cannot change data even if the query was wrongly detected as
+     * read-only. Sessions of cancelled attempts are released only after the end of their streams
+     */
+    private class HedgedQuery {
+        private final String yql;
+        private final TxMode mode;
+        private final Params params;
+
+        private final CompletableFuture<Result<QueryReader>> winner = new CompletableFuture<>();
+        private final CompletableFuture<Void> firstCompleted = new CompletableFuture<>();
+        private final AtomicBoolean isDecided = new AtomicBoolean(false);
+        private final AtomicInteger running = new AtomicInteger(1);
+        private final Queue<QueryStream> streams = new ConcurrentLinkedQueue<>();
+        private volatile boolean isFirstWinner = false;
+        private volatile long firstStartedAt = 0;
+
+        HedgedQuery(String yql, TxMode mode, Params params) {
+            this.yql = yql;
+            this.mode = mode == TxMode.SNAPSHOT_RO || mode == TxMode.STALE_RO || mode == TxMode.ONLINE_RO
+                    ? mode : TxMode.SNAPSHOT_RO;
+            this.params = params;
+        }
+
+        boolean isFirstWinner() {
+            return isFirstWinner;
+        }
+
+        boolean isFirstRunning() {
+            return firstStartedAt != 0 && !firstCompleted.isDone();
+        }
+
+        void whenFirstCompleted(Runnable action) {
+            firstCompleted.whenComplete((v, th) -> action.run());
+        }
+
+        CompletableFuture<Result<QueryReader>> start(QueryStream first, ExecuteQuerySettings settings) {
+            firstStartedAt = System.nanoTime();
+            streams.add(first);
+            QueryReader.readFrom(first).whenComplete((result, th) -> {
+                onResult(first, result, th, true);
+                firstCompleted.complete(null);
+            });
+
+            long delay = hedging.getDelayNanos();
+            if (delay >= 0) {
+                ScheduledFuture<?> duplicate = scheduler.schedule(() -> startDuplicate(settings), delay,
+                        TimeUnit.NANOSECONDS);
+                winner.whenComplete((result, th) -> duplicate.cancel(false));
+            }
+
+            return winner;
+        }
+
+        private void startDuplicate(ExecuteQuerySettings settings) {
+            if (winner.isDone()) {
+                return;
+            }
+
+            running.incrementAndGet();
+            LOGGER.log(Level.FINE, "Start hedged duplicate of query {0}", yql);
+            clients.selectQueryClient().createSession(sessionTimeout).whenComplete((session, th) -> {
+                if (th != null || !session.isSuccess()) {
+                    Status status = th != null ? Status.of(StatusCode.CLIENT_INTERNAL_ERROR, th) : session.getStatus();
+                    onResult(null, Result.fail(status), null, false);
+                    return;
+                }
+
+                if (isDecided.get()) { // the first attempt has already finished
+                    running.decrementAndGet();
+                    session.getValue().close();
+                    return;
+                }
+
+                QueryStream stream = session.getValue().createQuery(yql, mode, params, settings);
+                streams.add(stream);
+                if (isDecided.get()) { // the result was decided before the stream was registered
+                    stream.cancel();
+                }
+                QueryReader.readFrom(stream).whenComplete((result, ex) -> {
+                    session.getValue().close();
+                    onResult(stream, result, ex, false);
+                });
+            });
+        }
+
+        private void onResult(QueryStream stream, Result<QueryReader> result, Throwable th, boolean isFirst) {
+            if (stream != null) {
+                streams.remove(stream);
+            }
+
+            Result<QueryReader> res = th != null ? Result.fail(Status.of(StatusCode.CLIENT_INTERNAL_ERROR, th))
+                    : result;
+            boolean isLast = running.decrementAndGet() == 0;
+            if (!res.isSuccess() && !isLast) { // wait for the other attempt
+                return;
+            }
+
+            if (isDecided.compareAndSet(false, true)) {
+                if (res.isSuccess()) {
+                    // latency of the first attempt is recorded even if it has lost, the duplicate has won because
+                    // the first attempt was not faster, so its latency is at least the current time
+                    hedging.record(System.nanoTime() - firstStartedAt);
+                }
+                isFirstWinner = isFirst;
+                streams.forEach(QueryStream::cancel);
+                winner.complete(res);
+            }
+        }
+    }
+
+    private static class StickySession {
+        private final QuerySession session;
+        private final long releasedAt;
+
+        StickySession(QuerySession session) {
+            this.session = session;
+            this.releasedAt = System.nanoTime();
+        }
+    }
+
     private class IssueHandler implements QueryStream.PartsHandler {
         private final YdbValidator validator;
 
@@ -488,6 +993,22 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         return getOrCreateTransaction(validator, false);
     }
 
+    private static TxMode validateReadTxMode(TxMode mode) throws SQLException {
+        if (mode == null) {
+            return null;
+        }
+
+        switch (mode) {
+            case SNAPSHOT_RO:
+            case STALE_RO:
+            case ONLINE_RO:
+            case ONLINE_INCONSISTENT_RO:
+                return mode;
+            default:
+                throw new SQLException(YdbConst.UNSUPPORTED_READ_TX_MODE + mode);
+        }
+    }
+
     private static TxMode txMode(int level, boolean isReadOnly) throws SQLException {
         if (!isReadOnly) {
             switch (level) {
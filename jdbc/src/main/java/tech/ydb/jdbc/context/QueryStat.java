@@ -1,6 +1,11 @@
 package tech.ydb.jdbc.context;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
 
 import tech.ydb.core.Status;
@@ -23,35 +28,85 @@ public class QueryStat {
             .addTextColumn("yql")
             .addTextColumn("ast")
             .addTextColumn("plan")
+            .addLongColumn("p50_us")
+            .addLongColumn("p90_us")
+            .addLongColumn("p99_us")
+            .addLongColumn("max_us")
+            .addLongColumn("rows")
+            .addLongColumn("retries")
+            .addLongColumn("errors")
             .build();
 
     private final String originSQL;
     private final String preparedYQL;
 
-    private final String ast;
-    private final String plan;
     private final LongAdder usage;
-    private final boolean isFullScan;
-    private final boolean isError;
-
-    public QueryStat(String sql, String yql, String ast, String plan) {
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final CompletableFuture<QueryStat> explained;
+    private final AtomicBoolean isQueued = new AtomicBoolean(false);
+
+    private volatile String ast;
+    private volatile String plan;
+    private volatile boolean isFullScan;
+    private volatile boolean isError;
+
+    QueryStat(String sql, String yql) { // waiting for explain
         this.originSQL = sql;
         this.preparedYQL = yql;
+        this.usage = new LongAdder();
+        this.explained = new CompletableFuture<>();
+    }
+
+    public QueryStat(String sql, String yql, String ast, String plan) {
+        this(sql, yql);
+        setExplain(ast, plan);
+    }
+
+    public QueryStat(String sql, String yql, Status error) {
+        this(sql, yql);
+        setError(error);
+    }
+
+    final void setExplain(String ast, String plan) {
         this.ast = ast;
         this.plan = plan;
-        this.usage = new LongAdder();
         this.isFullScan = plan.contains("\"Node Type\":\"TableFullScan\"");
         this.isError = false;
+        this.explained.complete(this);
     }
 
-    public QueryStat(String sql, String yql, Status error) {
-        this.originSQL = sql;
-        this.preparedYQL = yql;
+    final void setError(Status error) {
         this.ast = null;
         this.plan = error.toString();
-        this.usage = new LongAdder();
         this.isFullScan = false;
         this.isError = true;
+        this.explained.complete(this);
+    }
+
+    public boolean isExplained() {
+        return explained.isDone();
+    }
+
+    boolean tryQueue() {
+        return !explained.isDone() && isQueued.compareAndSet(false, true);
+    }
+
+    void cancelQueue() {
+        isQueued.set(false);
+    }
+
+    boolean awaitExplain(long timeoutMs) throws InterruptedException {
+        if (timeoutMs > 0 && isQueued.get()) {
+            try {
+                explained.get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException | TimeoutException ex) {
+                // stat is still not explained
+            }
+        }
+        return explained.isDone();
     }
 
     public long getUsageCounter() {
@@ -86,6 +141,37 @@ public class QueryStat {
         this.usage.increment();
     }
 
+    public void recordExecution(long durationNanos, boolean isFailed) {
+        latency.record(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+        if (isFailed) {
+            errors.increment();
+        }
+    }
+
+    public void addRows(long count) {
+        rows.add(count);
+    }
+
+    public void incrementRetries() {
+        retries.increment();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getRowsCounter() {
+        return rows.longValue();
+    }
+
+    public long getRetriesCounter() {
+        return retries.longValue();
+    }
+
+    public long getErrorsCounter() {
+        return errors.longValue();
+    }
+
     public static ResultSetReader toResultSetReader(Collection<QueryStat> stats) {
         FixedResultSetFactory.ResultSetBuilder builder = STATS_RS_FACTORY.createResultSet();
         for (QueryStat stat: stats) {
@@ -97,6 +183,13 @@ public class QueryStat {
                     .withTextValue("yql", stat.preparedYQL)
                     .withTextValue("ast", stat.ast)
                     .withTextValue("plan", stat.plan)
+                    .withLongValue("p50_us", stat.latency.getPercentile(50))
+                    .withLongValue("p90_us", stat.latency.getPercentile(90))
+                    .withLongValue("p99_us", stat.latency.getPercentile(99))
+                    .withLongValue("max_us", stat.latency.getMax())
+                    .withLongValue("rows", stat.rows.longValue())
+                    .withLongValue("retries", stat.retries.longValue())
+                    .withLongValue("errors", stat.errors.longValue())
                     .build();
         }
         return builder.build();
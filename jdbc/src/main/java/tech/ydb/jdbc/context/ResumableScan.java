@@ -0,0 +1,166 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import tech.ydb.core.Result;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.OptionalValue;
+import tech.ydb.table.values.Value;
+
+/**
+ * Scan query over a single table sorted by the primary key. Such query can be continued after the last read key, so
+ * the failed stream can be replaced by the new one without repeating of already read rows
+ */
+class ResumableScan {
+    private static final Pattern ORDERED_SELECT = Pattern.compile(""
+            + "^(?<declares>(\\s*DECLARE\\s+[^;]+;)*)"
+            + "\\s*SELECT\\s+(?<columns>.+?)\\s+FROM\\s+(?<table>`[^`]+`|[\\w/.-]+)"
+            + "(\\s+WHERE\\s+(?<where>.+?))?"
+            + "\\s+ORDER\\s+BY\\s+(?<order>[\\w`]+(\\s+ASC)?(\\s*,\\s*[\\w`]+(\\s+ASC)?)*)\\s*;?\\s*$",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    // Queries with aggregations, limits or joins cannot be continued by the key
+    private static final Pattern UNSUPPORTED = Pattern.compile(""
+            + "\\b(JOIN|GROUP|ORDER|LIMIT|OFFSET|UNION|DISTINCT|FLATTEN|WINDOW|SAMPLE|TABLESAMPLE|VIEW)\\b"
+            + "|;|--|/\\*",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern ASC = Pattern.compile("\\s+ASC$", Pattern.CASE_INSENSITIVE);
+
+    private static final String KEY_PRM = "$__resume_key";
+
+    private final String declares;
+    private final String columns;
+    private final String table;
+    private final String where;
+    private final String orderBy;
+    private final List<String> keyColumns;
+    private final Params params;
+
+    private ResumableScan(Matcher matcher, List<String> keyColumns, Params params) {
+        this.declares = matcher.group("declares");
+        this.columns = matcher.group("columns");
+        this.table = matcher.group("table");
+        this.where = matcher.group("where");
+        this.orderBy = matcher.group("order");
+        this.keyColumns = keyColumns;
+        this.params = params;
+    }
+
+    /**
+     * @return names of primary key columns in order of the sorting
+     */
+    List<String> getKeyColumns() {
+        return keyColumns;
+    }
+
+    /**
+     * Builds the query which reads rows after the given key
+     *
+     * @param lastKey values of key columns of the last read row
+     * @return query or null if the key contains NULL values
+     */
+    ParallelScan.RangeQuery resumeAfter(Value<?>[] lastKey) {
+        StringBuilder yql = new StringBuilder(declares);
+        Params resumeParams = Params.create();
+        for (Map.Entry<String, Value<?>> prm: params.values().entrySet()) {
+            resumeParams.put(prm.getKey(), prm.getValue());
+        }
+
+        for (int idx = 0; idx < lastKey.length; idx++) {
+            Value<?> value = lastKey[idx];
+            if (value instanceof OptionalValue) {
+                OptionalValue optional = (OptionalValue) value;
+                if (!optional.isPresent()) {
+                    return null;
+                }
+                value = optional.get();
+            }
+            yql.append("\nDECLARE ").append(KEY_PRM).append(idx).append(" AS ").append(value.getType()).append(";");
+            resumeParams.put(KEY_PRM + idx, value);
+        }
+
+        // (k1, k2, k3) > ($r0, $r1, $r2) is k1 > $r0 OR (k1 = $r0 AND (k2 > $r1 OR (k2 = $r1 AND k3 > $r2)))
+        StringBuilder condition = new StringBuilder();
+        for (int idx = keyColumns.size() - 1; idx >= 0; idx--) {
+            String key = "`" + keyColumns.get(idx) + "`";
+            String prm = KEY_PRM + idx;
+            if (condition.length() == 0) {
+                condition.append(key).append(" > ").append(prm);
+            } else {
+                condition.insert(0, key + " > " + prm + " OR (" + key + " = " + prm + " AND (").append("))");
+            }
+        }
+
+        yql.append("\nSELECT ").append(columns).append(" FROM ").append(table).append(" WHERE ");
+        if (where != null) {
+            yql.append("(").append(where).append(") AND ");
+        }
+        yql.append("(").append(condition).append(") ORDER BY ").append(orderBy).append(";");
+
+        return new ParallelScan.RangeQuery(yql.toString(), resumeParams);
+    }
+
+    /**
+     * Checks that the scan query can be resumed
+     *
+     * @param ctx context
+     * @param preparedYql scan query without SCAN keyword
+     * @param params parameters of the query
+     * @return resumable scan or null if the query cannot be continued by the key
+     * @throws SQLException if the table description cannot be loaded
+     */
+    static ResumableScan parse(YdbContext ctx, String preparedYql, Params params) throws SQLException {
+        Matcher matcher = ORDERED_SELECT.matcher(preparedYql);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        String columns = matcher.group("columns");
+        String where = matcher.group("where");
+        if (columns.contains("(") || UNSUPPORTED.matcher(columns).find()
+                || (where != null && UNSUPPORTED.matcher(where).find())) {
+            return null;
+        }
+
+        String table = unquote(matcher.group("table"));
+        String tablePath = table.startsWith("/") ? table : YdbContext.joined(ctx.getPrefixPath(), table);
+        Result<TableDescription> description = ctx.describeTable(tablePath);
+        if (!description.isSuccess()) {
+            return null;
+        }
+
+        // rows must be sorted by the full primary key, so the last key defines the rest of rows
+        List<String> primaryKeys = description.getValue().getPrimaryKeys();
+        List<String> order = new ArrayList<>();
+        for (String column: matcher.group("order").split(",")) {
+            order.add(unquote(ASC.matcher(column.trim()).replaceAll("")));
+        }
+        if (!order.equals(primaryKeys)) {
+            return null;
+        }
+
+        // every key column must be in the result to read the last key
+        if (!"*".equals(columns.trim())) {
+            List<String> selected = new ArrayList<>();
+            for (String column: columns.split(",")) {
+                selected.add(unquote(column.trim()));
+            }
+            if (!selected.containsAll(primaryKeys)) {
+                return null;
+            }
+        }
+
+        return new ResumableScan(matcher, Collections.unmodifiableList(primaryKeys), params);
+    }
+
+    private static String unquote(String name) {
+        return name.startsWith("`") && name.endsWith("`") ? name.substring(1, name.length() - 1) : name;
+    }
+}
@@ -0,0 +1,220 @@
+package tech.ydb.jdbc.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tech.ydb.core.Result;
+import tech.ydb.core.metrics.LongCounter;
+import tech.ydb.core.metrics.Meter;
+import tech.ydb.jdbc.settings.YdbClientProperties;
+import tech.ydb.query.impl.QueryClientImpl;
+import tech.ydb.table.impl.PooledTableClient;
+
+/**
+ * Controller of the session pool size. Every second it checks the average time of session acquiring and the peak
+ * count of sessions acquired from the pools. The pool grows when queries wait for sessions or use most of them, and
+ * slowly shrinks back to the initial size when most of sessions are not used. With several stripes all pools have
+ * the same size, the utilization and the limit are calculated for their total size
+ */
+class SessionPoolController {
+    private static final Logger LOGGER = Logger.getLogger(SessionPoolController.class.getName());
+    private static final String METRIC_PREFIX = "ydb.jdbc.session_pool.";
+
+    private static final long TICK_MS = 1000;
+    private static final long WAIT_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final double HIGH_UTILIZATION = 0.8;
+    private static final double BUSY_UTILIZATION = 0.5;
+    private static final double LOW_UTILIZATION = 0.25;
+    private static final int MIN_STEP = 10;
+    private static final int SHRINK_AFTER_TICKS = 30;
+
+    private final List<PooledTableClient> tableClients;
+    private final List<QueryClientImpl> queryClients;
+    private final int minMaxSize;
+    private final int limit;
+
+    private final AtomicInteger peakAcquired = new AtomicInteger();
+    private final AtomicLong acquireCount = new AtomicLong();
+    private final AtomicLong acquireNanos = new AtomicLong();
+    private int lowTicks = 0;
+
+    private final LongCounter growCounter;
+    private final LongCounter shrinkCounter;
+    private final LongCounter prewarmCounter;
+    private final LongCounter grownSizeCounter;
+    private final LongCounter shrunkSizeCounter;
+
+    private volatile ScheduledFuture<?> tickTask = null;
+
+    SessionPoolController(List<PooledTableClient> tableClients, List<QueryClientImpl> queryClients, int limit,
+            Meter meter) {
+        this.tableClients = tableClients;
+        this.queryClients = queryClients;
+        this.minMaxSize = getMaxSize();
+        this.limit = Math.max(minMaxSize, YdbClientProperties.perStripe(limit, tableClients.size()));
+
+        if (meter != null) {
+            this.growCounter = meter.createCounter(METRIC_PREFIX + "grow", "{decision}",
+                    "Count of decisions to increase the session pool size");
+            this.shrinkCounter = meter.createCounter(METRIC_PREFIX + "shrink", "{decision}",
+                    "Count of decisions to decrease the session pool size");
+            this.prewarmCounter = meter.createCounter(METRIC_PREFIX + "prewarmed", "{session}",
+                    "Count of sessions created at the context startup");
+            this.grownSizeCounter = meter.createCounter(METRIC_PREFIX + "grow.size", "{session}",
+                    "Total increase of the session pool max size");
+            this.shrunkSizeCounter = meter.createCounter(METRIC_PREFIX + "shrink.size", "{session}",
+                    "Total decrease of the session pool max size");
+        } else {
+            this.growCounter = null;
+            this.shrinkCounter = null;
+            this.prewarmCounter = null;
+            this.grownSizeCounter = null;
+            this.shrunkSizeCounter = null;
+        }
+    }
+
+    void start(ScheduledExecutorService scheduler) {
+        try {
+            tickTask = scheduler.scheduleWithFixedDelay(this::tick, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            LOGGER.log(Level.WARNING, "Cannot schedule session pool controller", ex);
+        }
+    }
+
+    void stop() {
+        ScheduledFuture<?> task = tickTask;
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
+    void recordAcquire(long nanos) {
+        acquireCount.incrementAndGet();
+        acquireNanos.addAndGet(nanos);
+        peakAcquired.accumulateAndGet(getAcquiredCount(), Math::max);
+    }
+
+    /**
+     * @return count of sessions acquired from all pools
+     */
+    int getAcquiredCount() {
+        int count = 0;
+        for (PooledTableClient tableClient: tableClients) {
+            count += tableClient.sessionPoolStats().getAcquiredCount();
+        }
+        for (QueryClientImpl queryClient: queryClients) {
+            count += queryClient.sessionPoolStats().getAcquiredCount();
+        }
+        return count;
+    }
+
+    int getMaxSize() {
+        return tableClients.get(0).sessionPoolStats().getMaxSize();
+    }
+
+    synchronized void tick() {
+        int maxSize = getMaxSize();
+        int stripes = tableClients.size();
+        long acquires = acquireCount.getAndSet(0);
+        long waitNanos = acquireNanos.getAndSet(0);
+        int current = getAcquiredCount();
+        int peak = Math.max(current, peakAcquired.getAndSet(current));
+
+        long avgWaitNanos = acquires > 0 ? waitNanos / acquires : 0;
+        double utilization = (double) peak / (maxSize * stripes);
+
+        boolean isWaiting = avgWaitNanos >= WAIT_THRESHOLD_NANOS && utilization >= BUSY_UTILIZATION;
+        if ((isWaiting || utilization >= HIGH_UTILIZATION) && maxSize < limit) {
+            lowTicks = 0;
+            int step = Math.max(YdbClientProperties.perStripe(MIN_STEP, stripes), maxSize / 2);
+            int newSize = Math.min(limit, maxSize + step);
+            LOGGER.log(Level.FINE, "Grow session pool {0} -> {1}, peak acquired {2}, avg wait {3} us",
+                    new Object[] {maxSize, newSize, peak, TimeUnit.NANOSECONDS.toMicros(avgWaitNanos)});
+            resize(maxSize, newSize);
+            if (growCounter != null) {
+                growCounter.add(1);
+            }
+            return;
+        }
+
+        if (utilization >= LOW_UTILIZATION || maxSize <= minMaxSize) {
+            lowTicks = 0;
+            return;
+        }
+
+        lowTicks++;
+        if (lowTicks >= SHRINK_AFTER_TICKS) {
+            lowTicks = 0;
+            int required = YdbClientProperties.perStripe(2 * peak, stripes);
+            int newSize = Math.max(minMaxSize, Math.max(required, maxSize - maxSize / 4));
+            LOGGER.log(Level.FINE, "Shrink session pool {0} -> {1}, peak acquired {2}",
+                    new Object[] {maxSize, newSize, peak});
+            resize(maxSize, newSize);
+            if (shrinkCounter != null) {
+                shrinkCounter.add(1);
+            }
+        }
+    }
+
+    private void resize(int oldSize, int newSize) {
+        for (PooledTableClient tableClient: tableClients) {
+            tableClient.updatePoolMaxSize(newSize);
+        }
+        for (QueryClientImpl queryClient: queryClients) {
+            queryClient.updatePoolMaxSize(newSize);
+        }
+        long delta = (long) (newSize - oldSize) * tableClients.size();
+        if (delta > 0 && grownSizeCounter != null) {
+            grownSizeCounter.add(delta);
+        }
+        if (delta < 0 && shrunkSizeCounter != null) {
+            shrunkSizeCounter.add(-delta);
+        }
+    }
+
+    /**
+     * Creates the given count of sessions in background and returns them to the pool, so the first queries don't
+     * wait for the session creation
+     *
+     * @param <T> type of session
+     * @param count count of sessions
+     * @param create session factory
+     * @param release returns session to the pool
+     */
+    <T> void prewarm(int count, Supplier<CompletableFuture<Result<T>>> create, Consumer<T> release) {
+        if (count <= 0) {
+            return;
+        }
+
+        List<CompletableFuture<Result<T>>> sessions = new ArrayList<>();
+        for (int idx = 0; idx < count; idx++) {
+            sessions.add(create.get());
+        }
+
+        CompletableFuture.allOf(sessions.toArray(new CompletableFuture<?>[0])).whenComplete((res, th) -> {
+            int created = 0;
+            for (CompletableFuture<Result<T>> future: sessions) {
+                Result<T> session = future.isCompletedExceptionally() ? null : future.getNow(null);
+                if (session != null && session.isSuccess()) {
+                    release.accept(session.getValue());
+                    created++;
+                }
+            }
+            LOGGER.log(Level.FINE, "Prewarmed {0} of {1} sessions", new Object[] {created, count});
+            if (prewarmCounter != null && created > 0) {
+                prewarmCounter.add(created);
+            }
+        });
+    }
+}
@@ -52,6 +52,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
     @Override
     public void close() throws SQLException {
         clearState();
+        onTransactionRollback();
         tx = null;
     }
 
@@ -119,6 +120,8 @@ public class TableServiceExecutor extends BaseYdbExecutor {
         ensureOpened();
 
         if (!isInsideTransaction()) {
+            // changes of the failed transaction were rolled back
+            onTransactionRollback();
             return;
         }
 
@@ -136,6 +139,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
             );
         } finally {
             updateState(tx.withCommit(session));
+            onTransactionCommit(ctx);
             tracer.close();
         }
     }
@@ -143,6 +147,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
     @Override
     public void rollback(YdbContext ctx, YdbValidator validator) throws SQLException {
         ensureOpened();
+        onTransactionRollback();
 
         if (!isInsideTransaction()) {
             return;
@@ -213,7 +218,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
     }
 
     @Override
-    public YdbResultSetMemory[] executeInMemoryQuery(YdbStatement statement, YdbQuery query, String preparedYql,
+    protected YdbResultSetMemory[] executeInMemoryQueryImpl(YdbStatement statement, YdbQuery query, String preparedYql,
             Params params) throws SQLException {
         ensureOpened();
 
@@ -279,9 +284,9 @@ public class TableServiceExecutor extends BaseYdbExecutor {
     }
 
     @Override
-    public YdbQueryResult executeDataQuery(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
-            throws SQLException {
-        YdbResultSetMemory[] readers = executeInMemoryQuery(statement, query, preparedYql, params);
+    protected YdbQueryResult executeDataQueryImpl(YdbStatement statement, YdbQuery query, String preparedYql,
+            Params params) throws SQLException {
+        YdbResultSetMemory[] readers = executeInMemoryQueryImpl(statement, query, preparedYql, params);
         return updateCurrentResult(new YdbQueryResultStatic(query, readers));
     }
 
@@ -86,10 +86,10 @@ public class TableTxExecutor extends QueryServiceExecutor {
     }
 
     @Override
-    public YdbQueryResult executeDataQuery(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
-            throws SQLException {
+    protected YdbQueryResult executeDataQueryImpl(YdbStatement statement, YdbQuery query, String preparedYql,
+            Params params) throws SQLException {
         try {
-            YdbQueryResult result = super.executeDataQuery(statement, query, preparedYql, params);
+            YdbQueryResult result = super.executeDataQueryImpl(statement, query, preparedYql, params);
             isWriteTx = isInsideTransaction() && (isWriteTx || query.isWriting());
             return result;
         } catch (YdbConditionallyRetryableException ex) {
@@ -104,6 +104,12 @@ public class TableTxExecutor extends QueryServiceExecutor {
         }
     }
 
+    @Override
+    protected boolean canDeferDml(YdbQuery query) {
+        // commit must be executed together with storing of transaction id
+        return false;
+    }
+
     @Override
     protected void commitImpl(YdbContext ctx, YdbValidator validator, QueryTransaction tx) throws SQLException {
         boolean storeTx = isWriteTx;
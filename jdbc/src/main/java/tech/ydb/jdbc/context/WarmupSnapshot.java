@@ -0,0 +1,199 @@
+package tech.ydb.jdbc.context;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tech.ydb.jdbc.query.QueryKey;
+
+/**
+ * Local file with the hottest cached queries and tables. The snapshot is periodically saved and used to warm up the
+ * caches of a new context before the first queries
+ */
+class WarmupSnapshot {
+    private static final Logger LOGGER = Logger.getLogger(WarmupSnapshot.class.getName());
+
+    private static final String HEADER = "# ydb-jdbc warm-up snapshot v1";
+    private static final String TABLE = "T";
+    private static final String QUERY = "Q";
+    private static final String PREPARED_QUERY = "P";
+
+    private static final int WARMUP_THREADS = 4;
+
+    private final Path file;
+    private final int limit;
+    private final YdbCache cache;
+
+    private ScheduledFuture<?> saveTask = null;
+    private ExecutorService warmupExecutor = null;
+    private boolean isStopped = false;
+
+    WarmupSnapshot(String fileName, int limit, YdbCache cache) {
+        this.file = Paths.get(fileName);
+        this.limit = limit;
+        this.cache = cache;
+    }
+
+    synchronized void start(YdbContext ctx, Duration interval) {
+        if (isStopped) {
+            return;
+        }
+
+        startWarmup();
+
+        if (!interval.isNegative() && !interval.isZero()) {
+            long ms = interval.toMillis();
+            try {
+                saveTask = ctx.getGrpcTransport().getScheduler()
+                        .scheduleWithFixedDelay(this::save, ms, ms, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ex) {
+                LOGGER.log(Level.WARNING, "Cannot schedule saving of warm-up snapshot", ex);
+            }
+        }
+    }
+
+    void stop() {
+        synchronized (this) {
+            isStopped = true;
+            if (saveTask != null) {
+                saveTask.cancel(false);
+            }
+            if (warmupExecutor != null) {
+                warmupExecutor.shutdownNow();
+            }
+        }
+        save();
+    }
+
+    void save() {
+        Path tmp = null;
+        try {
+            // several contexts may save the same snapshot, so every writer uses its own temporary file
+            Path dir = file.toAbsolutePath().getParent();
+            tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (String table: cache.getCachedTables(limit)) {
+                    writeLine(writer, TABLE, table);
+                }
+                for (QueryKey key: cache.getHotQueries(limit)) {
+                    writeLine(writer, cache.isPreparedQuery(key) ? PREPARED_QUERY : QUERY, key.getQuery());
+                }
+            }
+
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Cannot save warm-up snapshot to " + file, ex);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ex) {
+                    LOGGER.log(Level.FINE, "Cannot delete temporary file " + tmp, ex);
+                }
+            }
+        }
+    }
+
+    private void startWarmup() {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException ex) {
+            LOGGER.log(Level.FINE, "Warm-up snapshot {0} doesn't exist", file);
+            return;
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Cannot read warm-up snapshot " + file, ex);
+            return;
+        }
+
+        if (lines.isEmpty() || !HEADER.equals(lines.get(0))) {
+            LOGGER.log(Level.WARNING, "Unsupported format of warm-up snapshot {0}", file);
+            return;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WARMUP_THREADS, r -> {
+            Thread t = new Thread(r, "ydb-jdbc-warmup-" + threadNumber.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+        for (String line: lines.subList(1, lines.size())) {
+            int sep = line.indexOf(' ');
+            if (sep < 0) {
+                continue;
+            }
+
+            String type = line.substring(0, sep);
+            String value;
+            try {
+                value = new String(Base64.getDecoder().decode(line.substring(sep + 1)), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException ex) {
+                LOGGER.log(Level.FINE, "Skipped invalid line of warm-up snapshot {0}", line);
+                continue;
+            }
+
+            tasks.add(CompletableFuture.runAsync(() -> warmup(type, value), executor));
+        }
+        warmupExecutor = executor;
+
+        LOGGER.log(Level.FINE, "Started warm-up of {0} entries from {1}", new Object[] {tasks.size(), file});
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((res, th) -> executor.shutdown());
+    }
+
+    private void warmup(String type, String value) {
+        try {
+            switch (type) {
+                case TABLE:
+                    cache.warmupTable(value);
+                    break;
+                case QUERY:
+                    cache.warmupQuery(new QueryKey(value), false);
+                    break;
+                case PREPARED_QUERY:
+                    cache.warmupQuery(new QueryKey(value), true);
+                    break;
+                default:
+                    break;
+            }
+        } catch (SQLException | RuntimeException ex) {
+            LOGGER.log(Level.FINE, "Cannot warm up " + value, ex);
+        }
+    }
+
+    private static void writeLine(BufferedWriter writer, String type, String value) throws IOException {
+        writer.write(type);
+        writer.write(' ');
+        writer.write(Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8)));
+        writer.newLine();
+    }
+}
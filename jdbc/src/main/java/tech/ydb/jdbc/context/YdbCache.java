@@ -3,21 +3,42 @@ package tech.ydb.jdbc.context;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLDataException;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
 import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.core.metrics.Meter;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbPrepareMode;
 import tech.ydb.jdbc.YdbTracer;
@@ -30,16 +51,16 @@ import tech.ydb.jdbc.query.YqlBatcher;
 import tech.ydb.jdbc.query.params.BatchedQuery;
 import tech.ydb.jdbc.query.params.BulkUpsertQuery;
 import tech.ydb.jdbc.query.params.InMemoryQuery;
+import tech.ydb.jdbc.query.params.KeyLookupQuery;
 import tech.ydb.jdbc.query.params.PreparedQuery;
+import tech.ydb.jdbc.settings.YdbConfig;
 import tech.ydb.jdbc.settings.YdbQueryProperties;
 import tech.ydb.table.SessionRetryContext;
 import tech.ydb.table.description.TableDescription;
 import tech.ydb.table.query.DataQuery;
 import tech.ydb.table.query.DataQueryResult;
-import tech.ydb.table.query.ExplainDataQueryResult;
 import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.table.settings.DescribeTableSettings;
-import tech.ydb.table.settings.ExplainDataQuerySettings;
 import tech.ydb.table.settings.PrepareDataQuerySettings;
 import tech.ydb.table.transaction.TxControl;
 import tech.ydb.table.values.Type;
@@ -49,39 +70,182 @@ import tech.ydb.table.values.Type;
  * @author Aleksandr Gorshenin
  */
 public class YdbCache {
-    private final YdbContext ctx;
+    private static final Logger LOGGER = Logger.getLogger(YdbCache.class.getName());
+    private static final long EXPLAIN_AWAIT_TIMEOUT_MS = 5000;
+    private static final long STATS_REPORT_PERIOD_MS = 1000;
+
+    protected final YdbContext ctx;
     protected final SessionRetryContext retryCtx;
     private final YdbQueryProperties queryOptions;
 
     private final Cache<QueryKey, YdbQuery> queriesCache;
     private final Cache<String, QueryStat> statsCache;
     private final Cache<String, Map<String, Type>> queryParamsCache;
-    protected final Cache<String, TableDescription> tableDescribeCache;
+    protected final LoadingCache<String, TableDescription> tableDescribeCache;
+    private final Cache<String, Status> tableDescribeErrors;
+    private final Cache<String, TableDescription> keyBoundsCache;
+    private final Cache<String, AtomicInteger> prepareCounters;
+    private final QueryExplainQueue explainQueue;
+
+    private final Meter meter;
+    private final List<CacheStat> cacheStats = new ArrayList<>();
+    private volatile ScheduledFuture<?> reportTask = null;
 
     private final Supplier<String> version = Suppliers.memoizeWithExpiration(this::readVersion, 1, TimeUnit.HOURS);
 
-    public YdbCache(YdbContext ctx, YdbQueryProperties queryOptions, int cacheSize, boolean fullScanDetector) {
+    public YdbCache(YdbContext ctx, YdbQueryProperties queryOptions, YdbConfig config, Meter meter) {
         this.ctx = ctx;
         this.retryCtx = SessionRetryContext.create(ctx.getTableClient()).idempotent(true).build();
         this.queryOptions = queryOptions;
+        this.meter = meter;
 
-        if (cacheSize > 0) {
-            queriesCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
-            queryParamsCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
-            tableDescribeCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
-            if (fullScanDetector) {
-                statsCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
-            } else {
-                statsCache = null;
-            }
+        long maxWeight = config.getPreparedStatementsCacheWeight();
+
+        queriesCache = buildCache("queries", config.getParsedQueriesCacheSize(), maxWeight,
+                (QueryKey key, YdbQuery query) -> textWeight(key.getQuery(), key.getReturning(), query.getPreparedYql())
+        );
+        queryParamsCache = buildCache("prepared_types", config.getPreparedTypesCacheSize(), maxWeight,
+                (String sql, Map<String, Type> types) -> textWeight(sql)
+        );
+        statsCache = !config.isFullScanDetectorEnabled() ? null : buildCache("query_stats",
+                config.getQueryStatsCacheSize(), maxWeight, (String yql, QueryStat stat) -> textWeight(
+                        yql, stat.getOriginSQL(), stat.getAst(), stat.getPlan()
+                ));
+        explainQueue = statsCache == null ? null : new QueryExplainQueue(ctx, config.getQueryStatsCacheSize(),
+                this::updateQueryStatWeight);
+
+        int tablesCacheSize = config.getTableDescriptionCacheSize();
+        if (tablesCacheSize > 0) {
+            tableDescribeCache = buildTableDescribeCache(tablesCacheSize, config.getTableDescriptionRefreshTime());
+            cacheStats.add(new CacheStat("table_descriptions", tableDescribeCache, meter));
+            keyBoundsCache = buildKeyBoundsCache(tablesCacheSize, config.getTableDescriptionRefreshTime());
         } else {
-            queriesCache = null;
-            statsCache = null;
-            queryParamsCache = null;
             tableDescribeCache = null;
+            keyBoundsCache = null;
+        }
+
+        int typesCacheSize = config.getPreparedTypesCacheSize();
+        if (typesCacheSize > 0 && queryOptions.getPrepareThreshold() > 1) {
+            prepareCounters = CacheBuilder.newBuilder().maximumSize(typesCacheSize).build();
+        } else {
+            prepareCounters = null;
+        }
+
+        Duration errorTtl = config.getTableDescriptionErrorTtl();
+        if (tablesCacheSize > 0 && !errorTtl.isNegative() && !errorTtl.isZero()) {
+            tableDescribeErrors = CacheBuilder.newBuilder()
+                    .maximumSize(tablesCacheSize)
+                    .expireAfterWrite(errorTtl.toMillis(), TimeUnit.MILLISECONDS)
+                    .build();
+        } else {
+            tableDescribeErrors = null;
+        }
+    }
+
+    private <K, V> Cache<K, V> buildCache(String name, int size, long maxWeight, Weigher<K, V> weigher) {
+        if (size <= 0) {
+            return null;
+        }
+
+        Cache<K, V> cache;
+        if (maxWeight > 0) {
+            // every entry weighs at least maxWeight / size, so the limit of entries count is kept too
+            final int minWeight = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxWeight / size));
+            cache = CacheBuilder.newBuilder()
+                    .maximumWeight(maxWeight)
+                    .weigher((K key, V value) -> Math.max(minWeight, weigher.weigh(key, value)))
+                    .recordStats()
+                    .build();
+        } else {
+            cache = CacheBuilder.newBuilder().maximumSize(size).recordStats().build();
+        }
+
+        cacheStats.add(new CacheStat(name, cache, meter));
+        return cache;
+    }
+
+    private LoadingCache<String, TableDescription> buildTableDescribeCache(int cacheSize, Duration refreshTime) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats();
+        if (!refreshTime.isNegative() && !refreshTime.isZero()) {
+            builder = builder.refreshAfterWrite(refreshTime.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        return builder.build(new CacheLoader<String, TableDescription>() {
+            @Override
+            public TableDescription load(String tablePath) {
+                return describeTableImpl(tablePath);
+            }
+
+            @Override
+            public ListenableFuture<TableDescription> reload(String tablePath, TableDescription old) {
+                return reloadTableDescription(tablePath, old);
+            }
+        });
+    }
+
+    private static Cache<String, TableDescription> buildKeyBoundsCache(int cacheSize, Duration refreshTime) {
+        // outdated partition boundaries make the parallel scan less balanced only, so they are not reloaded
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(cacheSize);
+        if (!refreshTime.isNegative() && !refreshTime.isZero()) {
+            builder = builder.expireAfterWrite(refreshTime.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return builder.build();
+    }
+
+    private static int textWeight(String... texts) {
+        long weight = 0;
+        for (String text: texts) {
+            if (text != null) {
+                weight += 2L * text.length();
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+
+    /**
+     * Starts periodic publishing of the cache stats to the meter
+     *
+     * @param scheduler scheduler of the transport
+     */
+    void start(ScheduledExecutorService scheduler) {
+        if (meter == null || cacheStats.isEmpty()) {
+            return;
+        }
+
+        try {
+            reportTask = scheduler.scheduleWithFixedDelay(this::reportCacheStats, STATS_REPORT_PERIOD_MS,
+                    STATS_REPORT_PERIOD_MS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            LOGGER.log(Level.WARNING, "Cannot schedule publishing of cache stats", ex);
+        }
+    }
+
+    void stop() {
+        ScheduledFuture<?> task = reportTask;
+        if (task != null) {
+            task.cancel(false);
+            reportCacheStats();
+        }
+    }
+
+    private void reportCacheStats() {
+        for (CacheStat stat: cacheStats) {
+            stat.report();
         }
     }
 
+    /**
+     * The plan of the query stat is received after the stat was put into the cache, so the stat is put again to
+     * update its weight
+     */
+    private void updateQueryStatWeight(QueryStat stat) {
+        statsCache.asMap().replace(stat.getPreparedYQL(), stat, stat);
+    }
+
+    public List<CacheStat> getCacheStats() {
+        return cacheStats;
+    }
+
     String getDatabaseVersion() {
         return version.get();
     }
@@ -112,6 +276,17 @@ public class YdbCache {
         if (statsCache == null) {
             return Collections.emptyList();
         }
+
+        // give a chance to complete the explains of recently traced queries
+        long deadline = System.currentTimeMillis() + EXPLAIN_AWAIT_TIMEOUT_MS;
+        try {
+            for (QueryStat stat: statsCache.asMap().values()) {
+                stat.awaitExplain(deadline - System.currentTimeMillis());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
         List<QueryStat> sorted = new ArrayList<>(statsCache.asMap().values());
         Collections.sort(sorted,
                 Comparator
@@ -135,43 +310,89 @@ public class YdbCache {
         return "unknown";
     }
 
-    public void traceQuery(YdbQuery query, String yql) {
+    public QueryStat traceQuery(YdbQuery query, String yql) throws SQLException {
+        if (statsCache == null) {
+            return null;
+        }
+
+        QueryStat stat = loadOnce(statsCache, yql, () -> new QueryStat(query.getOriginQuery(), yql));
+        stat.incrementUsage();
+
+        if (stat.tryQueue() && !explainQueue.offer(stat)) {
+            // explain will be requested again on the next execution
+            stat.cancelQueue();
+        }
+        return stat;
+    }
+
+    public void recordRetry(String yql) {
         if (statsCache == null) {
             return;
         }
 
         QueryStat stat = statsCache.getIfPresent(yql);
-        if (stat == null) {
-            final ExplainDataQuerySettings settings = ctx.withDefaultTimeout(new ExplainDataQuerySettings());
-            Result<ExplainDataQueryResult> res = retryCtx.supplyResult(
-                    session -> session.explainDataQuery(yql, settings)
-            ).join();
-
-            if (res.isSuccess()) {
-                ExplainDataQueryResult exp = res.getValue();
-                stat = new QueryStat(query.getOriginQuery(), yql, exp.getQueryAst(), exp.getQueryPlan());
-            } else {
-                stat = new QueryStat(query.getOriginQuery(), yql, res.getStatus());
+        if (stat != null) {
+            stat.incrementRetries();
+        }
+    }
+
+    public YdbQuery parseYdbQuery(QueryKey key) throws SQLException {
+        return parseCachedQuery(key);
+    }
+
+    private YdbQuery parseCachedQuery(QueryKey key) throws SQLException {
+        return loadOnce(queriesCache, key, () -> YdbQuery.parseQuery(key, queryOptions, ctx.getTypes()));
+    }
+
+    /**
+     * Returns the cached queries ordered by usage counters of full scan detector, if it is enabled
+     *
+     * @param limit maximum count of returned queries
+     * @return list of the hottest queries
+     */
+    List<QueryKey> getHotQueries(int limit) {
+        if (queriesCache == null) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Long> usage = new HashMap<>();
+        if (statsCache != null) {
+            for (QueryStat stat: statsCache.asMap().values()) {
+                usage.merge(stat.getOriginSQL(), stat.getUsageCounter(), Long::sum);
             }
+        }
 
-            statsCache.put(yql, stat);
+        List<QueryKey> keys = new ArrayList<>();
+        for (QueryKey key: queriesCache.asMap().keySet()) {
+            if (key.getReturning() == null) {
+                keys.add(key);
+            }
         }
+        keys.sort(Comparator.comparingLong((QueryKey key) -> usage.getOrDefault(key.getQuery(), 0L)).reversed());
+        return keys.size() > limit ? keys.subList(0, limit) : keys;
+    }
 
-        stat.incrementUsage();
+    boolean isPreparedQuery(QueryKey key) {
+        return queryParamsCache != null && queryParamsCache.getIfPresent(key.getQuery()) != null;
     }
 
-    public YdbQuery parseYdbQuery(QueryKey key) throws SQLException {
-        if (queriesCache == null) {
-            return YdbQuery.parseQuery(key, queryOptions, ctx.getTypes());
+    List<String> getCachedTables(int limit) {
+        if (tableDescribeCache == null) {
+            return Collections.emptyList();
         }
+        List<String> tables = new ArrayList<>(tableDescribeCache.asMap().keySet());
+        return tables.size() > limit ? tables.subList(0, limit) : tables;
+    }
 
-        YdbQuery cached = queriesCache.getIfPresent(key);
-        if (cached == null) {
-            cached = YdbQuery.parseQuery(key, queryOptions, ctx.getTypes());
-            queriesCache.put(key, cached);
+    void warmupQuery(QueryKey key, boolean isPrepared) throws SQLException {
+        YdbQuery query = parseCachedQuery(key);
+        if (isPrepared) {
+            prepareYdbQuery(query, YdbPrepareMode.DATA_QUERY);
         }
+    }
 
-        return cached;
+    void warmupTable(String tablePath) throws SQLException {
+        describeTable(tablePath);
     }
 
     public YdbPreparedQuery prepareYdbQuery(YdbQuery query, YdbPrepareMode mode) throws SQLException {
@@ -193,6 +414,14 @@ public class YdbCache {
             return new InMemoryQuery(query, queryOptions.isDeclareJdbcParameters());
         }
 
+        boolean isKeyLookup = queryOptions.isUsePointLookupReadRows() || queryOptions.isBatchKeyLookups();
+        if (isKeyLookup && mode == YdbPrepareMode.AUTO && query.isReadOnly()) {
+            YdbPreparedQuery lookup = createKeyLookupQuery(query);
+            if (lookup != null) {
+                return lookup;
+            }
+        }
+
         if (batcher != null && (mode == YdbPrepareMode.AUTO || type == QueryType.BULK_QUERY)) {
             YdbPreparedQuery batched = createBatchQuery(query, batcher);
             if (batched != null) {
@@ -204,30 +433,14 @@ public class YdbCache {
             return new InMemoryQuery(query, queryOptions.isDeclareJdbcParameters());
         }
 
-        // try to prepare data query
-        Map<String, Type> queryTypes = queryParamsCache.getIfPresent(query.getOriginQuery());
-        if (queryTypes == null) {
-            String yql = ctx.getPrefixPragma() + query.getPreparedYql();
-            YdbTracer tracer = ctx.getTracer();
-            tracer.trace("--> prepare data query");
-            tracer.trace(yql);
-
-            PrepareDataQuerySettings settings = ctx.withDefaultTimeout(new PrepareDataQuerySettings());
-            Result<DataQuery> result = retryCtx.supplyResult(
-                    session -> session.prepareDataQuery(yql, settings)
-            ).join();
-
-            tracer.trace("<-- " + result.getStatus());
-            if (!result.isSuccess()) {
-                tracer.close();
-                throw ExceptionFactory.createException("Cannot prepare data query: " + result.getStatus(),
-                        new UnexpectedResultException("Unexpected status", result.getStatus()));
-            }
-
-            queryTypes = result.getValue().types();
-            queryParamsCache.put(query.getOriginQuery(), queryTypes);
+        if (mode == YdbPrepareMode.AUTO && !isPrepareThresholdReached(query.getOriginQuery())) {
+            return new InMemoryQuery(query, queryOptions.isDeclareJdbcParameters());
         }
 
+        // try to prepare data query
+        String originQuery = query.getOriginQuery();
+        Map<String, Type> queryTypes = loadOnce(queryParamsCache, originQuery, () -> prepareDataQuery(query));
+
         if (query.isWriting()) { // try to create auto-batched query
             boolean requireBatch = mode == YdbPrepareMode.DATA_QUERY_BATCH;
             if (requireBatch || (mode == YdbPrepareMode.AUTO && queryOptions.isDetectBatchQueries())) {
@@ -244,6 +457,35 @@ public class YdbCache {
         return new PreparedQuery(ctx.getTypes(), query, queryTypes);
     }
 
+    private boolean isPrepareThresholdReached(String originQuery) {
+        if (prepareCounters == null || queryParamsCache.getIfPresent(originQuery) != null) {
+            return true;
+        }
+
+        AtomicInteger counter = prepareCounters.asMap().computeIfAbsent(originQuery, k -> new AtomicInteger());
+        if (counter.incrementAndGet() < queryOptions.getPrepareThreshold()) {
+            return false;
+        }
+
+        prepareCounters.invalidate(originQuery);
+        return true;
+    }
+
+    private YdbPreparedQuery createKeyLookupQuery(YdbQuery query) throws SQLException {
+        String tableName = KeyLookupQuery.parseTableName(query.getOriginQuery());
+        if (tableName == null) {
+            return null;
+        }
+
+        String tablePath = tableName.startsWith("/") ? tableName : YdbContext.joined(ctx.getPrefixPath(), tableName);
+        Result<TableDescription> description = describeTable(tablePath);
+        if (!description.isSuccess()) {
+            return null;
+        }
+        return KeyLookupQuery.tryCreate(ctx.getTypes(), query.getOriginQuery(), tablePath, description.getValue(),
+                queryOptions.isUsePointLookupReadRows());
+    }
+
     private YdbPreparedQuery createBatchQuery(YdbQuery query, YqlBatcher batcher) throws SQLException {
         String tablePath = YdbContext.joined(ctx.getPrefixPath(), batcher.getTableName());
         Result<TableDescription> description = describeTable(tablePath);
@@ -268,12 +510,77 @@ public class YdbCache {
         return null;
     }
 
-    private Result<TableDescription> describeTable(String tablePath) {
-        TableDescription cached = tableDescribeCache.getIfPresent(tablePath);
-        if (cached != null) {
-            return Result.success(cached);
+    private Map<String, Type> prepareDataQuery(YdbQuery query) throws SQLException {
+        String yql = ctx.getPrefixPragma() + query.getPreparedYql();
+        YdbTracer tracer = ctx.getTracer();
+        tracer.trace("--> prepare data query");
+        tracer.trace(yql);
+
+        PrepareDataQuerySettings settings = ctx.withDefaultTimeout(new PrepareDataQuerySettings());
+        Result<DataQuery> result = retryCtx.supplyResult(
+                session -> session.prepareDataQuery(yql, settings)
+        ).join();
+
+        tracer.trace("<-- " + result.getStatus());
+        if (!result.isSuccess()) {
+            tracer.close();
+            throw ExceptionFactory.createException("Cannot prepare data query: " + result.getStatus(),
+                    new UnexpectedResultException("Unexpected status", result.getStatus()));
+        }
+
+        return result.getValue().types();
+    }
+
+    public void invalidatePreparedQuery(YdbQuery query) {
+        YqlBatcher batcher = query.getYqlBatcher();
+        if (batcher != null) {
+            String tablePath = YdbContext.joined(ctx.getPrefixPath(), batcher.getTableName());
+            if (tableDescribeCache != null) {
+                tableDescribeCache.invalidate(tablePath);
+            }
+            if (tableDescribeErrors != null) {
+                tableDescribeErrors.invalidate(tablePath);
+            }
+        }
+        if (queryParamsCache != null) {
+            queryParamsCache.invalidate(query.getOriginQuery());
+        }
+    }
+
+    Result<TableDescription> describeTable(String tablePath) throws SQLException {
+        if (tableDescribeCache == null) {
+            return describeTableResult(tablePath);
+        }
+
+        if (tableDescribeErrors != null) {
+            Status error = tableDescribeErrors.getIfPresent(tablePath);
+            if (error != null) {
+                return Result.fail(error);
+            }
+        }
+
+        return describeTableCached(tablePath);
+    }
+
+    private Result<TableDescription> describeTableCached(String tablePath) throws SQLException {
+        try {
+            return Result.success(tableDescribeCache.get(tablePath));
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            if (ex.getCause() instanceof UnexpectedResultException) {
+                Status status = ((UnexpectedResultException) ex.getCause()).getStatus();
+                // transient errors are not cached
+                if (tableDescribeErrors != null && !status.getCode().isRetryable(true)) {
+                    tableDescribeErrors.put(tablePath, status);
+                }
+                return Result.fail(status);
+            }
+            throw unwrap(ex.getCause());
+        } catch (ExecutionError ex) {
+            throw (Error) ex.getCause();
         }
+    }
 
+    private Result<TableDescription> describeTableResult(String tablePath) {
         YdbTracer tracer = ctx.getTracer();
         tracer.trace("--> describe table");
         tracer.trace(tablePath);
@@ -283,11 +590,98 @@ public class YdbCache {
                 .join();
 
         tracer.trace("<-- " + result.getStatus());
+        return result;
+    }
 
-        if (result.isSuccess()) {
-            tableDescribeCache.put(tablePath, result.getValue());
+    /**
+     * Returns the table description with partition boundaries
+     *
+     * @param tablePath full path of the table
+     * @return table description or null if the table cannot be described
+     * @throws SQLException if the current thread was interrupted
+     */
+    TableDescription describeTableWithKeyBounds(String tablePath) throws SQLException {
+        try {
+            return loadOnce(keyBoundsCache, tablePath, () -> describeKeyBoundsImpl(tablePath));
+        } catch (UnexpectedResultException ex) {
+            LOGGER.log(Level.FINE, "Cannot describe partitions of table {0}: {1}",
+                    new Object[] {tablePath, ex.getStatus()});
+            return null;
         }
+    }
 
-        return result;
+    private TableDescription describeKeyBoundsImpl(String tablePath) throws SQLException {
+        YdbTracer tracer = ctx.getTracer();
+        tracer.trace("--> describe table partitions");
+        tracer.trace(tablePath);
+
+        DescribeTableSettings settings = ctx.withDefaultTimeout(new DescribeTableSettings());
+        settings.setIncludeShardKeyBounds(true);
+        CompletableFuture<Result<TableDescription>> future = retryCtx.supplyResult(
+                session -> session.describeTable(tablePath, settings)
+        );
+
+        try {
+            Result<TableDescription> result = future.get();
+            tracer.trace("<-- " + result.getStatus());
+            return result.getValue();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (ExecutionException ex) {
+            throw unwrap(ex.getCause());
+        }
+    }
+
+    private TableDescription describeTableImpl(String tablePath) {
+        return describeTableResult(tablePath).getValue();
+    }
+
+    private ListenableFuture<TableDescription> reloadTableDescription(String tablePath, TableDescription old) {
+        SettableFuture<TableDescription> future = SettableFuture.create();
+        DescribeTableSettings settings = ctx.withDefaultTimeout(new DescribeTableSettings());
+        retryCtx.supplyResult(session -> session.describeTable(tablePath, settings)).whenComplete((res, th) -> {
+            if (res != null && res.isSuccess()) {
+                future.set(res.getValue());
+                return;
+            }
+
+            // keep the old description until the next refresh, but drop it if table doesn't exist anymore
+            future.set(old);
+            if (res != null && res.getStatus().getCode() == StatusCode.SCHEME_ERROR) {
+                tableDescribeCache.invalidate(tablePath);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns the cached value or loads it with the given loader. Concurrent calls with the same key are waiting
+     * for the single loading, so only one remote call is executed for all of them. Failed loadings are not cached.
+     */
+    protected static <K, V> V loadOnce(Cache<K, V> cache, K key, Callable<V> loader) throws SQLException {
+        try {
+            if (cache == null) {
+                return loader.call();
+            }
+            return cache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            throw unwrap(ex.getCause());
+        } catch (ExecutionError ex) {
+            throw (Error) ex.getCause();
+        } catch (Exception ex) {
+            throw unwrap(ex);
+        }
+    }
+
+    private static SQLException unwrap(Throwable th) {
+        if (th instanceof SQLException) {
+            return (SQLException) th;
+        }
+        if (th instanceof RuntimeException) {
+            throw (RuntimeException) th;
+        }
+        return new SQLException(th);
     }
 }
@@ -0,0 +1,400 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tech.ydb.core.grpc.GrpcTransport;
+import tech.ydb.core.grpc.GrpcTransportBuilder;
+import tech.ydb.core.impl.SingleChannelTransport;
+import tech.ydb.core.metrics.Meter;
+import tech.ydb.jdbc.YdbDriverInfo;
+import tech.ydb.jdbc.common.JdbcDriverVersion;
+import tech.ydb.jdbc.settings.YdbClientProperties;
+import tech.ydb.jdbc.settings.YdbConfig;
+import tech.ydb.jdbc.settings.YdbConnectionProperties;
+import tech.ydb.jdbc.settings.YdbOperationProperties;
+import tech.ydb.query.QueryClient;
+import tech.ydb.query.QuerySession;
+import tech.ydb.query.impl.QueryClientImpl;
+import tech.ydb.scheme.SchemeClient;
+import tech.ydb.table.Session;
+import tech.ydb.table.TableClient;
+import tech.ydb.table.impl.PooledTableClient;
+import tech.ydb.table.rpc.grpc.GrpcTableRpc;
+
+/**
+ * Transport and clients of the YDB database. They depend only on connection and client properties, so one instance
+ * may be shared between contexts with different operation and query properties. Clients are closed when the last
+ * context releases them.
+ * <p>
+ * With {@code channelStripesCount} greater than one the clients own several independent transports to the same
+ * database. Every new session is taken from the stripe with the fewest active GRPC streams, so the load of one config
+ * is spread over several HTTP/2 connections to each endpoint
+ */
+public class YdbClients {
+    private static final Logger LOGGER = Logger.getLogger(YdbClients.class.getName());
+
+    private static final int SESSION_POOL_RESIZE_STEP = 50;
+    private static final int SESSION_POOL_RESIZE_THRESHOLD = 10;
+
+    private final Stripe[] stripes;
+    private final SchemeClient schemeClient;
+    private final Meter meter;
+
+    private final boolean autoResizeSessionPool;
+    private final SessionPoolController poolController;
+    private final Runnable onClose;
+
+    private final AtomicInteger connectionsCount = new AtomicInteger();
+    private final AtomicInteger refCount = new AtomicInteger(1);
+
+    private YdbClients(Stripe[] stripes, Meter meter, YdbClientProperties clientProperties, boolean autoResize,
+            Runnable onClose) {
+        this.stripes = stripes;
+        this.schemeClient = SchemeClient.newClient(stripes[0].transport).build();
+        this.meter = meter;
+        this.onClose = onClose;
+
+        List<PooledTableClient> tableClients = new ArrayList<>();
+        List<QueryClientImpl> queryClients = new ArrayList<>();
+        for (Stripe stripe: stripes) {
+            tableClients.add(stripe.tableClient);
+            queryClients.add(stripe.queryClient);
+        }
+
+        this.autoResizeSessionPool = autoResize && !clientProperties.isAdaptiveSessionPool();
+        this.poolController = new SessionPoolController(tableClients, queryClients,
+                clientProperties.getAdaptiveSessionPoolLimit(), meter);
+        if (clientProperties.isAdaptiveSessionPool()) {
+            this.poolController.start(stripes[0].transport.getScheduler());
+        }
+    }
+
+    GrpcTransport getGrpcTransport() {
+        return stripes[0].transport;
+    }
+
+    PooledTableClient getTableClient() {
+        return stripes[0].tableClient;
+    }
+
+    QueryClientImpl getQueryClient() {
+        return stripes[0].queryClient;
+    }
+
+    SchemeClient getSchemeClient() {
+        return schemeClient;
+    }
+
+    Meter getMeter() {
+        return meter;
+    }
+
+    SessionPoolController getSessionPoolController() {
+        return poolController;
+    }
+
+    int getStripesCount() {
+        return stripes.length;
+    }
+
+    int getActiveStreams(int stripe) {
+        return stripes[stripe].streams.getActiveStreams();
+    }
+
+    PooledTableClient getTableClient(int stripe) {
+        return stripes[stripe].tableClient;
+    }
+
+    /**
+     * @return table client of the stripe with the fewest active streams
+     */
+    TableClient selectTableClient() {
+        return leastLoaded().tableClient;
+    }
+
+    /**
+     * @return query client of the stripe with the fewest active streams
+     */
+    QueryClient selectQueryClient() {
+        return leastLoaded().queryClient;
+    }
+
+    private Stripe leastLoaded() {
+        if (stripes.length == 1) {
+            return stripes[0];
+        }
+
+        // random start spreads the stripes with equal load between concurrent callers
+        int start = ThreadLocalRandom.current().nextInt(stripes.length);
+        Stripe best = stripes[start];
+        int bestActive = best.streams.getActiveStreams();
+        for (int idx = 1; idx < stripes.length && bestActive > 0; idx++) {
+            Stripe next = stripes[(start + idx) % stripes.length];
+            int active = next.streams.getActiveStreams();
+            if (active < bestActive) {
+                best = next;
+                bestActive = active;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Increments count of references to the clients
+     *
+     * @return false if the clients are already closed and cannot be used
+     */
+    public boolean retain() {
+        int count = refCount.get();
+        while (count > 0) {
+            if (refCount.compareAndSet(count, count + 1)) {
+                return true;
+            }
+            count = refCount.get();
+        }
+        return false;
+    }
+
+    /**
+     * Decrements count of references to the clients and closes them when it was the last reference
+     */
+    public void release() {
+        if (refCount.decrementAndGet() != 0) {
+            return;
+        }
+
+        poolController.stop();
+        try {
+            schemeClient.close();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Unable to close client: " + e.getMessage(), e);
+        }
+        for (Stripe stripe: stripes) {
+            stripe.close();
+        }
+        onClose.run();
+    }
+
+    public boolean isClosed() {
+        return refCount.get() <= 0;
+    }
+
+    private int getPoolMaxSize() {
+        return stripes[0].tableClient.sessionPoolStats().getMaxSize();
+    }
+
+    private void updatePoolMaxSize(int maxSize, int newSize) {
+        if (maxSize == getPoolMaxSize()) {
+            for (Stripe stripe: stripes) {
+                stripe.tableClient.updatePoolMaxSize(newSize);
+                stripe.queryClient.updatePoolMaxSize(newSize);
+            }
+        }
+    }
+
+    void register() {
+        int actual = connectionsCount.incrementAndGet();
+        int maxSize = getPoolMaxSize();
+        int step = YdbClientProperties.perStripe(SESSION_POOL_RESIZE_STEP, stripes.length);
+        if (autoResizeSessionPool && actual > maxSize * stripes.length - SESSION_POOL_RESIZE_THRESHOLD) {
+            updatePoolMaxSize(maxSize, maxSize + step);
+        }
+    }
+
+    void deregister() {
+        int actual = connectionsCount.decrementAndGet();
+        int maxSize = getPoolMaxSize();
+        int step = YdbClientProperties.perStripe(SESSION_POOL_RESIZE_STEP, stripes.length);
+        if (autoResizeSessionPool && maxSize > step) {
+            int total = maxSize * stripes.length;
+            if (actual < total - SESSION_POOL_RESIZE_STEP - 2 * SESSION_POOL_RESIZE_THRESHOLD) {
+                updatePoolMaxSize(maxSize, maxSize - step);
+            }
+        }
+    }
+
+    /**
+     * Creates the transport and the clients for the given config with own threads. Returned instance has one
+     * reference
+     *
+     * @param config config of the connection
+     * @return new clients
+     * @throws SQLException if the connection cannot be established
+     */
+    public static YdbClients create(YdbConfig config) throws SQLException {
+        return create(config, null);
+    }
+
+    /**
+     * Creates the transport and the clients for the given config. Returned instance has one reference
+     *
+     * @param config config of the connection
+     * @param resources shared thread pools of the driver or null
+     * @return new clients
+     * @throws SQLException if the connection cannot be established
+     */
+    public static YdbClients create(YdbConfig config, YdbSharedResources resources) throws SQLException {
+        LOGGER.log(Level.FINE, "Creating new YDB clients to {0}", config.getConnectionString());
+
+        YdbConnectionProperties connProps = new YdbConnectionProperties(config);
+        YdbClientProperties clientProps = new YdbClientProperties(config);
+        YdbOperationProperties operProps = new YdbOperationProperties(config);
+
+        boolean useSharedScheduler = resources != null && config.isUseSharedScheduler();
+        Executor channelExecutor = resources != null && config.isUseSharedChannelExecutor()
+                ? resources.retainChannelExecutor() : null;
+        Queue<ScheduledExecutorService> schedulers = new ConcurrentLinkedQueue<>();
+        Runnable onClose = () -> {
+            if (useSharedScheduler) {
+                // transport may not shut down the external scheduler, the view must be released anyway
+                ScheduledExecutorService view = schedulers.poll();
+                while (view != null) {
+                    view.shutdown();
+                    view = schedulers.poll();
+                }
+            }
+            if (channelExecutor != null) {
+                resources.releaseChannelExecutor();
+            }
+        };
+
+        Stripe[] stripes = new Stripe[config.getChannelStripesCount()];
+        Meter meter = null;
+        boolean autoResize = false;
+        try {
+            for (int idx = 0; idx < stripes.length; idx++) {
+                ActiveStreamsInterceptor streams = new ActiveStreamsInterceptor();
+                GrpcTransportBuilder builder = GrpcTransport.forConnectionString(config.getConnectionString());
+                JdbcDriverVersion version = JdbcDriverVersion.getInstance();
+                if (version.isSdkVersion(2, 3, 30)) {
+                    // this method is available only on SDK 2.3.30+
+                    builder.withApplicationName(YdbDriverInfo.DRIVER_VERSION);
+                }
+                if (version.isSdkVersion(2, 3, 34)
+                        && (version.isSdkVersion(2, 4, 4) || !version.isSdkVersion(2, 4))) {
+                    // this method is available only on SDK 2.3.34+ and 2.4.4+
+                    builder.withExtraBuildInfo("ydb-jdbc-driver/" + YdbDriverInfo.DRIVER_VERSION);
+                }
+                connProps.applyToGrpcTransport(builder);
+                if (config.isLazyStartup()) {
+                    // discovery is executed in background, context checks readiness before the first query
+                    builder.withInitMode(GrpcTransportBuilder.InitMode.ASYNC);
+                }
+                builder.addChannelInitializer(channel -> channel.intercept(streams));
+
+                if (channelExecutor != null) {
+                    builder.addChannelInitializer(channel -> channel.executor(channelExecutor));
+                }
+
+                if (useSharedScheduler) {
+                    builder.withSchedulerFactory(() -> {
+                        ScheduledExecutorService view = resources.retainScheduler();
+                        schedulers.add(view);
+                        return view;
+                    });
+                } else {
+                    // Use custom single thread scheduler
+                    // because JDBC driver doesn't need to execute retries except for DISCOVERY
+                    String namePrefix = "ydb-jdbc-scheduler[" + config.getClientsKey().hashCode() + "]"
+                            + (idx > 0 ? "[" + idx + "]" : "") + "-thread-";
+                    builder.withSchedulerFactory(() -> {
+                        final AtomicInteger threadNumber = new AtomicInteger(1);
+                        return Executors.newScheduledThreadPool(2, (Runnable r) -> {
+                            Thread t = new Thread(r, namePrefix + threadNumber.getAndIncrement());
+                            t.setDaemon(true);
+                            return t;
+                        });
+                    });
+                }
+
+                GrpcTransport transport = buildTransport(config, builder);
+                try {
+                    PooledTableClient.Builder tb = PooledTableClient.newClient(GrpcTableRpc.useTransport(transport));
+                    QueryClientImpl.Builder qb = QueryClientImpl.newClient(transport);
+                    meter = connProps.applyToClients(tb, qb);
+                    autoResize = clientProps.applyToTableClient(tb, qb, stripes.length);
+                    stripes[idx] = new Stripe(transport, tb.build(), qb.build(), streams);
+                } catch (SQLException | RuntimeException ex) {
+                    transport.close();
+                    throw ex;
+                }
+            }
+        } catch (SQLException | RuntimeException ex) {
+            for (Stripe stripe: stripes) {
+                if (stripe != null) {
+                    stripe.close();
+                }
+            }
+            onClose.run();
+            throw ex;
+        }
+
+        YdbClients clients = new YdbClients(stripes, meter, clientProps, autoResize, onClose);
+        int prewarmCount = YdbClientProperties.perStripe(clientProps.getSessionPoolMinSize(), stripes.length);
+        for (Stripe stripe: stripes) {
+            clients.prewarm(stripe, config, prewarmCount, operProps.getSessionTimeout());
+        }
+        return clients;
+    }
+
+    private static GrpcTransport buildTransport(YdbConfig config, GrpcTransportBuilder builder) throws SQLException {
+        try {
+            return config.isUseDiscovery() ? builder.build() : new SingleChannelTransport(builder);
+        } catch (RuntimeException ex) {
+            StringBuilder sb = new StringBuilder("Cannot connect to YDB: ").append(ex.getMessage());
+            Throwable cause = ex.getCause();
+            while (cause != null) {
+                sb.append(", ").append(cause.getMessage());
+                cause = cause.getCause();
+            }
+            throw new SQLException(sb.toString(), ex);
+        }
+    }
+
+    private void prewarm(Stripe stripe, YdbConfig config, int count, Duration sessionTimeout) {
+        if (config.isUseQueryService()) {
+            poolController.prewarm(count, () -> stripe.queryClient.createSession(sessionTimeout),
+                    QuerySession::close);
+        } else {
+            poolController.prewarm(count, () -> stripe.tableClient.createSession(sessionTimeout),
+                    Session::close);
+        }
+    }
+
+    private static class Stripe {
+        private final GrpcTransport transport;
+        private final PooledTableClient tableClient;
+        private final QueryClientImpl queryClient;
+        private final ActiveStreamsInterceptor streams;
+
+        Stripe(GrpcTransport transport, PooledTableClient tableClient, QueryClientImpl queryClient,
+                ActiveStreamsInterceptor streams) {
+            this.transport = transport;
+            this.tableClient = tableClient;
+            this.queryClient = queryClient;
+            this.streams = streams;
+        }
+
+        void close() {
+            try {
+                queryClient.close();
+                tableClient.close();
+                transport.close();
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Unable to close client: " + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -3,36 +3,44 @@ package tech.ydb.jdbc.context;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.util.Collection;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.UnexpectedResultException;
 import tech.ydb.core.grpc.GrpcTransport;
-import tech.ydb.core.grpc.GrpcTransportBuilder;
-import tech.ydb.core.impl.SingleChannelTransport;
+import tech.ydb.core.metrics.Meter;
 import tech.ydb.core.settings.BaseRequestSettings;
-import tech.ydb.jdbc.YdbDriverInfo;
+import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbPrepareMode;
 import tech.ydb.jdbc.YdbTracer;
-import tech.ydb.jdbc.common.JdbcDriverVersion;
 import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.exception.ExceptionFactory;
 import tech.ydb.jdbc.impl.YdbTracerNone;
 import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.QueryType;
 import tech.ydb.jdbc.query.YdbPreparedQuery;
 import tech.ydb.jdbc.query.YdbQuery;
-import tech.ydb.jdbc.settings.YdbClientProperties;
+import tech.ydb.jdbc.query.YqlBatcher;
 import tech.ydb.jdbc.settings.YdbConfig;
-import tech.ydb.jdbc.settings.YdbConnectionProperties;
 import tech.ydb.jdbc.settings.YdbOperationProperties;
 import tech.ydb.jdbc.settings.YdbQueryProperties;
 import tech.ydb.jdbc.spi.YdbQueryExtentionService;
 import tech.ydb.query.QueryClient;
+import tech.ydb.query.QuerySession;
 import tech.ydb.query.impl.QueryClientImpl;
 import tech.ydb.scheme.SchemeClient;
+import tech.ydb.table.Session;
 import tech.ydb.table.TableClient;
+import tech.ydb.table.description.TableDescription;
 import tech.ydb.table.impl.PooledTableClient;
-import tech.ydb.table.rpc.grpc.GrpcTableRpc;
 import tech.ydb.table.settings.RequestSettings;
 
 /**
@@ -42,9 +50,8 @@ import tech.ydb.table.settings.RequestSettings;
 
 public class YdbContext implements AutoCloseable {
     private static final Logger LOGGER = Logger.getLogger(YdbContext.class.getName());
-
-    private static final int SESSION_POOL_RESIZE_STEP = 50;
-    private static final int SESSION_POOL_RESIZE_THRESHOLD = 10;
+    private static final long STARTUP_RETRY_MS = 100;
+    private static final AtomicInteger STARTUP_THREADS_COUNT = new AtomicInteger();
 
     private final YdbConfig config;
 
@@ -52,6 +59,7 @@ public class YdbContext implements AutoCloseable {
     private final YdbTypes types;
     private final YdbCache cache;
 
+    private final YdbClients clients;
     private final GrpcTransport grpcTransport;
     private final PooledTableClient tableClient;
     private final QueryClientImpl queryClient;
@@ -59,57 +67,94 @@ public class YdbContext implements AutoCloseable {
     private final String prefixPath;
     private final String prefixPragma;
 
-    private final boolean autoResizeSessionPool;
     private final AtomicInteger connectionsCount = new AtomicInteger();
 
     private final YdbQueryExtentionService querySpi;
+    private final WarmupSnapshot warmupSnapshot;
+    private final YdbResultCache resultCache;
+    private final YdbRetryPolicy retryPolicy;
+    private final SessionPoolController poolController;
+    private final QueryHedging queryHedging;
+    private volatile CompletableFuture<Void> startup;
 
     private YdbContext(
             YdbConfig config,
             YdbOperationProperties operationProperties,
             YdbQueryProperties queryProperties,
-            GrpcTransport transport,
-            PooledTableClient tableClient,
-            QueryClientImpl queryClient,
-            boolean autoResize
+            YdbClients clients
     ) {
         this.config = config;
 
         this.operationOptions = operationProperties;
-        this.autoResizeSessionPool = autoResize;
 
-        this.grpcTransport = transport;
-        this.tableClient = tableClient;
-        this.queryClient = queryClient;
-        this.schemeClient = SchemeClient.newClient(transport).build();
+        this.clients = clients;
+        this.grpcTransport = clients.getGrpcTransport();
+        this.tableClient = clients.getTableClient();
+        this.queryClient = clients.getQueryClient();
+        this.schemeClient = clients.getSchemeClient();
+        this.poolController = clients.getSessionPoolController();
+        Meter meter = clients.getMeter();
 
         if (config.hasPrefixPath()) {
-            prefixPath = joined(transport.getDatabase(), config.getPrefixPath());
+            prefixPath = joined(grpcTransport.getDatabase(), config.getPrefixPath());
             prefixPragma = "PRAGMA TablePathPrefix = \"" + prefixPath + "\";\n";
         } else {
-            prefixPath = transport.getDatabase();
+            prefixPath = grpcTransport.getDatabase();
             prefixPragma = "";
         }
 
         this.types = new YdbTypes(operationProperties);
+        this.retryPolicy = new YdbRetryPolicy(operationProperties);
+        this.queryHedging = QueryHedging.create(operationProperties.getHedgingDelay(),
+                operationProperties.getHedgingPercentile());
 
         String queryRewriteTable = operationOptions.getQueryRewriteTable();
         if (queryRewriteTable != null && !queryRewriteTable.isEmpty()) {
             String tablePath = joined(prefixPath, queryRewriteTable);
             this.cache = new YdbQueryRewriteCache(this, tablePath, operationOptions.getQueryRewriteTtl(),
-                    queryProperties, config.getPreparedStatementsCachecSize(), config.isFullScanDetectorEnabled());
+                    queryProperties, config, meter);
         } else {
-            this.cache = new YdbCache(this,
-                    queryProperties, config.getPreparedStatementsCachecSize(), config.isFullScanDetectorEnabled());
+            this.cache = new YdbCache(this, queryProperties, config, meter);
         }
 
+        this.cache.start(grpcTransport.getScheduler());
         this.querySpi = YdbServiceLoader.loadQuerySpi();
+
+        String snapshotFile = config.getWarmupSnapshotFile();
+        if (snapshotFile != null && !snapshotFile.isEmpty()) {
+            this.warmupSnapshot = new WarmupSnapshot(snapshotFile, config.getWarmupSnapshotSize(), cache);
+        } else {
+            this.warmupSnapshot = null;
+        }
+
+        Duration resultCacheTtl = config.getResultCacheTtl();
+        if (!resultCacheTtl.isNegative() && !resultCacheTtl.isZero() && config.getResultCacheWeight() > 0) {
+            this.resultCache = new YdbResultCache(this, resultCacheTtl, config.getResultCacheWeight());
+        } else {
+            this.resultCache = null;
+        }
+
+        this.startup = config.isLazyStartup() ? startInBackground() : null;
+
+        if (warmupSnapshot != null) {
+            Duration interval = config.getWarmupSnapshotInterval();
+            if (startup != null) {
+                // warm-up queries need the ready transport, so the lazy context starts them after the startup
+                startup.thenRun(() -> warmupSnapshot.start(this, interval));
+            } else {
+                warmupSnapshot.start(this, interval);
+            }
+        }
     }
 
     public YdbTypes getTypes() {
         return types;
     }
 
+    public YdbClients getClients() {
+        return clients;
+    }
+
     public GrpcTransport getGrpcTransport() {
         return grpcTransport;
     }
@@ -130,6 +175,51 @@ public class YdbContext implements AutoCloseable {
         return path1.endsWith("/") || path2.startsWith("/") ? path1 + path2 : path1 + "/" + path2;
     }
 
+    Result<TableDescription> describeTable(String tablePath) throws SQLException {
+        return cache.describeTable(tablePath);
+    }
+
+    TableDescription describeTableWithKeyBounds(String tablePath) throws SQLException {
+        return cache.describeTableWithKeyBounds(tablePath);
+    }
+
+    YdbResultCache getResultCache() {
+        return resultCache;
+    }
+
+    QueryHedging getQueryHedging() {
+        return queryHedging;
+    }
+
+    SessionPoolController getSessionPoolController() {
+        return poolController;
+    }
+
+    /**
+     * Invalidates cached results of read-only queries which may read the tables changed by the query
+     *
+     * @param query executed query
+     */
+    public void invalidateQueryResults(YdbQuery query) {
+        if (resultCache == null) {
+            return;
+        }
+
+        if (query.getType() == QueryType.SCHEME_QUERY) {
+            resultCache.invalidateAll();
+            return;
+        }
+
+        if (query.isWriting() || query.getType() == QueryType.BULK_QUERY) {
+            YqlBatcher batcher = query.getYqlBatcher();
+            if (batcher != null) {
+                resultCache.invalidateTable(batcher.getTableName());
+            } else {
+                resultCache.invalidateAll();
+            }
+        }
+    }
+
     public String getPrefixPath() {
         return prefixPath;
     }
@@ -159,13 +249,13 @@ public class YdbContext implements AutoCloseable {
     }
 
     public YdbExecutor createExecutor() throws SQLException {
-        cache.validate();
+        if (startup == null) {
+            validate();
+        }
         if (config.isUseQueryService()) {
             String txValidationTable = operationOptions.getTxValidationTable();
             if (txValidationTable != null && !txValidationTable.isEmpty()) {
-                String tablePath = joined(prefixPath, txValidationTable);
-                TableTxExecutor.validate(this, tablePath, cache.getTableDescriptionCache());
-                return new TableTxExecutor(this, tablePath);
+                return new TableTxExecutor(this, joined(prefixPath, txValidationTable));
             }
             return new QueryServiceExecutor(this);
         } else {
@@ -173,24 +263,138 @@ public class YdbContext implements AutoCloseable {
         }
     }
 
+    private void validate() throws SQLException {
+        cache.validate();
+        if (config.isUseQueryService()) {
+            String txValidationTable = operationOptions.getTxValidationTable();
+            if (txValidationTable != null && !txValidationTable.isEmpty()) {
+                String tablePath = joined(prefixPath, txValidationTable);
+                TableTxExecutor.validate(this, tablePath, cache.getTableDescriptionCache());
+            }
+        }
+    }
+
+    private CompletableFuture<Void> startInBackground() {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        // startup blocks on session creation and validation, so it has own thread instead of the shared pools
+        Thread thread = new Thread(() -> {
+            try {
+                if (awaitTransport(future)) {
+                    validate();
+                    LOGGER.log(Level.FINE, "YDB context to {0} is started", config.getSafeUrl());
+                    future.complete(null);
+                }
+            } catch (SQLException | RuntimeException ex) {
+                future.completeExceptionally(ex);
+            }
+        }, "ydb-jdbc-startup-" + STARTUP_THREADS_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+        return future;
+    }
+
+    /**
+     * Waits until the transport is ready
+     *
+     * @param future future of the startup
+     * @return false if the startup was cancelled by closing of the context
+     * @throws SQLException if the transport is not ready in the startup timeout
+     */
+    private boolean awaitTransport(CompletableFuture<Void> future) throws SQLException {
+        long deadline = System.nanoTime() + config.getStartupTimeout().toNanos();
+        Duration sessionTimeout = operationOptions.getSessionTimeout();
+        while (true) {
+            // the first session is created only after discovery, so it shows that transport is ready
+            Status status;
+            if (config.isUseQueryService()) {
+                Result<QuerySession> session = queryClient.createSession(sessionTimeout).join();
+                if (session.isSuccess()) {
+                    session.getValue().close();
+                }
+                status = session.getStatus();
+            } else {
+                Result<Session> session = tableClient.createSession(sessionTimeout).join();
+                if (session.isSuccess()) {
+                    session.getValue().close();
+                }
+                status = session.getStatus();
+            }
+            if (status.isSuccess()) {
+                return true;
+            }
+            if (future.isDone()) {
+                return false;
+            }
+
+            if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(STARTUP_RETRY_MS) > deadline) {
+                throw ExceptionFactory.createException("Cannot start YDB context",
+                        new UnexpectedResultException("Cannot create session", status));
+            }
+
+            try {
+                Thread.sleep(STARTUP_RETRY_MS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(ex);
+            }
+        }
+    }
+
+    /**
+     * Waits for the background startup of the lazy context. If the startup was failed, the validation is repeated
+     * in the current thread like it does the not lazy context
+     *
+     * @throws SQLException if the startup is not finished in time or the validation is failed
+     */
+    public void awaitStartup() throws SQLException {
+        CompletableFuture<Void> future = startup;
+        if (future == null || (future.isDone() && !future.isCompletedExceptionally())) {
+            return;
+        }
+
+        try {
+            future.get(config.getStartupTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw new SQLException(YdbConst.STARTUP_TIMEOUT + config.getStartupTimeout(), ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (CancellationException ex) {
+            throw new SQLException(YdbConst.CLOSED_CONNECTION, ex);
+        } catch (ExecutionException ex) {
+            LOGGER.log(Level.WARNING, "Background startup of YDB context is failed", ex.getCause());
+            validate();
+            startup = CompletableFuture.completedFuture(null);
+        }
+    }
+
+    CompletableFuture<Void> getStartupFuture() {
+        return startup;
+    }
+
     public int getConnectionsCount() {
         return connectionsCount.get();
     }
 
+    public YdbRetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
     public YdbOperationProperties getOperationProperties() {
         return operationOptions;
     }
 
     @Override
     public void close() {
-        try {
-            schemeClient.close();
-            queryClient.close();
-            tableClient.close();
-            grpcTransport.close();
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Unable to close client: " + e.getMessage(), e);
+        CompletableFuture<Void> future = startup;
+        if (future != null) {
+            future.cancel(false);
         }
+        if (warmupSnapshot != null) {
+            warmupSnapshot.stop();
+        }
+        cache.stop();
+        clients.release();
     }
 
     public boolean hasConnections() {
@@ -198,90 +402,43 @@ public class YdbContext implements AutoCloseable {
     }
 
     public void register() {
-        int actual = connectionsCount.incrementAndGet();
-        int maxSize = tableClient.sessionPoolStats().getMaxSize();
-        if (autoResizeSessionPool && actual > maxSize - SESSION_POOL_RESIZE_THRESHOLD) {
-            int newSize = maxSize + SESSION_POOL_RESIZE_STEP;
-            if (maxSize == tableClient.sessionPoolStats().getMaxSize()) {
-                tableClient.updatePoolMaxSize(newSize);
-                queryClient.updatePoolMaxSize(newSize);
-            }
-        }
+        connectionsCount.incrementAndGet();
+        clients.register();
     }
 
     public void deregister() {
         YdbTracer.clear();
 
-        int actual = connectionsCount.decrementAndGet();
-        int maxSize = tableClient.sessionPoolStats().getMaxSize();
-        if (autoResizeSessionPool && maxSize > SESSION_POOL_RESIZE_STEP) {
-            if (actual < maxSize - SESSION_POOL_RESIZE_STEP - 2 * SESSION_POOL_RESIZE_THRESHOLD) {
-                int newSize = maxSize - SESSION_POOL_RESIZE_STEP;
-                if (maxSize == tableClient.sessionPoolStats().getMaxSize()) {
-                    tableClient.updatePoolMaxSize(newSize);
-                    queryClient.updatePoolMaxSize(newSize);
-                }
-            }
-        }
+        connectionsCount.decrementAndGet();
+        clients.deregister();
     }
 
     public static YdbContext createContext(YdbConfig config) throws SQLException {
-        LOGGER.log(Level.FINE, "Creating new YDB context to {0}", config.getConnectionString());
-        GrpcTransport transport = null;
-
-        YdbConnectionProperties connProps = new YdbConnectionProperties(config);
-        YdbClientProperties clientProps = new YdbClientProperties(config);
-        YdbOperationProperties operProps = new YdbOperationProperties(config);
-        YdbQueryProperties queryProps = new YdbQueryProperties(config);
-
+        YdbClients clients = YdbClients.create(config);
         try {
-            GrpcTransportBuilder builder = GrpcTransport.forConnectionString(config.getConnectionString());
-            JdbcDriverVersion version = JdbcDriverVersion.getInstance();
-            if (version.isSdkVersion(2, 3, 30)) {
-                // this method is available only on SDK 2.3.30+
-                builder.withApplicationName(YdbDriverInfo.DRIVER_VERSION);
-            }
-            if (version.isSdkVersion(2, 3, 34) && (version.isSdkVersion(2, 4, 4) || !version.isSdkVersion(2, 4))) {
-                // this method is available only on SDK 2.3.34+ and 2.4.4+
-                builder.withExtraBuildInfo("ydb-jdbc-driver/" + YdbDriverInfo.DRIVER_VERSION);
-            }
-            connProps.applyToGrpcTransport(builder);
-
-            // Use custom single thread scheduler
-            // because JDBC driver doesn't need to execute retries except for DISCOVERY
-            builder.withSchedulerFactory(() -> {
-                final String namePrefix = "ydb-jdbc-scheduler[" + config.hashCode() + "]-thread-";
-                final AtomicInteger threadNumber = new AtomicInteger(1);
-                return Executors.newScheduledThreadPool(2, (Runnable r) -> {
-                    Thread t = new Thread(r, namePrefix + threadNumber.getAndIncrement());
-                    t.setDaemon(true);
-                    return t;
-                });
-            });
-
-            transport = config.isUseDiscovery() ? builder.build() : new SingleChannelTransport(builder);
-        } catch (RuntimeException ex) {
-            StringBuilder sb = new StringBuilder("Cannot connect to YDB: ").append(ex.getMessage());
-            Throwable cause = ex.getCause();
-            while (cause != null) {
-                sb.append(", ").append(cause.getMessage());
-                cause = cause.getCause();
-            }
-            throw new SQLException(sb.toString(), ex);
-        }
-
-        try {
-            PooledTableClient.Builder tb = PooledTableClient.newClient(GrpcTableRpc.useTransport(transport));
-            QueryClientImpl.Builder qb = QueryClientImpl.newClient(transport);
-            connProps.applyToClients(tb, qb);
-            boolean autoResize = clientProps.applyToTableClient(tb, qb);
-            return new YdbContext(config, operProps, queryProps, transport, tb.build(), qb.build(), autoResize);
+            return createContext(config, clients);
         } catch (SQLException | RuntimeException ex) {
-            transport.close();
+            clients.release();
             throw ex;
         }
     }
 
+    /**
+     * Creates new context which uses the given clients. The context takes the ownership of one reference to the
+     * clients and releases it on close
+     *
+     * @param config config of the context
+     * @param clients retained clients
+     * @return new context
+     * @throws SQLException if the config has invalid properties
+     */
+    public static YdbContext createContext(YdbConfig config, YdbClients clients) throws SQLException {
+        LOGGER.log(Level.FINE, "Creating new YDB context to {0}", config.getConnectionString());
+        YdbOperationProperties operProps = new YdbOperationProperties(config);
+        YdbQueryProperties queryProps = new YdbQueryProperties(config);
+        return new YdbContext(config, operProps, queryProps, clients);
+    }
+
     public <T extends RequestSettings<?>> T withDefaultTimeout(T settings) {
         Duration operation = operationOptions.getDeadlineTimeout();
         if (!operation.isZero() && !operation.isNegative()) {
@@ -304,8 +461,12 @@ public class YdbContext implements AutoCloseable {
         return cache.queryStatsEnabled();
     }
 
-    public void traceQueryByFullScanDetector(YdbQuery query, String yql) {
-        cache.traceQuery(query, yql);
+    public QueryStat traceQueryByFullScanDetector(YdbQuery query, String yql) throws SQLException {
+        return cache.traceQuery(query, yql);
+    }
+
+    public void recordQueryRetry(String yql) {
+        cache.recordRetry(yql);
     }
 
     public void resetFullScanDetector() {
@@ -316,6 +477,10 @@ public class YdbContext implements AutoCloseable {
         return cache.getQueryStats();
     }
 
+    public Collection<CacheStat> getCacheStats() {
+        return cache.getCacheStats();
+    }
+
     public YdbQuery createYdbQuery(String query) throws SQLException {
         return YdbQuery.parseQuery(new QueryKey(query), cache.getQueryOptions(), types);
     }
@@ -325,6 +490,11 @@ public class YdbContext implements AutoCloseable {
     }
 
     public YdbPreparedQuery prepareYdbQuery(YdbQuery query, YdbPrepareMode mode) throws SQLException {
+        awaitStartup();
         return cache.prepareYdbQuery(query, mode);
     }
+
+    public void invalidatePreparedQuery(YdbQuery query) {
+        cache.invalidatePreparedQuery(query);
+    }
 }
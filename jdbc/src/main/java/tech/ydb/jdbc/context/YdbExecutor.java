@@ -1,6 +1,7 @@
 package tech.ydb.jdbc.context;
 
 import java.sql.SQLException;
+import java.util.List;
 
 import tech.ydb.common.transaction.YdbTransaction;
 import tech.ydb.jdbc.YdbQueryResult;
@@ -33,6 +34,8 @@ public interface YdbExecutor {
 
     YdbQueryResult executeSchemeQuery(YdbStatement st, YdbQuery query, String yql, Params prms) throws SQLException;
     YdbQueryResult executeBulkUpsert(YdbStatement st, YdbQuery query, String path, ListValue rows) throws SQLException;
+    YdbQueryResult executeReadRows(YdbStatement st, YdbQuery query, String path, ListValue keys, List<String> columns)
+            throws SQLException;
     YdbQueryResult executeExplainQuery(YdbStatement st, YdbQuery query) throws SQLException;
     YdbQueryResult executeScanQuery(YdbStatement st, YdbQuery query, String yql, Params prms) throws SQLException;
     YdbQueryResult executeDataQuery(YdbStatement st, YdbQuery query, String yql, Params prms) throws SQLException;
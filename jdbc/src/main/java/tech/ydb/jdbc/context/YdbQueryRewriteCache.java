@@ -3,6 +3,14 @@ package tech.ydb.jdbc.context;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
@@ -16,16 +24,24 @@ import tech.ydb.core.Result;
 import tech.ydb.core.Status;
 import tech.ydb.core.StatusCode;
 import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.core.metrics.Meter;
 import tech.ydb.jdbc.exception.ExceptionFactory;
 import tech.ydb.jdbc.query.QueryKey;
 import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbConfig;
 import tech.ydb.jdbc.settings.YdbQueryProperties;
 import tech.ydb.table.description.TableDescription;
 import tech.ydb.table.query.DataQueryResult;
 import tech.ydb.table.query.Params;
 import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.ValueReader;
 import tech.ydb.table.transaction.TxControl;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.PrimitiveType;
 import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.StructType;
+import tech.ydb.table.values.StructValue;
+import tech.ydb.table.values.Value;
 
 /**
  *
@@ -53,26 +69,35 @@ public class YdbQueryRewriteCache extends YdbCache {
             + "DECLARE $q AS Text; "
             + "UPSERT INTO `%s` (hash, query, used_at) VALUES ($h, $q, CurrentUtcTimestamp()) RETURNING rewritten;";
 
+    private static final String BATCH_UPDATE_SQL = ""
+            + "DECLARE $batch AS List<Struct<h:Text, q:Text>>; "
+            + "UPSERT INTO `%s` SELECT h AS hash, q AS query, CurrentUtcTimestamp() AS used_at FROM AS_TABLE($batch) "
+            + "RETURNING hash, rewritten;";
+
+    private static final StructType BATCH_ITEM_TYPE = StructType.of(
+            "h", PrimitiveType.Text,
+            "q", PrimitiveType.Text
+    );
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final String rewriteTable;
     private final Duration rewriteTtl;
     private final Cache<QueryKey, CachedQuery> rewriteCache;
 
+    private final Map<String, CachedQuery> pendingUpdates = new ConcurrentHashMap<>();
+    private final AtomicBoolean isFlushScheduled = new AtomicBoolean(false);
+
     public YdbQueryRewriteCache(YdbContext ctx, String tableName, Duration ttl, YdbQueryProperties options,
-            int cacheSize, boolean fullScanDetector) {
-        super(ctx, options, cacheSize, fullScanDetector);
+            YdbConfig config, Meter meter) {
+        super(ctx, options, config, meter);
         this.rewriteTable = tableName;
         this.rewriteTtl = ttl;
-        this.rewriteCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+        this.rewriteCache = CacheBuilder.newBuilder().maximumSize(config.getParsedQueriesCacheSize()).build();
     }
 
     @Override
     public YdbQuery parseYdbQuery(QueryKey key) throws SQLException {
-        CachedQuery cached = rewriteCache.getIfPresent(key);
-        if (cached == null) {
-            cached = new CachedQuery(key);
-            rewriteCache.put(key, cached);
-        }
-
+        CachedQuery cached = loadOnce(rewriteCache, key, () -> new CachedQuery(key));
         return super.parseYdbQuery(cached.update(key));
     }
 
@@ -124,6 +149,73 @@ public class YdbQueryRewriteCache extends YdbCache {
         }
     }
 
+    private void scheduleUpdate(CachedQuery query) {
+        pendingUpdates.put(query.hash, query);
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (pendingUpdates.isEmpty() || !isFlushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            ctx.getGrpcTransport().getScheduler().execute(this::flushUpdates);
+        } catch (RejectedExecutionException ex) {
+            LOGGER.log(Level.FINE, "Cannot schedule update of rewrite table {0}", rewriteTable);
+            isFlushScheduled.set(false);
+        }
+    }
+
+    private void flushUpdates() {
+        Map<String, CachedQuery> batch = new HashMap<>();
+        Iterator<CachedQuery> it = pendingUpdates.values().iterator();
+        while (it.hasNext() && batch.size() < MAX_BATCH_SIZE) {
+            CachedQuery next = it.next();
+            it.remove();
+            batch.put(next.hash, next);
+        }
+
+        if (batch.isEmpty()) {
+            isFlushScheduled.set(false);
+            scheduleFlush();
+            return;
+        }
+
+        List<Value<?>> items = new ArrayList<>(batch.size());
+        for (CachedQuery cached: batch.values()) {
+            Map<String, Value<?>> item = new HashMap<>();
+            item.put("h", PrimitiveValue.newText(cached.hash));
+            item.put("q", PrimitiveValue.newText(cached.query));
+            items.add(StructValue.of(item));
+        }
+
+        Params params = Params.of("$batch", ListType.of(BATCH_ITEM_TYPE).newValue(items));
+        String updateQuery = String.format(BATCH_UPDATE_SQL, rewriteTable);
+        retryCtx.supplyResult(session -> session.executeDataQuery(updateQuery, TxControl.serializableRw(), params))
+                .whenComplete((res, th) -> {
+                    if (res != null && res.isSuccess()) {
+                        ResultSetReader rs = res.getValue().getResultSet(0);
+                        while (rs.next()) {
+                            CachedQuery cached = batch.get(rs.getColumn("hash").getText());
+                            if (cached != null) {
+                                cached.readRewritten(rs.getColumn("rewritten"));
+                            }
+                        }
+                    } else {
+                        LOGGER.log(Level.WARNING, "Cannot update table {0} -> {1}", new Object[] {
+                            rewriteTable, res != null ? res.getStatus() : th
+                        });
+                        for (CachedQuery cached: batch.values()) {
+                            cached.resetTtl();
+                        }
+                    }
+
+                    isFlushScheduled.set(false);
+                    scheduleFlush();
+                });
+    }
+
     private class CachedQuery {
         private final String hash;
         private final String query;
@@ -140,6 +232,15 @@ public class YdbQueryRewriteCache extends YdbCache {
         public QueryKey update(QueryKey origin) {
             Instant now = Instant.now();
             Instant localTtl = ttl.get();
+
+            // expired rewrite is used until the background update, only the first loading is synchronous
+            if (localTtl != Instant.MIN && localTtl.isBefore(now)) {
+                if (ttl.compareAndSet(localTtl, now.plus(rewriteTtl))) {
+                    scheduleUpdate(this);
+                }
+                localTtl = ttl.get();
+            }
+
             while (localTtl.isBefore(now)) {
                 if (ttl.compareAndSet(localTtl, now.plus(rewriteTtl))) {
                     Params params = Params.of(
@@ -153,9 +254,8 @@ public class YdbQueryRewriteCache extends YdbCache {
 
                     if (res.isSuccess()) {
                         ResultSetReader rs = res.getValue().getResultSet(0);
-                        if (rs.next() && rs.getColumn(0).isOptionalItemPresent()) {
-                            String rewrittenQuery = rs.getColumn(0).getText();
-                            rewritten.set(new QueryKey(rewrittenQuery));
+                        if (rs.next()) {
+                            readRewritten(rs.getColumn(0));
                         }
                     } else {
                         LOGGER.log(Level.WARNING, "Cannot read table {0} -> {1}", new Object[] {
@@ -169,5 +269,18 @@ public class YdbQueryRewriteCache extends YdbCache {
             QueryKey local = rewritten.get();
             return local != null ? local : origin;
         }
+
+        /**
+         * Marks the rewrite as expired, so the failed background update is repeated on the next usage of the query
+         */
+        void resetTtl() {
+            ttl.set(Instant.EPOCH);
+        }
+
+        void readRewritten(ValueReader value) {
+            if (value.isOptionalItemPresent()) {
+                rewritten.set(new QueryKey(value.getText()));
+            }
+        }
     }
 }
@@ -0,0 +1,358 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import tech.ydb.core.Result;
+import tech.ydb.core.StatusCode;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.Value;
+
+/**
+ * Cache of results of read-only queries. Results are kept as immutable protobuf messages, so every cache hit creates
+ * new independent readers. Every table has its own generation which is incremented by each write to this table, the
+ * cached result is valid only while generations of all tables read by the query are not changed. Writes to unknown
+ * tables increment the global generation and so invalidate all cached results. Queries whose set of read tables
+ * cannot be determined reliably are not cached
+ */
+class YdbResultCache {
+    private static final int TABLE_KINDS_CACHE_SIZE = 1000;
+    private static final Pattern IDENTIFIER = Pattern.compile("`[^`]+`|[\\w/.]+");
+    // Statements which may read tables without FROM or JOIN clauses or change the table path prefix
+    private static final Set<String> UNSUPPORTED_KEYWORDS = new HashSet<>(Arrays.asList(
+            "PRAGMA", "PROCESS", "REDUCE", "EVALUATE", "DEFINE", "DO", "EXPORT", "IMPORT"
+    ));
+
+    private final YdbContext ctx;
+    private final Cache<Key, Entry> cache;
+    private final Cache<String, Boolean> tableKinds;
+    private final Map<String, AtomicLong> tableGenerations = new ConcurrentHashMap<>();
+    private final AtomicLong globalGeneration = new AtomicLong();
+
+    YdbResultCache(YdbContext ctx, Duration ttl, long maxWeight) {
+        this.ctx = ctx;
+        this.cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS)
+                .maximumWeight(maxWeight)
+                .weigher((Key key, Entry entry) -> entry.weight)
+                .build();
+        this.tableKinds = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS)
+                .maximumSize(TABLE_KINDS_CACHE_SIZE)
+                .build();
+    }
+
+    /**
+     * Creates the request to the cache
+     *
+     * @param yql query text without the table path prefix pragma
+     * @param params query parameters
+     * @return cache request or null if the query must not be cached
+     * @throws SQLException if the check of the read tables was failed
+     */
+    Request newRequest(String yql, Params params) throws SQLException {
+        List<String> tables = readTables(yql);
+        if (tables == null) {
+            return null;
+        }
+        for (String table: tables) {
+            if (!isTable(table)) {
+                return null;
+            }
+        }
+        return new Request(new Key(yql, params), tables);
+    }
+
+    /**
+     * Invalidates cached results of queries which read the table
+     *
+     * @param table name of the table, relative names are resolved by the table path prefix of the context
+     */
+    void invalidateTable(String table) {
+        tableGenerations.computeIfAbsent(fullPath(table), t -> new AtomicLong()).incrementAndGet();
+    }
+
+    void invalidateAll() {
+        globalGeneration.incrementAndGet();
+        cache.invalidateAll();
+        // scheme query may replace the table by a view
+        tableKinds.invalidateAll();
+    }
+
+    private long tableGeneration(String table) {
+        AtomicLong generation = tableGenerations.get(table);
+        return generation != null ? generation.get() : 0;
+    }
+
+    private String fullPath(String name) {
+        String table = name.startsWith("`") ? name.substring(1, name.length() - 1) : name;
+        return table.startsWith("/") ? table : YdbContext.joined(ctx.getPrefixPath(), table);
+    }
+
+    /**
+     * Views, external tables and other objects which look like tables in FROM clause may read tables with other
+     * names, so only paths described as tables are accepted
+     */
+    private boolean isTable(String path) throws SQLException {
+        Boolean known = tableKinds.getIfPresent(path);
+        if (known != null) {
+            return known;
+        }
+
+        Result<TableDescription> result = ctx.describeTable(path);
+        // transient errors are not remembered
+        if (result.isSuccess() || result.getStatus().getCode() == StatusCode.SCHEME_ERROR) {
+            tableKinds.put(path, result.isSuccess());
+        }
+        return result.isSuccess();
+    }
+
+    /**
+     * Returns full paths of tables read by the query. Every source of FROM and JOIN clauses must be a plain table
+     * name or a subquery; named expressions, table functions and lists of tables are not supported
+     *
+     * @return list of tables or null if the tables cannot be determined
+     */
+    private List<String> readTables(String yql) {
+        List<String> tokens = tokenize(yql);
+        if (tokens == null) {
+            return null;
+        }
+
+        List<String> tables = new ArrayList<>();
+        for (int idx = 0; idx < tokens.size(); idx++) {
+            String token = tokens.get(idx).toUpperCase(Locale.ROOT);
+            if (UNSUPPORTED_KEYWORDS.contains(token)) {
+                return null;
+            }
+            if (!"FROM".equals(token) && !"JOIN".equals(token)) {
+                continue;
+            }
+
+            String source = idx + 1 < tokens.size() ? tokens.get(idx + 1) : "";
+            if ("(".equals(source)) { // tables of subquery are read by its own FROM clauses
+                continue;
+            }
+
+            String next = idx + 2 < tokens.size() ? tokens.get(idx + 2) : "";
+            if (!IDENTIFIER.matcher(source).matches() || "(".equals(next) || ",".equals(next)) {
+                return null;
+            }
+            tables.add(fullPath(source));
+        }
+        return tables;
+    }
+
+    /**
+     * Splits the query to identifiers, named expressions and single symbols. Comments and string literals are
+     * skipped
+     *
+     * @return list of tokens or null if the query has unterminated literal or comment
+     */
+    private static List<String> tokenize(String yql) {
+        List<String> tokens = new ArrayList<>();
+        int pos = 0;
+        while (pos < yql.length()) {
+            char ch = yql.charAt(pos);
+            if (Character.isWhitespace(ch)) {
+                pos++;
+            } else if (yql.startsWith("--", pos)) {
+                int end = yql.indexOf('\n', pos);
+                pos = end < 0 ? yql.length() : end + 1;
+            } else if (yql.startsWith("/*", pos)) {
+                int end = yql.indexOf("*/", pos + 2);
+                if (end < 0) {
+                    return null;
+                }
+                pos = end + 2;
+            } else if (yql.startsWith("@@", pos)) {
+                int end = yql.indexOf("@@", pos + 2);
+                if (end < 0) {
+                    return null;
+                }
+                pos = end + 2;
+            } else if (ch == '\'' || ch == '"') {
+                int end = pos + 1;
+                while (end < yql.length() && yql.charAt(end) != ch) {
+                    end += yql.charAt(end) == '\\' ? 2 : 1;
+                }
+                if (end >= yql.length()) {
+                    return null;
+                }
+                pos = end + 1;
+            } else if (ch == '`') {
+                int end = yql.indexOf('`', pos + 1);
+                if (end < 0) {
+                    return null;
+                }
+                tokens.add(yql.substring(pos, end + 1));
+                pos = end + 1;
+            } else if (ch == '$' || isWordChar(ch)) {
+                int end = pos + 1;
+                while (end < yql.length() && isWordChar(yql.charAt(end))) {
+                    end++;
+                }
+                tokens.add(yql.substring(pos, end));
+                pos = end;
+            } else {
+                tokens.add(String.valueOf(ch));
+                pos++;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isWordChar(char ch) {
+        return Character.isLetterOrDigit(ch) || ch == '_' || ch == '/' || ch == '.';
+    }
+
+    private static ValueProtos.ResultSet toProto(ResultSetReader rs) {
+        ValueProtos.ResultSet.Builder builder = ValueProtos.ResultSet.newBuilder();
+        for (int idx = 0; idx < rs.getColumnCount(); idx++) {
+            builder.addColumns(ValueProtos.Column.newBuilder()
+                    .setName(rs.getColumnName(idx))
+                    .setType(rs.getColumnType(idx).toPb())
+                    .build());
+        }
+
+        for (int row = 0; row < rs.getRowCount(); row++) {
+            rs.setRowIndex(row);
+            ValueProtos.Value.Builder items = ValueProtos.Value.newBuilder();
+            for (int idx = 0; idx < rs.getColumnCount(); idx++) {
+                items.addItems(rs.getColumn(idx).getValue().toPb());
+            }
+            builder.addRows(items.build());
+        }
+        rs.setRowIndex(0);
+
+        return builder.build();
+    }
+
+    class Request {
+        private final Key key;
+        private final List<String> tables;
+        private final long global;
+        private final long[] generations;
+
+        Request(Key key, List<String> tables) {
+            this.key = key;
+            this.tables = tables;
+            // generations are read before the query execution, so concurrent writes will invalidate the result
+            this.global = globalGeneration.get();
+            this.generations = new long[tables.size()];
+            for (int idx = 0; idx < generations.length; idx++) {
+                generations[idx] = tableGeneration(tables.get(idx));
+            }
+        }
+
+        /**
+         * @return new readers of the cached result or null if the result is not cached
+         */
+        ResultSetReader[] get() {
+            Entry entry = cache.getIfPresent(key);
+            if (entry == null) {
+                return null;
+            }
+
+            if (!entry.isValid()) {
+                cache.invalidate(key);
+                return null;
+            }
+
+            ResultSetReader[] readers = new ResultSetReader[entry.results.length];
+            for (int idx = 0; idx < readers.length; idx++) {
+                readers[idx] = ProtoValueReaders.forResultSet(entry.results[idx]);
+            }
+            return readers;
+        }
+
+        void put(ResultSetReader[] readers) {
+            ValueProtos.ResultSet[] results = new ValueProtos.ResultSet[readers.length];
+            long weight = 2L * key.yql.length();
+            for (int idx = 0; idx < readers.length; idx++) {
+                results[idx] = toProto(readers[idx]);
+                weight += results[idx].getSerializedSize();
+            }
+
+            Entry entry = new Entry(this, results, (int) Math.min(Integer.MAX_VALUE, weight));
+            if (entry.isValid()) {
+                cache.put(key, entry);
+            }
+        }
+    }
+
+    private class Entry {
+        private final List<String> tables;
+        private final long global;
+        private final long[] generations;
+        private final ValueProtos.ResultSet[] results;
+        private final int weight;
+
+        Entry(Request request, ValueProtos.ResultSet[] results, int weight) {
+            this.tables = request.tables;
+            this.global = request.global;
+            this.generations = request.generations;
+            this.results = results;
+            this.weight = weight;
+        }
+
+        boolean isValid() {
+            if (global != globalGeneration.get()) {
+                return false;
+            }
+            for (int idx = 0; idx < generations.length; idx++) {
+                if (generations[idx] != tableGeneration(tables.get(idx))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class Key {
+        private final String yql;
+        private final Map<String, Value<?>> params;
+
+        Key(String yql, Params params) {
+            this.yql = yql;
+            this.params = new HashMap<>(params.values());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key other = (Key) o;
+            return yql.equals(other.yql) && params.equals(other.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(yql, params);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import tech.ydb.core.StatusCode;
+import tech.ydb.jdbc.exception.YdbStatusable;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbOperationProperties;
+
+/**
+ * Retry policy of autocommit queries. Read-only queries and queries of connections with enabled
+ * {@code retryIdempotentWrites} are retried with exponential backoff and jitter until the count of attempts or the
+ * time budget is exhausted. Statuses are processed by the rules:
+ * <ul>
+ * <li>BAD_SESSION is always retried immediately, the next attempt uses another session;</li>
+ * <li>SESSION_BUSY is retried immediately;</li>
+ * <li>OVERLOADED and CLIENT_RESOURCE_EXHAUSTED are retried with the slow backoff;</li>
+ * <li>other statuses which are retryable for idempotent operations are retried with the fast backoff.</li>
+ * </ul>
+ * All other queries outside of transactions are retried only on BAD_SESSION
+ */
+public class YdbRetryPolicy {
+    private final int maxRetries;
+    private final long fastBackoffMs;
+    private final long slowBackoffMs;
+    private final long maxBackoffMs;
+    private final long budgetNanos;
+    private final boolean retryWrites;
+
+    YdbRetryPolicy(int maxRetries, Duration fastBackoff, Duration slowBackoff, Duration maxBackoff,
+            Duration budget, boolean retryWrites) {
+        this.maxRetries = maxRetries;
+        this.fastBackoffMs = fastBackoff.toMillis();
+        this.slowBackoffMs = slowBackoff.toMillis();
+        this.maxBackoffMs = maxBackoff.toMillis();
+        this.budgetNanos = budget.toNanos();
+        this.retryWrites = retryWrites;
+    }
+
+    YdbRetryPolicy(YdbOperationProperties props) {
+        this(props.getRetryMaxAttempts(), props.getRetryFastBackoff(), props.getRetrySlowBackoff(),
+                props.getRetryMaxBackoff(), props.getRetryTimeBudget(), props.isRetryIdempotentWrites());
+    }
+
+    /**
+     * Creates new state of retries of one query execution
+     *
+     * @param query query to execute
+     * @param isInsideTx true if the query is executed inside of the already started transaction
+     * @param isAutoCommit true if the query is executed in autocommit mode
+     * @return retry state
+     */
+    public Retry newRetry(YdbQuery query, boolean isInsideTx, boolean isAutoCommit) {
+        boolean useBackoff = isAutoCommit && !isInsideTx && maxRetries > 0 && (query.isReadOnly() || retryWrites);
+        return new Retry(isInsideTx, useBackoff);
+    }
+
+    long backoffMillis(StatusCode code, int attempt) {
+        long base = code == StatusCode.OVERLOADED || code == StatusCode.CLIENT_RESOURCE_EXHAUSTED
+                ? slowBackoffMs : fastBackoffMs;
+        long delay = Math.min(maxBackoffMs, base << Math.min(attempt, 16));
+        // equal jitter keeps at least half of the delay and spreads the rest of concurrent retries
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+    }
+
+    /**
+     * Returns delay before reopening of the failed stream of the resumable scan query. The stream is reopened after
+     * the last read row, so it is retried as a read-only query
+     *
+     * @param code status of the failed stream
+     * @param attempt count of already made reopenings
+     * @param firstFailureAt value of {@link System#nanoTime()} on the first failure of the stream
+     * @return delay in milliseconds or -1 if the stream must not be reopened
+     */
+    public long resumeDelayMillis(StatusCode code, int attempt, long firstFailureAt) {
+        if (attempt >= maxRetries) {
+            return -1;
+        }
+
+        long delay = code == StatusCode.BAD_SESSION || code == StatusCode.SESSION_BUSY ? 0
+                : backoffMillis(code, attempt);
+        if (System.nanoTime() - firstFailureAt + delay * 1000000L > budgetNanos) {
+            return -1;
+        }
+        return delay;
+    }
+
+    public class Retry {
+        private final boolean isInsideTx;
+        private final boolean useBackoff;
+        private final long startedAt = System.nanoTime();
+        private int attempt = 0;
+
+        Retry(boolean isInsideTx, boolean useBackoff) {
+            this.isInsideTx = isInsideTx;
+            this.useBackoff = useBackoff;
+        }
+
+        /**
+         * Checks that the failed execution can be retried
+         *
+         * @param ex error of the execution
+         * @return delay before the next attempt in milliseconds or -1 if the error must be thrown
+         */
+        public long nextDelayMillis(SQLException ex) {
+            if (isInsideTx || !(ex instanceof YdbStatusable)) {
+                return -1;
+            }
+
+            StatusCode code = ((YdbStatusable) ex).getStatus().getCode();
+            if (code == StatusCode.BAD_SESSION) {
+                return 0;
+            }
+
+            if (!useBackoff || !code.isRetryable(true) || attempt >= maxRetries) {
+                return -1;
+            }
+
+            long delay = code == StatusCode.SESSION_BUSY ? 0 : backoffMillis(code, attempt);
+            if (System.nanoTime() - startedAt + delay * 1000000L > budgetNanos) {
+                return -1;
+            }
+
+            attempt++;
+            return delay;
+        }
+    }
+}
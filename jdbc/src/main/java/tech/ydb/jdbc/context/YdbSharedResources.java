@@ -0,0 +1,199 @@
+package tech.ydb.jdbc.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Thread pools shared by all clients of the driver. Every client takes its own view of the pool, the view tracks
+ * scheduled tasks of the client and cancels them on shutdown. The pool itself is stopped when the last view is
+ * released, so the count of threads doesn't depend on the count of connected databases
+ */
+public class YdbSharedResources {
+    private static final Logger LOGGER = Logger.getLogger(YdbSharedResources.class.getName());
+
+    private static final int CPU_COUNT = Runtime.getRuntime().availableProcessors();
+    private static final int SCHEDULER_THREADS = Math.max(2, CPU_COUNT / 2);
+    private static final int CHANNEL_EXECUTOR_THREADS = Math.max(4, CPU_COUNT * 2);
+    private static final int PURGE_THRESHOLD = 64;
+
+    private ScheduledExecutorService scheduler = null;
+    private int schedulerRefs = 0;
+
+    private ExecutorService channelExecutor = null;
+    private int channelExecutorRefs = 0;
+
+    /**
+     * Returns a view of the shared scheduler. Shutdown of the view cancels all tasks scheduled through this view and
+     * releases the reference to the shared scheduler
+     *
+     * @return new view of the shared scheduler
+     */
+    public synchronized ScheduledExecutorService retainScheduler() {
+        if (scheduler == null) {
+            LOGGER.log(Level.FINE, "Start shared scheduler with {0} threads", SCHEDULER_THREADS);
+            scheduler = Executors.newScheduledThreadPool(SCHEDULER_THREADS, daemonFactory("ydb-jdbc-scheduler"));
+        }
+        schedulerRefs++;
+        return new SchedulerView(scheduler);
+    }
+
+    private synchronized void releaseScheduler() {
+        schedulerRefs--;
+        if (schedulerRefs == 0 && scheduler != null) {
+            LOGGER.log(Level.FINE, "Stop shared scheduler");
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Returns the shared executor of GRPC channels. Every call must be followed by one call of
+     * {@link #releaseChannelExecutor() }
+     *
+     * @return shared executor
+     */
+    public synchronized Executor retainChannelExecutor() {
+        if (channelExecutor == null) {
+            LOGGER.log(Level.FINE, "Start shared channel executor with {0} threads", CHANNEL_EXECUTOR_THREADS);
+            channelExecutor = Executors.newFixedThreadPool(CHANNEL_EXECUTOR_THREADS,
+                    daemonFactory("ydb-jdbc-channel-executor"));
+        }
+        channelExecutorRefs++;
+        return channelExecutor;
+    }
+
+    public synchronized void releaseChannelExecutor() {
+        channelExecutorRefs--;
+        if (channelExecutorRefs == 0 && channelExecutor != null) {
+            LOGGER.log(Level.FINE, "Stop shared channel executor");
+            channelExecutor.shutdown();
+            channelExecutor = null;
+        }
+    }
+
+    synchronized int getSchedulerRefs() {
+        return schedulerRefs;
+    }
+
+    synchronized int getChannelExecutorRefs() {
+        return channelExecutorRefs;
+    }
+
+    private static ThreadFactory daemonFactory(String name) {
+        final String namePrefix = name + "-thread-";
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        return (Runnable r) -> {
+            Thread t = new Thread(r, namePrefix + threadNumber.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    private class SchedulerView extends AbstractExecutorService implements ScheduledExecutorService {
+        private final ScheduledExecutorService delegate;
+        private final Set<ScheduledFuture<?>> tasks = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+
+        SchedulerView(ScheduledExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        private <T extends ScheduledFuture<?>> T track(T future) {
+            if (tasks.size() >= PURGE_THRESHOLD) {
+                tasks.removeIf(ScheduledFuture::isDone);
+            }
+            tasks.add(future);
+            if (isShutdown.get()) {
+                future.cancel(false);
+            }
+            return future;
+        }
+
+        private void checkShutdown() {
+            if (isShutdown.get()) {
+                throw new RejectedExecutionException("Scheduler is already shut down");
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            checkShutdown();
+            delegate.execute(command);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            checkShutdown();
+            return track(delegate.schedule(command, delay, unit));
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            checkShutdown();
+            return track(delegate.schedule(callable, delay, unit));
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period,
+                TimeUnit unit) {
+            checkShutdown();
+            return track(delegate.scheduleAtFixedRate(command, initialDelay, period, unit));
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+                TimeUnit unit) {
+            checkShutdown();
+            return track(delegate.scheduleWithFixedDelay(command, initialDelay, delay, unit));
+        }
+
+        @Override
+        public void shutdown() {
+            if (isShutdown.compareAndSet(false, true)) {
+                for (ScheduledFuture<?> task: tasks) {
+                    task.cancel(false);
+                }
+                tasks.clear();
+                releaseScheduler();
+            }
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown();
+            return new ArrayList<>();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return isShutdown.get();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return isShutdown.get();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return isShutdown.get();
+        }
+    }
+}
@@ -93,11 +93,13 @@ public class YdbConnectionImpl implements YdbConnection {
 
     @Override
     public void commit() throws SQLException {
+        awaitStartup();
         executor.commit(ctx, validator);
     }
 
     @Override
     public void rollback() throws SQLException {
+        awaitStartup();
         executor.rollback(ctx, validator);
     }
 
@@ -259,7 +261,14 @@ public class YdbConnectionImpl implements YdbConnection {
         validator.clearWarnings();
         YdbQuery query = ctx.parseYdbQuery(key);
         YdbPreparedQuery params = ctx.prepareYdbQuery(query, mode);
-        return new YdbPreparedStatementImpl(this, query, params, resultSetType);
+        return new YdbPreparedStatementImpl(this, query, params, mode, resultSetType);
+    }
+
+    private void awaitStartup() throws SQLException {
+        // close() commits too, so the connection without transaction doesn't wait for the lazy context
+        if (executor.isInsideTransaction()) {
+            ctx.awaitStartup();
+        }
     }
 
     @Override
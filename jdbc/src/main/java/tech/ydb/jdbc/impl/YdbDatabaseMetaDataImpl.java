@@ -116,7 +116,8 @@ public class YdbDatabaseMetaDataImpl implements YdbDatabaseMetaData {
     }
 
     @Override
-    public String getDatabaseProductVersion() {
+    public String getDatabaseProductVersion() throws SQLException {
+        connection.getCtx().awaitStartup();
         return connection.getCtx().getDatabaseVersion();
     }
 
@@ -1355,6 +1356,7 @@ public class YdbDatabaseMetaDataImpl implements YdbDatabaseMetaData {
     }
 
     private List<String> listTables(Predicate<String> filter) throws SQLException {
+        connection.getCtx().awaitStartup();
         String databaseWithSuffix = withSuffix(connection.getCtx().getPrefixPath());
         return tables(databaseWithSuffix, databaseWithSuffix, filter);
     }
@@ -1405,6 +1407,7 @@ public class YdbDatabaseMetaDataImpl implements YdbDatabaseMetaData {
 
     @SuppressWarnings("null")
     private TableDescription describeTable(String table) throws SQLException {
+        connection.getCtx().awaitStartup();
         DescribeTableSettings settings = connection.getCtx().withDefaultTimeout(new DescribeTableSettings());
 
         String databaseWithSuffix = withSuffix(connection.getCtx().getPrefixPath());
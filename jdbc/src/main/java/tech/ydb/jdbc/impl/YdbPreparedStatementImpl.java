@@ -26,30 +26,163 @@ import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
 
+import tech.ydb.core.StatusCode;
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbParameterMetaData;
+import tech.ydb.jdbc.YdbPrepareMode;
 import tech.ydb.jdbc.YdbPreparedStatement;
 import tech.ydb.jdbc.YdbQueryResult;
 import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.common.MappingSetters;
+import tech.ydb.jdbc.context.YdbContext;
+import tech.ydb.jdbc.context.YdbExecutor;
+import tech.ydb.jdbc.exception.YdbStatusable;
 import tech.ydb.jdbc.query.QueryType;
 import tech.ydb.jdbc.query.YdbPreparedQuery;
 import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.params.BatchedQuery;
 import tech.ydb.jdbc.query.params.BulkUpsertQuery;
+import tech.ydb.jdbc.query.params.KeyLookupQuery;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.values.ListValue;
 import tech.ydb.table.values.Type;
 
 public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPreparedStatement {
     private static final Logger LOGGER = Logger.getLogger(YdbPreparedStatementImpl.class.getName());
     private final YdbQuery query;
-    private final YdbPreparedQuery prepared;
+    private final YdbPrepareMode mode;
+    private YdbPreparedQuery prepared;
 
-    public YdbPreparedStatementImpl(YdbConnection connection, YdbQuery query, YdbPreparedQuery prepared, int rsType) {
+    public YdbPreparedStatementImpl(YdbConnection connection, YdbQuery query, YdbPreparedQuery prepared,
+            YdbPrepareMode mode, int rsType) {
         super(LOGGER, connection, rsType, true); // is poolable by default
 
         this.query = Objects.requireNonNull(query);
         this.prepared = Objects.requireNonNull(prepared);
+        this.mode = Objects.requireNonNull(mode);
+    }
+
+    /**
+     * Batched queries are built from the cached table description. If the table was changed, the server returns
+     * SCHEME_ERROR, in that case the description is invalidated and the query is prepared again. Values of the
+     * parameters are already converted to the types of the old query, so the failed execution can be repeated only
+     * outside of a transaction and only if the new query has the same kind and the same parameter types. Otherwise
+     * the statement keeps its parameters and only the next prepare of the query uses the new description.
+     *
+     * @param ex error of the execution
+     * @param isRepeatable false if the failed execution cannot be repeated in any case
+     * @return true if the query was prepared again and the failed execution must be repeated
+     * @throws SQLException the origin error if the new prepare is failed
+     */
+    private boolean reprepareOnSchemeError(SQLException ex, boolean isRepeatable) throws SQLException {
+        if (!(prepared instanceof BatchedQuery) || !(ex instanceof YdbStatusable)) {
+            return false;
+        }
+        if (((YdbStatusable) ex).getStatus().getCode() != StatusCode.SCHEME_ERROR) {
+            return false;
+        }
+
+        YdbContext ctx = getConnection().getCtx();
+        ctx.invalidatePreparedQuery(query);
+        if (!isRepeatable || getConnection().getExecutor().isInsideTransaction()) {
+            return false;
+        }
+
+        YdbPreparedQuery reprepared;
+        try {
+            reprepared = ctx.prepareYdbQuery(query, mode);
+        } catch (SQLException prepareEx) {
+            ex.addSuppressed(prepareEx);
+            throw ex;
+        }
+
+        if (reprepared.getClass() != prepared.getClass() || !hasSameParameters(prepared, reprepared)) {
+            return false;
+        }
+
+        prepared.clearParameters();
+        prepared.clearBatch();
+        prepared = reprepared;
+        return true;
+    }
+
+    private static boolean hasSameParameters(YdbPreparedQuery first, YdbPreparedQuery second) throws SQLException {
+        if (first.parametersCount() != second.parametersCount()) {
+            return false;
+        }
+        for (int idx = 1; idx <= first.parametersCount(); idx++) {
+            if (!first.getNameByIndex(idx).equals(second.getNameByIndex(idx))) {
+                return false;
+            }
+            String firstType = first.getDescription(idx).toYqlLiteral();
+            if (!firstType.equals(second.getDescription(idx).toYqlLiteral())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String getQueryText(Params prm, boolean isBatch) {
+        return isBatch ? prepared.getBatchText(prm) : prepared.getQueryText(prm);
+    }
+
+    private YdbQueryResult executeBatchedDataQuery(Params prm, boolean isBatch) throws SQLException {
+        try {
+            return executeDataQuery(query, getQueryText(prm, isBatch), prm);
+        } catch (SQLException ex) {
+            if (!reprepareOnSchemeError(ex, true)) {
+                throw ex;
+            }
+            return executeDataQuery(query, getQueryText(prm, isBatch), prm);
+        }
+    }
+
+    private YdbQueryResult executeMultiBatchQuery(List<Params> prms) throws SQLException {
+        try {
+            return executeBatchQuery(query, prepared::getBatchText, prms);
+        } catch (SQLException ex) {
+            // the batch is sent as several statements, so it is never repeated, but the next prepare will use
+            // the new description of the table
+            reprepareOnSchemeError(ex, false);
+            throw ex;
+        }
+    }
+
+    /**
+     * ReadRows reads the last committed data without any transaction, so it may replace only autocommit queries
+     */
+    private boolean canUseReadRows(KeyLookupQuery lookup) throws SQLException {
+        YdbExecutor executor = getConnection().getExecutor();
+        return lookup.isUseReadRows() && executor.isAutoCommit() && !executor.isInsideTransaction();
+    }
+
+    private YdbQueryResult executeKeyLookup(Params prm) throws SQLException {
+        KeyLookupQuery lookup = (KeyLookupQuery) prepared;
+        ListValue keys = lookup.getCurrentKeys();
+        if (keys == null) {
+            return executeBatchedDataQuery(prm, false);
+        }
+
+        try {
+            return executeReadRows(query, lookup.getTablePath(), keys, lookup.getColumns());
+        } catch (SQLException ex) {
+            if (!reprepareOnSchemeError(ex, true)) {
+                throw ex;
+            }
+            return executeBatchedDataQuery(prm, false);
+        }
+    }
+
+    private YdbQueryResult executeBulkUpsert(ListValue rows) throws SQLException {
+        try {
+            return executeBulkUpsert(query, ((BulkUpsertQuery) prepared).getTablePath(), rows);
+        } catch (SQLException ex) {
+            if (!reprepareOnSchemeError(ex, true)) {
+                throw ex;
+            }
+            return executeBulkUpsert(query, ((BulkUpsertQuery) prepared).getTablePath(), rows);
+        }
     }
 
     @Override
@@ -95,16 +228,15 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
         try {
             if (query.getType() == QueryType.BULK_QUERY && (prepared instanceof BulkUpsertQuery)) {
                 BulkUpsertQuery bulk = (BulkUpsertQuery) prepared;
-                YdbQueryResult newState = executeBulkUpsert(query, bulk.getTablePath(), bulk.getBatchedBulk());
+                YdbQueryResult newState = executeBulkUpsert(bulk.getBatchedBulk());
                 updateState(newState);
             } else {
                 List<Params> prms = prepared.getBatchParams();
                 if (prms.size() == 1) {
-                    Params prm = prms.get(0);
-                    YdbQueryResult newState = executeDataQuery(query, prepared.getBatchText(prm), prm);
+                    YdbQueryResult newState = executeBatchedDataQuery(prms.get(0), true);
                     updateState(newState);
                 } else {
-                    YdbQueryResult newState = executeBatchQuery(query, prepared::getBatchText, prms);
+                    YdbQueryResult newState = executeMultiBatchQuery(prms);
                     updateState(newState);
                 }
             }
@@ -141,7 +273,13 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
         Params prms = prepared.getCurrentParams();
         switch (query.getType()) {
             case DATA_QUERY:
-                newState = executeDataQuery(query, prepared.getQueryText(prms), prms);
+                if (prepared instanceof KeyLookupQuery && canUseReadRows((KeyLookupQuery) prepared)) {
+                    newState = executeKeyLookup(prms);
+                } else if (prepared instanceof BatchedQuery) {
+                    newState = executeBatchedDataQuery(prms, false);
+                } else {
+                    newState = executeDataQuery(query, prepared.getQueryText(prms), prms);
+                }
                 break;
             case SCAN_QUERY:
                 newState = executeScanQuery(query, prepared.getQueryText(prms), prms);
@@ -155,7 +293,7 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
             case BULK_QUERY:
                 if (prepared instanceof BulkUpsertQuery) {
                     BulkUpsertQuery bulk = (BulkUpsertQuery) prepared;
-                    newState = executeBulkUpsert(query, bulk.getTablePath(), bulk.getCurrentBulk());
+                    newState = executeBulkUpsert(bulk.getCurrentBulk());
                 } else {
                     throw new IllegalStateException(
                             "Internal error. Incorrect class of bulk prepared query " + prepared.getClass()
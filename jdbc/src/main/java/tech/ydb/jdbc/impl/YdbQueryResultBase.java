@@ -7,6 +7,7 @@ import java.util.List;
 
 import tech.ydb.jdbc.YdbQueryResult;
 import tech.ydb.jdbc.YdbResultSet;
+import tech.ydb.jdbc.context.QueryStat;
 import tech.ydb.jdbc.query.QueryStatement;
 import tech.ydb.jdbc.query.YdbQuery;
 
@@ -38,12 +39,23 @@ public abstract class YdbQueryResultBase implements YdbQueryResult {
     private final List<ResultMeta> results;
     private int resultIndex;
 
+    private QueryStat stat = null;
+    private long uncountedRows = 0;
+
     public YdbQueryResultBase(int index) { // single query result
         this.results = new ArrayList<>();
         this.resultIndex = 0;
         this.results.add(new ResultMeta(-1, index, false));
     }
 
+    public YdbQueryResultBase(int[] indexes) { // sequence of results without query
+        this.results = new ArrayList<>();
+        this.resultIndex = 0;
+        for (int index: indexes) {
+            this.results.add(new ResultMeta(-1, index, false));
+        }
+    }
+
     public YdbQueryResultBase(YdbQuery query, int rsCount) {
         this.results = new ArrayList<>();
         this.resultIndex = 0;
@@ -76,6 +88,31 @@ public abstract class YdbQueryResultBase implements YdbQueryResult {
     protected abstract YdbResultSet getResultSet(int index) throws SQLException;
     protected abstract void closeResultSet(int index) throws SQLException;
 
+    /**
+     * Counts rows received by the result. Streamed results receive rows after the execution, so rows are kept until
+     * the statistics of the query is attached by {@link #recordRowsTo(QueryStat)}
+     *
+     * @param count count of received rows
+     */
+    protected synchronized void countRows(long count) {
+        if (stat != null) {
+            stat.addRows(count);
+        } else {
+            uncountedRows += count;
+        }
+    }
+
+    /**
+     * Attaches the statistics of the query, all rows received by the result are added to it
+     *
+     * @param queryStat statistics of the query
+     */
+    public synchronized void recordRowsTo(QueryStat queryStat) {
+        this.stat = queryStat;
+        queryStat.addRows(uncountedRows);
+        uncountedRows = 0;
+    }
+
     @Override
     public void close() throws SQLException {
         for (ResultMeta meta: results) {
@@ -0,0 +1,386 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.core.grpc.GrpcFlowControl;
+import tech.ydb.core.grpc.GrpcReadStream;
+import tech.ydb.jdbc.YdbResultSet;
+import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.common.ColumnInfo;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.exception.ExceptionFactory;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.table.result.ResultSetReader;
+
+/**
+ * Result of the query executed by several concurrent streams. Rows of streams are returned as one forward-only
+ * result set either in order of arrival or stream by stream. In both modes the streams are read concurrently, every
+ * stream buffers at most {@link #MAX_BUFFERED_PARTS} parts, so in the ordered mode the streams of the next ranges
+ * are paused by flow control until their rows are requested
+ */
+public class YdbQueryResultParallel extends YdbQueryResultBase {
+    private static final int MAX_BUFFERED_PARTS = 4;
+
+    private final YdbTypes types;
+    private final YdbStatement statement;
+    private final boolean isOrdered;
+    private final Stream[] streams;
+    private final int maxActiveStreams;
+    private final AtomicInteger nextStream = new AtomicInteger(0);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition isReady = lock.newCondition();
+    private final CompletableFuture<Status> firstResult = new CompletableFuture<>();
+    private final AtomicInteger activeStreams;
+
+    private volatile Status error = null;
+    private YdbResultSet rs = null;
+    private volatile boolean isClosed = false;
+
+    public YdbQueryResultParallel(YdbTypes types, YdbStatement statement, YdbQuery query, int streamsCount,
+            boolean isOrdered, int maxActiveStreams) {
+        super(query, 1);
+        this.types = types;
+        this.statement = statement;
+        this.isOrdered = isOrdered;
+        this.maxActiveStreams = Math.max(1, maxActiveStreams);
+        this.streams = new Stream[streamsCount];
+        for (int idx = 0; idx < streamsCount; idx++) {
+            streams[idx] = new Stream();
+        }
+        this.activeStreams = new AtomicInteger(streamsCount);
+    }
+
+    public GrpcFlowControl getFlowControl(int index) {
+        return streams[index];
+    }
+
+    /**
+     * Registers the stream of the range. Streams are opened by {@link #start()} in order of their indexes, at most
+     * {@code maxActiveStreams} of them are read at the same time and the next one is opened when some of them is
+     * completed
+     *
+     * @param index index of the stream
+     * @param opener supplier of the grpc stream
+     * @param onClose callback on stream completion, it is called for streams which were not opened too
+     */
+    public void register(int index, Supplier<GrpcReadStream<ResultSetReader>> opener, Runnable onClose) {
+        streams[index].opener = opener;
+        streams[index].onClose = onClose;
+    }
+
+    /**
+     * Opens registered streams
+     */
+    public void start() {
+        int count = Math.min(maxActiveStreams, streams.length);
+        for (int idx = 0; idx < count; idx++) {
+            startNextStream();
+        }
+    }
+
+    private void startNextStream() {
+        int index = nextStream.getAndIncrement();
+        if (index < streams.length) {
+            startStream(index);
+        }
+    }
+
+    private void startStream(int index) {
+        Stream s = streams[index];
+        if (error != null || isClosed) {
+            onStreamCompleted(index);
+            return;
+        }
+
+        GrpcReadStream<ResultSetReader> stream = s.opener.get();
+        s.canceller = stream::cancel;
+        stream.start(s::offer).whenComplete((status, th) -> {
+            if (th != null) {
+                onError(Status.of(StatusCode.CLIENT_INTERNAL_ERROR, th));
+            } else if (!status.isSuccess()) {
+                onError(status);
+            }
+            onStreamCompleted(index);
+        });
+
+        // result may be closed or failed while the stream was opening
+        if (error != null || isClosed) {
+            s.cancel();
+        }
+    }
+
+    private void onStreamCompleted(int index) {
+        Stream s = streams[index];
+        s.onClose.run();
+        s.isCompleted = true;
+
+        startNextStream();
+
+        if (activeStreams.decrementAndGet() == 0) {
+            firstResult.complete(Status.SUCCESS);
+        }
+        releaseWaiters();
+    }
+
+    /**
+     * @return future which is completed by the first received part, the first error or the end of all streams
+     */
+    public CompletableFuture<Status> getFirstResult() {
+        return firstResult;
+    }
+
+    /**
+     * Reads all the streams to memory
+     *
+     * @return result set with all rows
+     * @throws SQLException if one of streams was failed
+     */
+    public YdbResultSet readAll() throws SQLException {
+        List<ResultSetReader> parts = new ArrayList<>();
+        ResultSetReader next = nextPart();
+        while (next != null) {
+            parts.add(next);
+            next = nextPart();
+        }
+
+        if (parts.isEmpty()) {
+            return null;
+        }
+        return new YdbResultSetMemory(types, statement, parts.toArray(new ResultSetReader[0]));
+    }
+
+    private void onError(Status status) {
+        if (error == null) {
+            error = status;
+            for (Stream s: streams) {
+                s.cancel();
+            }
+        }
+        firstResult.complete(status);
+    }
+
+    private void waitForUpdates() throws SQLException {
+        lock.lock();
+        try {
+            isReady.await(100, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseWaiters() {
+        lock.lock();
+        try {
+            isReady.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkError() throws SQLException {
+        Status status = error;
+        if (status != null) {
+            throw ExceptionFactory.createException("Cannot read parallel stream",
+                    new UnexpectedResultException("Stream failed", status));
+        }
+    }
+
+    /**
+     * Returns the next part of rows, waits for it if needed
+     *
+     * @return the next part or null if all streams are completed
+     */
+    private ResultSetReader nextPart() throws SQLException {
+        int current = 0;
+        while (true) {
+            checkError();
+
+            if (isOrdered) {
+                while (current < streams.length && streams[current].isCompleted && streams[current].isEmpty()) {
+                    current++;
+                }
+                if (current >= streams.length) {
+                    return null;
+                }
+
+                ResultSetReader next = streams[current].poll();
+                if (next != null) {
+                    return next;
+                }
+            } else {
+                boolean allCompleted = true;
+                for (Stream s: streams) {
+                    ResultSetReader next = s.poll();
+                    if (next != null) {
+                        return next;
+                    }
+                    allCompleted = allCompleted && s.isCompleted && s.isEmpty();
+                }
+                if (allCompleted) {
+                    return null;
+                }
+            }
+
+            waitForUpdates();
+        }
+    }
+
+    private ResultSetReader peekPart() throws SQLException {
+        while (true) {
+            checkError();
+
+            boolean allCompleted = true;
+            for (Stream s: streams) {
+                ResultSetReader next = s.queue.peek();
+                if (next != null) {
+                    return next;
+                }
+                allCompleted = allCompleted && s.isCompleted && s.isEmpty();
+            }
+            if (allCompleted) {
+                return null;
+            }
+
+            waitForUpdates();
+        }
+    }
+
+    @Override
+    protected YdbResultSet getResultSet(int index) throws SQLException {
+        if (index != 0 || isClosed) {
+            return null;
+        }
+
+        if (rs != null) {
+            return rs;
+        }
+
+        ResultSetReader first = peekPart();
+        if (first == null) {
+            return null;
+        }
+
+        ColumnInfo[] columns = ColumnInfo.fromResultSetReader(types, first);
+        rs = new YdbResultSetForwardOnly(statement, columns) {
+            private ResultSetReader prefetched = null;
+
+            @Override
+            protected boolean hasNext() throws SQLException {
+                if (prefetched == null) {
+                    prefetched = nextPart();
+                }
+                return prefetched != null;
+            }
+
+            @Override
+            protected ResultSetReader readNext() throws SQLException {
+                ResultSetReader next = prefetched;
+                prefetched = null;
+                return next;
+            }
+        };
+        return rs;
+    }
+
+    @Override
+    protected void closeResultSet(int index) throws SQLException {
+        if (index != 0) {
+            return;
+        }
+
+        isClosed = true;
+        if (rs != null) {
+            rs.close();
+        }
+
+        for (Stream s: streams) {
+            s.cancel();
+        }
+    }
+
+    private class Stream implements GrpcFlowControl {
+        private final ConcurrentLinkedQueue<ResultSetReader> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger buffered = new AtomicInteger(0);
+        private final AtomicBoolean isPaused = new AtomicBoolean(false);
+
+        private volatile Supplier<GrpcReadStream<ResultSetReader>> opener = null;
+        private volatile Runnable onClose = null;
+        private volatile IntConsumer request = null;
+        private volatile Runnable canceller = null;
+        private volatile boolean isCompleted = false;
+
+        @Override
+        public Call newCall(IntConsumer req) {
+            request = req;
+            return new Call() {
+                @Override
+                public void onStart() {
+                    req.accept(1);
+                }
+
+                @Override
+                public void onMessageRead() {
+                    if (buffered.get() < MAX_BUFFERED_PARTS) {
+                        req.accept(1);
+                        return;
+                    }
+
+                    // consumer may read the buffer between check and pause
+                    isPaused.set(true);
+                    if (buffered.get() < MAX_BUFFERED_PARTS && isPaused.compareAndSet(true, false)) {
+                        req.accept(1);
+                    }
+                }
+            };
+        }
+
+        void offer(ResultSetReader part) {
+            countRows(part.getRowCount());
+            buffered.incrementAndGet();
+            queue.offer(part);
+            firstResult.complete(Status.SUCCESS);
+            releaseWaiters();
+        }
+
+        boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        ResultSetReader poll() {
+            ResultSetReader next = queue.poll();
+            if (next != null) {
+                buffered.decrementAndGet();
+                IntConsumer req = request;
+                if (req != null && isPaused.compareAndSet(true, false)) {
+                    req.accept(1);
+                }
+            }
+            return next;
+        }
+
+        void cancel() {
+            Runnable c = canceller;
+            if (!isCompleted && c != null) {
+                c.run();
+            }
+        }
+    }
+}
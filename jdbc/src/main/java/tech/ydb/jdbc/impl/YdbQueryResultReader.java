@@ -3,11 +3,15 @@ package tech.ydb.jdbc.impl;
 
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -30,6 +34,7 @@ import tech.ydb.query.QueryStream;
 import tech.ydb.query.result.QueryResultPart;
 import tech.ydb.query.result.QueryStats;
 import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.Value;
 
 /**
  *
@@ -38,6 +43,38 @@ import tech.ydb.table.result.ResultSetReader;
 public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlowControl {
     private static final Logger LOGGER = Logger.getLogger(YdbQueryResultReader.class.getName());
 
+    private static final Set<StatusCode> RESUMABLE_CODES = EnumSet.of(
+            StatusCode.ABORTED, StatusCode.UNAVAILABLE, StatusCode.OVERLOADED, StatusCode.BAD_SESSION,
+            StatusCode.SESSION_BUSY, StatusCode.TRANSPORT_UNAVAILABLE, StatusCode.UNDETERMINED
+    );
+
+    /**
+     * Source of the stream which continues the failed stream after the last read key
+     */
+    public interface StreamResumer {
+        /**
+         * @return names of key columns, the rows of the stream are sorted by them
+         */
+        List<String> getKeyColumns();
+
+        /**
+         * Opens the new stream with the rows after the given key, the stream must use this reader as flow control
+         *
+         * @param lastKey values of key columns of the last read row or null if no rows were read
+         * @return new stream or null if the stream cannot be resumed
+         * @throws SQLException if the new stream cannot be opened
+         */
+        GrpcReadStream<ResultSetReader> resume(Value<?>[] lastKey) throws SQLException;
+
+        /**
+         * @param status status of the failed stream
+         * @param attempt count of already made reopenings
+         * @param firstFailureAt value of {@link System#nanoTime()} on the first failure of the stream
+         * @return delay before the next reopening in milliseconds or -1 if the stream must not be reopened
+         */
+        long resumeDelayMillis(Status status, int attempt, long firstFailureAt);
+    }
+
     private final YdbTypes types;
     private final YdbStatement statement;
     private final int fetchSize;
@@ -48,7 +85,13 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
 
     private int lastRsIndex = 0;
     private CallCtrl callFlow = null;
-    private Runnable canceller = null;
+    private volatile Runnable canceller = null;
+
+    private StreamResumer resumer = null;
+    private final AtomicReference<Status> resumeStatus = new AtomicReference<>();
+    private Value<?>[] lastKey = null;
+    private int resumeAttempts = 0;
+    private long firstFailureAt = 0;
 
     private volatile boolean isStreamCompleted = false;
 
@@ -87,6 +130,11 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
     public void close() throws SQLException {
         super.close();
 
+        Status failed = resumeStatus.getAndSet(null);
+        if (failed != null) {
+            onClose(failed, null);
+        }
+
         if (!isStreamCompleted) {
             waitForUpdates();
             if (!isStreamCompleted && canceller != null) {
@@ -102,6 +150,7 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
 
     public boolean onRead(int index, ResultSetReader rsr) {
         int count = rsr.getRowCount();
+        countRows(count);
         if (index < 0 || index >= rs.length || rs[index].isClosed) {
             LOGGER.log(Level.FINEST, "Skipped {0} rows", count);
             releaseWaiters();
@@ -132,7 +181,8 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
 
     @Override
     public Call newCall(IntConsumer req) {
-        callFlow = new CallCtrl(req);
+        // the resumed stream inherits the count of not processed rows of the failed one
+        callFlow = new CallCtrl(req, callFlow != null ? callFlow.loaded.get() : 0);
         return callFlow;
     }
 
@@ -161,13 +211,79 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
 
     public CompletableFuture<Status> load(GrpcReadStream<ResultSetReader> stream) {
         CompletableFuture<Status> resultIsReady = new CompletableFuture<>();
+        loadStream(stream, resultIsReady);
+        return resultIsReady;
+    }
+
+    /**
+     * Starts reading of the stream which can be continued by the new stream after transient failures. The result set
+     * of such stream is always forward only, the failed stream is resumed when the reader has processed all its rows
+     *
+     * @param stream grpc stream
+     * @param streamResumer source of new streams
+     * @return future which is completed by the first part of the stream
+     */
+    public CompletableFuture<Status> load(GrpcReadStream<ResultSetReader> stream, StreamResumer streamResumer) {
+        this.resumer = streamResumer;
+        return load(stream);
+    }
+
+    private boolean isResumable(Status status, Throwable th, CompletableFuture<Status> resultIsReady) {
+        // the failure before the first part is reported by the usual way
+        return resumer != null && th == null && status != null && RESUMABLE_CODES.contains(status.getCode())
+                && resultIsReady.isDone() && !rs[0].isClosed;
+    }
+
+    /**
+     * Opens the new stream instead of the failed one, is called by the consumer thread when all rows are processed
+     */
+    private void resumeStream() throws SQLException {
+        Status failed = resumeStatus.getAndSet(null);
+        if (failed == null) {
+            return;
+        }
+
+        if (resumeAttempts == 0) {
+            firstFailureAt = System.nanoTime();
+        }
+
+        GrpcReadStream<ResultSetReader> next = null;
+        long delay = resumer.resumeDelayMillis(failed, resumeAttempts, firstFailureAt);
+        if (delay >= 0) {
+            try {
+                Thread.sleep(delay);
+                resumeAttempts++;
+                LOGGER.log(Level.FINE, "Resume stream after {0}, attempt {1}", new Object[] {failed, resumeAttempts});
+                next = resumer.resume(lastKey);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (SQLException | RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Cannot resume stream", ex);
+            }
+        }
+
+        if (next == null) {
+            onClose(failed, null);
+            return;
+        }
+
+        loadStream(next, new CompletableFuture<>());
+    }
+
+    private void loadStream(GrpcReadStream<ResultSetReader> stream, CompletableFuture<Status> resultIsReady) {
         canceller = stream::cancel;
 
         stream.start(rsr -> {
-            if (onRead(0, rsr)) {
+            if (onRead(0, rsr) || resumer != null) {
                 resultIsReady.complete(Status.SUCCESS);
             }
         }).whenComplete((status, th) -> {
+            if (isResumable(status, th, resultIsReady)) {
+                resumeStatus.set(status);
+                releaseWaiters();
+                return;
+            }
+
             onClose(status, th);
 
             if (status != null) {
@@ -177,10 +293,17 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
             }
         });
 
-        return resultIsReady;
     }
 
-
+    /**
+     * Starts reading of the query service stream. Such stream is not resumed after failures: it may contain several
+     * result sets and belong to the transaction, so it cannot be continued by the new query after the last read row
+     *
+     * @param validator validator of the statement
+     * @param stream query stream
+     * @param stats consumer of the query statistics
+     * @return future which is completed by the first part of the stream
+     */
     public CompletableFuture<Status> load(YdbValidator validator, QueryStream stream, Consumer<QueryStats> stats) {
         CompletableFuture<Status> resultIsReady = new CompletableFuture<>();
         canceller = stream::cancel;
@@ -220,11 +343,12 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
 
     private class CallCtrl implements GrpcFlowControl.Call {
         private final IntConsumer request;
-        private final AtomicInteger loaded = new AtomicInteger(0);
+        private final AtomicInteger loaded;
         private final AtomicInteger reqSize = new AtomicInteger(1);
 
-        CallCtrl(IntConsumer request) {
+        CallCtrl(IntConsumer request, int loaded) {
             this.request = request;
+            this.loaded = new AtomicInteger(loaded);
         }
 
         private void next() {
@@ -296,10 +420,35 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
             }
 
             ColumnInfo[] columns = ColumnInfo.fromResultSetReader(types, Objects.requireNonNull(first));
+            int[] keyIndexes = null;
+            if (resumer != null) {
+                List<String> keyColumns = resumer.getKeyColumns();
+                keyIndexes = new int[keyColumns.size()];
+                for (int idx = 0; idx < keyIndexes.length; idx++) {
+                    keyIndexes[idx] = first.getColumnIndex(keyColumns.get(idx));
+                }
+            }
+
+            final int[] keys = keyIndexes;
             rs = new YdbResultSetForwardOnly(statement, columns) {
+                @Override
+                public boolean next() throws SQLException {
+                    boolean hasRow = super.next();
+                    if (hasRow && keys != null) { // remember the key of the last processed row
+                        Value<?>[] key = new Value<?>[keys.length];
+                        for (int idx = 0; idx < keys.length; idx++) {
+                            key[idx] = getValue(keys[idx]).getValue();
+                        }
+                        lastKey = key;
+                        resumeAttempts = 0;
+                    }
+                    return hasRow;
+                }
+
                 @Override
                 protected boolean hasNext() throws SQLException {
                     while (!isCompleted && queue.isEmpty()) {
+                        resumeStream();
                         waitForUpdates();
 
                         ResultSetReader next = queue.peek();
@@ -4,7 +4,9 @@ package tech.ydb.jdbc.impl;
 import java.sql.SQLException;
 
 import tech.ydb.jdbc.YdbResultSet;
+import tech.ydb.jdbc.context.QueryStat;
 import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.table.result.ResultSetReader;
 
 /**
  *
@@ -18,6 +20,36 @@ public class YdbQueryResultStatic extends YdbQueryResultBase {
         this.rs = rs;
     }
 
+    private YdbQueryResultStatic(int[] indexes, YdbResultSet[] rs) {
+        super(indexes);
+        this.rs = rs;
+    }
+
+    public static YdbQueryResultStatic ofResultSets(YdbResultSet... rs) {
+        int[] indexes = new int[rs.length];
+        for (int idx = 0; idx < rs.length; idx += 1) {
+            indexes[idx] = idx;
+        }
+        return new YdbQueryResultStatic(indexes, rs);
+    }
+
+    public long getRowsCount() {
+        long count = 0;
+        for (YdbResultSet result: rs) {
+            if (result instanceof YdbResultSetMemory) {
+                for (ResultSetReader reader: ((YdbResultSetMemory) result).getResultSets()) {
+                    count += reader.getRowCount();
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void recordRowsTo(QueryStat queryStat) {
+        queryStat.addRows(getRowsCount());
+    }
+
     @Override
     protected YdbResultSet getResultSet(int index) throws SQLException {
         if (index < 0 || index >= rs.length) {
@@ -20,11 +20,13 @@ import tech.ydb.jdbc.YdbQueryResult;
 import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.context.CacheStat;
 import tech.ydb.jdbc.context.QueryStat;
 import tech.ydb.jdbc.context.YdbContext;
 import tech.ydb.jdbc.context.YdbExecutor;
+import tech.ydb.jdbc.context.YdbRetryPolicy;
 import tech.ydb.jdbc.context.YdbValidator;
-import tech.ydb.jdbc.exception.YdbRetryableException;
+import tech.ydb.jdbc.exception.YdbStatusable;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.jdbc.settings.FakeTxMode;
 import tech.ydb.jdbc.settings.YdbOperationProperties;
@@ -74,9 +76,22 @@ public abstract class YdbStatementBase implements YdbStatement {
             throw new SQLException(YdbConst.RESULT_IS_NOT_SCROLLABLE);
         }
         connection.getExecutor().ensureOpened();
+        connection.getCtx().awaitStartup();
         connection.getExecutor().clearState();
     }
 
+    private static void sleepBeforeRetry(long delayMillis) throws SQLException {
+        if (delayMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+
     @Override
     public YdbValidator getValidator() {
         return validator;
@@ -187,7 +202,17 @@ public abstract class YdbStatementBase implements YdbStatement {
             }
         }
 
-        return connection.getExecutor().executeBulkUpsert(this, query, tablePath, rows);
+        try {
+            return connection.getExecutor().executeBulkUpsert(this, query, tablePath, rows);
+        } finally {
+            connection.getCtx().invalidateQueryResults(query);
+        }
+    }
+
+    protected YdbQueryResult executeReadRows(YdbQuery query, String tablePath, ListValue keys, List<String> columns)
+            throws SQLException {
+        prepareNewExecution();
+        return connection.getExecutor().executeReadRows(this, query, tablePath, keys, columns);
     }
 
     protected YdbQueryResult executeExplainQuery(YdbQuery query) throws SQLException {
@@ -203,28 +228,34 @@ public abstract class YdbStatementBase implements YdbStatement {
 
         if (ctx.isFullScanDetectorEnabled()) {
             if (QueryStat.isPrint(yql)) {
-                ResultSetReader rsr = QueryStat.toResultSetReader(ctx.getFullScanDetectorStats());
-                YdbResultSet rs = new YdbResultSetMemory(ctx.getTypes(), this, rsr);
-                return new YdbQueryResultStatic(query, rs);
+                ResultSetReader stats = QueryStat.toResultSetReader(ctx.getFullScanDetectorStats());
+                ResultSetReader caches = CacheStat.toResultSetReader(ctx.getCacheStats());
+                return YdbQueryResultStatic.ofResultSets(
+                        new YdbResultSetMemory(ctx.getTypes(), this, stats),
+                        new YdbResultSetMemory(ctx.getTypes(), this, caches)
+                );
             }
             if (QueryStat.isReset(yql)) {
                 ctx.resetFullScanDetector();
                 return null;
             }
         }
-        ctx.traceQueryByFullScanDetector(query, yql);
-
-        boolean isInsideTx = executor.isInsideTransaction();
+        YdbRetryPolicy.Retry retry = ctx.getRetryPolicy().newRetry(query, executor.isInsideTransaction(),
+                executor.isAutoCommit());
         while (true) {
             try {
                 return executor.executeDataQuery(this, query, yql, params);
-            } catch (YdbRetryableException ex) {
-                if (isInsideTx || ex.getStatus().getCode() != StatusCode.BAD_SESSION) {
+            } catch (SQLException ex) {
+                long delay = retry.nextDelayMillis(ex);
+                if (delay < 0) {
                     throw ex;
                 }
+                ctx.recordQueryRetry(yql);
                 // TODO: Move this logic to YdbValidator
-                Issue warning = Issue.of("Operation retried because of of BAD_SESSION", Issue.Severity.INFO);
+                StatusCode code = ((YdbStatusable) ex).getStatus().getCode();
+                Issue warning = Issue.of("Operation retried because of " + code, Issue.Severity.INFO);
                 validator.addStatusIssues(Arrays.asList(warning));
+                sleepBeforeRetry(delay);
             }
         }
     }
@@ -289,7 +320,11 @@ public abstract class YdbStatementBase implements YdbStatement {
             }
         }
 
-        return connection.getExecutor().executeSchemeQuery(this, query, yql, params);
+        try {
+            return connection.getExecutor().executeSchemeQuery(this, query, yql, params);
+        } finally {
+            connection.getCtx().invalidateQueryResults(query);
+        }
     }
 
     protected YdbQueryResult executeScanQuery(YdbQuery query, String yql, Params params) throws SQLException {
@@ -17,6 +17,7 @@ public class QueryStatement {
     private final List<JdbcPrm.Factory> parameters = new ArrayList<>();
     private boolean hasReturinng = false;
     private boolean hasGenerated = false;
+    private boolean isBlindWrite = false;
 
     public QueryStatement(QueryType custom, QueryType baseType, QueryCmd command) {
         this.queryType = custom != null ? custom : baseType;
@@ -51,6 +52,17 @@ public class QueryStatement {
         this.hasGenerated = hasGenerated;
     }
 
+    public void setBlindWrite(boolean isBlindWrite) {
+        this.isBlindWrite = isBlindWrite;
+    }
+
+    /**
+     * @return true if the statement is INSERT, UPSERT or REPLACE which writes rows without reading of any table
+     */
+    public boolean isBlindWrite() {
+        return isBlindWrite;
+    }
+
     public boolean hasUpdateCount() {
         return (command == QueryCmd.DML || command == QueryCmd.BATCH) && !hasReturinng;
     }
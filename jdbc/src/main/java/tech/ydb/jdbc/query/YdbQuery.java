@@ -21,6 +21,8 @@ public class YdbQuery {
     private final QueryType type;
     private final boolean isPlainYQL;
     private final boolean isWriting;
+    private final boolean isReadOnly;
+    private final boolean isBlindWrite;
 
     YdbQuery(QueryKey key, String preparedYQL, List<QueryStatement> stats, YqlBatcher batcher, QueryType type) {
         this.key = key;
@@ -31,12 +33,25 @@ public class YdbQuery {
 
         boolean hasJdbcParameters = false;
         boolean hasDML = false;
+        boolean hasSelect = false;
+        boolean onlySelects = true;
+        boolean onlyBlindWrites = true;
         for (QueryStatement st: statements) {
             hasJdbcParameters = hasJdbcParameters || st.hasJdbcParameters();
             hasDML = hasDML || (st.getCmd() == QueryCmd.DML);
+            if (st.getCmd() == QueryCmd.SELECT) {
+                hasSelect = true;
+            } else if (st.getType() != QueryType.DECLARE) {
+                onlySelects = false;
+            }
+            if (st.getType() != QueryType.DECLARE && !st.isBlindWrite()) {
+                onlyBlindWrites = false;
+            }
         }
         this.isPlainYQL = !hasJdbcParameters;
         this.isWriting = (type == QueryType.DATA_QUERY) && hasDML;
+        this.isReadOnly = (type == QueryType.DATA_QUERY) && hasSelect && onlySelects;
+        this.isBlindWrite = isWriting && onlyBlindWrites;
     }
 
     public QueryType getType() {
@@ -47,6 +62,20 @@ public class YdbQuery {
         return isWriting;
     }
 
+    /**
+     * @return true if the query contains only SELECT statements and doesn't change any data
+     */
+    public boolean isReadOnly() {
+        return isReadOnly;
+    }
+
+    /**
+     * @return true if the query contains only INSERT, UPSERT or REPLACE statements without reading of any table
+     */
+    public boolean isBlindWrite() {
+        return isBlindWrite;
+    }
+
     public YqlBatcher getYqlBatcher() {
         return batcher.isValidBatch() ? batcher : null;
     }
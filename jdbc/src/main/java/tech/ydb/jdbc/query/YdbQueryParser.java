@@ -159,6 +159,11 @@ public class YdbQueryParser {
                         statement.setHasReturning(true);
                     }
 
+                    // Write with subquery reads tables
+                    if (parseSelectKeyword(chars, keywordStart, keywordLength)) {
+                        statement.setBlindWrite(false);
+                    }
+
                     // Process ? after OFFSET and LIMIT
                     if (i < chars.length && detectJdbcArgs && Character.isWhitespace(ch)) {
                         if (parseOffsetKeyword(chars, keywordStart, keywordLength)
@@ -243,10 +248,12 @@ public class YdbQueryParser {
                         // starts with INSERT, UPSERT
                         if (parseInsertKeyword(chars, keywordStart, keywordLength)) {
                             statement = new QueryStatement(type, QueryType.DATA_QUERY, QueryCmd.DML);
+                            statement.setBlindWrite(true);
                             batcher.readInsert();
                         }
                         if (parseUpsertKeyword(chars, keywordStart, keywordLength)) {
                             statement = new QueryStatement(type, QueryType.DATA_QUERY, QueryCmd.DML);
+                            statement.setBlindWrite(true);
                             batcher.readUpsert();
                         }
 
@@ -261,6 +268,7 @@ public class YdbQueryParser {
                         }
                         if (parseReplaceKeyword(chars, keywordStart, keywordLength)) {
                             statement = new QueryStatement(type, QueryType.DATA_QUERY, QueryCmd.DML);
+                            statement.setBlindWrite(true);
                             batcher.readReplace();
                         }
 
@@ -506,6 +514,54 @@ public class YdbQueryParser {
         return start;
     }
 
+    /**
+     * Adds prefix to names of all parameters and named expressions of the query. Quoted strings, identifiers and
+     * comments are not changed
+     *
+     * @param yql YQL query
+     * @param prefix prefix of names
+     * @return query with renamed parameters
+     */
+    public static String addNamesPrefix(String yql, String prefix) {
+        char[] query = yql.toCharArray();
+        StringBuilder renamed = new StringBuilder(query.length + 16);
+
+        int fragmentStart = 0;
+        for (int offset = 0; offset < query.length; offset++) {
+            switch (query[offset]) {
+                case '\'':
+                    offset = parseSingleQuotes(query, offset);
+                    break;
+                case '"':
+                    offset = parseDoubleQuotes(query, offset);
+                    break;
+                case '`':
+                    offset = parseBacktickQuotes(query, offset);
+                    break;
+                case '-':
+                    offset = parseLineComment(query, offset);
+                    break;
+                case '/':
+                    offset = parseBlockComment(query, offset);
+                    break;
+                case '$':
+                    if (offset + 1 < query.length && (Character.isLetter(query[offset + 1])
+                            || query[offset + 1] == '_')) {
+                        renamed.append(query, fragmentStart, offset + 1 - fragmentStart).append(prefix);
+                        fragmentStart = offset + 1;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (fragmentStart < query.length) {
+            renamed.append(query, fragmentStart, query.length - fragmentStart);
+        }
+        return renamed.toString();
+    }
+
     private static int parseSingleQuotes(final char[] query, int offset) {
         // treat backslashes as escape characters
         while (++offset < query.length) {
@@ -0,0 +1,219 @@
+package tech.ydb.jdbc.query.params;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.ParamDescription;
+import tech.ydb.table.description.TableColumn;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.OptionalValue;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.StructType;
+import tech.ydb.table.values.StructValue;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ * Prepared SELECT of one row by the full primary key. Outside of transactions such query can be executed by ReadRows
+ * call without the query compilation. Batch of lookups is executed as one query, rows of the result have the index
+ * of the batch entry in the column {@link #BATCH_INDEX_COLUMN}
+ */
+public class KeyLookupQuery extends BatchedQuery {
+    public static final String BATCH_INDEX_COLUMN = "__batch_index";
+
+    private static final String IDENTIFIER = "(?:`[^`]+`|\\w+)";
+    private static final Pattern POINT_SELECT = Pattern.compile(""
+            + "^\\s*SELECT\\s+(?<columns>\\*|" + IDENTIFIER + "(?:\\s*,\\s*" + IDENTIFIER + ")*)"
+            + "\\s+FROM\\s+(?<table>`[^`]+`|[\\w/.-]+)"
+            + "\\s+WHERE\\s+(?<where>" + IDENTIFIER + "\\s*=\\s*\\?(?:\\s+AND\\s+" + IDENTIFIER + "\\s*=\\s*\\?)*)"
+            + "\\s*;?\\s*$",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern KEY_CONDITION = Pattern.compile("(?<column>" + IDENTIFIER + ")\\s*=\\s*\\?");
+    private static final Pattern COLUMN = Pattern.compile(IDENTIFIER);
+
+    private final String tablePath;
+    private final List<String> columns;
+    private final ParamDescription[] keys;
+    private final ListType keysType;
+    private final boolean useReadRows;
+
+    private KeyLookupQuery(String tablePath, String single, String batched, List<String> columns,
+            ParamDescription[] keys, ListType keysType, boolean useReadRows) throws SQLException {
+        super(single, batched, "$batch", keys);
+        this.tablePath = tablePath;
+        this.columns = columns;
+        this.keys = keys;
+        this.keysType = keysType;
+        this.useReadRows = useReadRows;
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        // validateValues returns the current values, so the index is added to the struct of the batch entry
+        validateValues().put(BATCH_INDEX_COLUMN, PrimitiveValue.newInt32(batchSize()));
+        super.addBatch();
+    }
+
+    public boolean isUseReadRows() {
+        return useReadRows;
+    }
+
+    public String getTablePath() {
+        return tablePath;
+    }
+
+    /**
+     * @return list of selected columns in order of the result set
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return list with one struct of the current key values or null if some of key values is NULL and so the
+     * lookup must be executed by the data query
+     * @throws SQLException if not all parameters are set
+     */
+    public ListValue getCurrentKeys() throws SQLException {
+        Map<String, Value<?>> values = validateValues();
+        Map<String, Value<?>> key = new HashMap<>();
+        for (ParamDescription prm: keys) {
+            Value<?> value = values.get(prm.name());
+            if (value instanceof OptionalValue && !((OptionalValue) value).isPresent()) {
+                return null;
+            }
+            key.put(prm.displayName(), value);
+        }
+        return keysType.newValue(Collections.singletonList(StructValue.of(key)));
+    }
+
+    /**
+     * Returns name of the table if the query looks like SELECT by JDBC parameters
+     *
+     * @param sql origin query
+     * @return table name or null if the query is not a point lookup
+     */
+    public static String parseTableName(String sql) {
+        Matcher matcher = POINT_SELECT.matcher(sql);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return unquote(matcher.group("table"));
+    }
+
+    public static KeyLookupQuery tryCreate(YdbTypes types, String sql, String tablePath, TableDescription description,
+            boolean useReadRows) throws SQLException {
+        Matcher matcher = POINT_SELECT.matcher(sql);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        Map<String, Type> columnTypes = new HashMap<>();
+        for (TableColumn column: description.getColumns()) {
+            columnTypes.put(column.getName(), column.getType());
+        }
+
+        // SELECT * is replaced by the explicit list of columns, so ReadRows and the data query return them in the
+        // same order of the table description
+        List<String> columns = new ArrayList<>();
+        if ("*".equals(matcher.group("columns"))) {
+            for (TableColumn column: description.getColumns()) {
+                columns.add(column.getName());
+            }
+        } else {
+            Matcher column = COLUMN.matcher(matcher.group("columns"));
+            while (column.find()) {
+                String name = unquote(column.group());
+                if (!columnTypes.containsKey(name)) {
+                    return null;
+                }
+                columns.add(name);
+            }
+        }
+
+        // WHERE must contain every column of the primary key exactly once
+        Set<String> primaryKey = new HashSet<>(description.getPrimaryKeys());
+        List<ParamDescription> keys = new ArrayList<>();
+        Map<String, Type> keyTypes = new HashMap<>();
+        Matcher condition = KEY_CONDITION.matcher(matcher.group("where"));
+        while (condition.find()) {
+            String column = unquote(condition.group("column"));
+            if (!primaryKey.remove(column)) {
+                return null;
+            }
+            Type type = columnTypes.get(column);
+            keyTypes.put(column, type);
+            keys.add(new ParamDescription("p" + (keys.size() + 1), column, types.find(type)));
+        }
+        if (!primaryKey.isEmpty()) {
+            return null;
+        }
+
+        String table = unquote(matcher.group("table"));
+        ParamDescription[] params = keys.toArray(new ParamDescription[0]);
+        return new KeyLookupQuery(tablePath, singleQuery(table, columns, params), batchQuery(table, columns, params),
+                Collections.unmodifiableList(columns), params, ListType.of(StructType.of(keyTypes)), useReadRows);
+    }
+
+    private static String singleQuery(String table, List<String> columns, ParamDescription[] keys) {
+        StringBuilder sb = new StringBuilder();
+        for (ParamDescription key: keys) {
+            sb.append("DECLARE $").append(key.name()).append(" AS ").append(key.type().toYqlLiteral()).append(";\n");
+        }
+
+        sb.append("SELECT ");
+        appendColumns(sb, columns, "");
+        sb.append(" FROM `").append(table).append("` WHERE ");
+        for (int idx = 0; idx < keys.length; idx++) {
+            if (idx > 0) {
+                sb.append(" AND ");
+            }
+            sb.append('`').append(keys[idx].displayName()).append("` = $").append(keys[idx].name());
+        }
+        return sb.append(";").toString();
+    }
+
+    private static String batchQuery(String table, List<String> columns, ParamDescription[] keys) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("DECLARE $batch AS List<Struct<");
+        for (ParamDescription key: keys) {
+            sb.append(key.name()).append(":").append(key.type().toYqlLiteral()).append(", ");
+        }
+        sb.append(BATCH_INDEX_COLUMN).append(":Int32>>;\n");
+
+        sb.append("SELECT b.").append(BATCH_INDEX_COLUMN).append(" AS ").append(BATCH_INDEX_COLUMN).append(", ");
+        appendColumns(sb, columns, "t.");
+        sb.append(" FROM AS_TABLE($batch) AS b JOIN `").append(table).append("` AS t ON ");
+        for (int idx = 0; idx < keys.length; idx++) {
+            if (idx > 0) {
+                sb.append(" AND ");
+            }
+            sb.append("t.`").append(keys[idx].displayName()).append("` = b.").append(keys[idx].name());
+        }
+        return sb.append(" ORDER BY ").append(BATCH_INDEX_COLUMN).append(";").toString();
+    }
+
+    private static void appendColumns(StringBuilder sb, List<String> columns, String alias) {
+        for (int idx = 0; idx < columns.size(); idx++) {
+            if (idx > 0) {
+                sb.append(", ");
+            }
+            sb.append(alias).append('`').append(columns.get(idx)).append('`');
+        }
+    }
+
+    private static String unquote(String name) {
+        return name.startsWith("`") ? name.substring(1, name.length() - 1) : name;
+    }
+}
@@ -32,11 +32,19 @@ public class YdbClientProperties {
             "sessionPoolSizeMax", "Session pool max size (with with sessionPoolSizeMin)"
     );
 
+    static final YdbProperty<Boolean> ADAPTIVE_SESSION_POOL = YdbProperty.bool("adaptiveSessionPool",
+            "Resize session pool by session wait time and count of in-flight queries", false);
+
+    static final YdbProperty<Integer> ADAPTIVE_SESSION_POOL_LIMIT = YdbProperty.integer("adaptiveSessionPoolLimit",
+            "Max size of adaptive session pool", 1000);
+
     private final YdbValue<Boolean> keepQueryText;
     private final YdbValue<Duration> sessionKeepAliveTime;
     private final YdbValue<Duration> sessionMaxIdleTime;
     private final YdbValue<Integer> sessionPoolMinSize;
     private final YdbValue<Integer> sessionPoolMaxSize;
+    private final YdbValue<Boolean> adaptiveSessionPool;
+    private final YdbValue<Integer> adaptiveSessionPoolLimit;
 
     public YdbClientProperties(YdbConfig config) throws SQLException {
         Properties props = config.getProperties();
@@ -46,9 +54,36 @@ public class YdbClientProperties {
         this.sessionMaxIdleTime = SESSION_MAX_IDLE_TIME.readValue(props);
         this.sessionPoolMinSize = SESSION_POOL_SIZE_MIN.readValue(props);
         this.sessionPoolMaxSize = SESSION_POOL_SIZE_MAX.readValue(props);
+        this.adaptiveSessionPool = ADAPTIVE_SESSION_POOL.readValue(props);
+        this.adaptiveSessionPoolLimit = ADAPTIVE_SESSION_POOL_LIMIT.readValue(props);
+    }
+
+    public int getSessionPoolMinSize() {
+        return sessionPoolMinSize.hasValue() ? Math.max(0, sessionPoolMinSize.getValue()) : 0;
+    }
+
+    public boolean isAdaptiveSessionPool() {
+        return adaptiveSessionPool.getValue();
+    }
+
+    public int getAdaptiveSessionPoolLimit() {
+        return adaptiveSessionPoolLimit.getValue();
     }
 
     public boolean applyToTableClient(TableClient.Builder table, QueryClient.Builder query) {
+        return applyToTableClient(table, query, 1);
+    }
+
+    /**
+     * Applies the properties to the clients of one of the given count of stripes. Limits of the session pool are
+     * split between the stripes, so the total count of sessions doesn't depend on the count of stripes
+     *
+     * @param table builder of the table client
+     * @param query builder of the query client
+     * @param stripes total count of stripes
+     * @return true if the session pool size is not configured and may be resized by the count of connections
+     */
+    public boolean applyToTableClient(TableClient.Builder table, QueryClient.Builder query, int stripes) {
         if (keepQueryText.hasValue()) {
             table.keepQueryText(keepQueryText.getValue());
         }
@@ -62,7 +97,8 @@ public class YdbClientProperties {
             query.sessionMaxIdleTime(sessionMaxIdleTime.getValue());
         }
 
-        if (!sessionPoolMinSize.hasValue() && !sessionPoolMaxSize.hasValue()) {
+        boolean isDefaultSize = !sessionPoolMinSize.hasValue() && !sessionPoolMaxSize.hasValue();
+        if (isDefaultSize && stripes <= 1) {
             return true;
         }
 
@@ -77,9 +113,21 @@ public class YdbClientProperties {
             maxSize = Math.max(minSize + 1, sessionPoolMaxSize.getValue());
         }
 
+        minSize = perStripe(minSize, stripes);
+        maxSize = Math.max(minSize + 1, perStripe(maxSize, stripes));
+
         table.sessionPoolSize(minSize, maxSize);
         query.sessionPoolMaxSize(maxSize).sessionPoolMinSize(minSize);
 
-        return false;
+        return isDefaultSize;
+    }
+
+    /**
+     * @param size total size
+     * @param stripes count of stripes
+     * @return part of the total size for one stripe, rounded up
+     */
+    public static int perStripe(int size, int stripes) {
+        return stripes <= 1 ? size : (size + stripes - 1) / stripes;
     }
 }
@@ -1,15 +1,22 @@
 package tech.ydb.jdbc.settings;
 
 import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLEncoder;
 import java.sql.DriverPropertyInfo;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 
 import tech.ydb.core.utils.URITools;
@@ -19,7 +26,6 @@ import tech.ydb.jdbc.YdbConst;
  *
  * @author Aleksandr Gorshenin
  */
-// TODO: implement cache based on connection and client properties only (excluding operation properties)
 public class YdbConfig {
     static final String TOKEN_KEY = "token";
     static final String USERNAME_KEY = "user";
@@ -35,6 +41,59 @@ public class YdbConfig {
             "Specifies the maximum number of entries in per-transport cache of prepared statements. A value of "
                     + "{@code 0} disables the cache.", 256
     );
+    static final YdbProperty<Integer> PREPARED_STATEMENT_CACHE_SIZE_MIB = YdbProperty.integer(
+            "preparedStatementCacheSizeMiB",
+            "Specifies the maximum total size (in megabytes) of query texts in each per-transport cache keyed by "
+                    + "query text. A value of {@code 0} disables the limit", 0
+    );
+    static final YdbProperty<Integer> PARSED_QUERIES_CACHE_SIZE = YdbProperty.integer(
+            "parsedQueriesCacheSize",
+            "Specifies the maximum number of parsed queries in cache. By default equals to "
+                    + "preparedStatementCacheQueries"
+    );
+    static final YdbProperty<Integer> PREPARED_TYPES_CACHE_SIZE = YdbProperty.integer(
+            "preparedTypesCacheSize",
+            "Specifies the maximum number of server-prepared query types in cache. By default equals to "
+                    + "preparedStatementCacheQueries"
+    );
+    static final YdbProperty<Integer> TABLE_DESCRIPTION_CACHE_SIZE = YdbProperty.integer(
+            "tableDescriptionCacheSize",
+            "Specifies the maximum number of table descriptions in cache. By default equals to "
+                    + "preparedStatementCacheQueries"
+    );
+    static final YdbProperty<Integer> QUERY_STATS_CACHE_SIZE = YdbProperty.integer(
+            "queryStatsCacheSize",
+            "Specifies the maximum number of query stats collected by full scan detector. By default equals to "
+                    + "preparedStatementCacheQueries"
+    );
+    static final YdbProperty<Duration> TABLE_DESCRIPTION_REFRESH_TIME = YdbProperty.duration(
+            "tableDescriptionRefreshTime",
+            "Time after which cached table description will be reloaded in background. A value of {@code 0} "
+                    + "disables refreshing", "5m"
+    );
+    static final YdbProperty<Duration> TABLE_DESCRIPTION_ERROR_TTL = YdbProperty.duration(
+            "tableDescriptionErrorTtl",
+            "Time to keep failed table description in cache. A value of {@code 0} disables caching of errors", "5s"
+    );
+    static final YdbProperty<String> WARMUP_SNAPSHOT_FILE = YdbProperty.string(
+            "warmupSnapshotFile",
+            "Local file to save the hottest cached queries and tables. On start the driver loads them from this file "
+                    + "and prepares again in background"
+    );
+    static final YdbProperty<Duration> WARMUP_SNAPSHOT_INTERVAL = YdbProperty.duration(
+            "warmupSnapshotInterval", "Interval of saving the warm-up snapshot", "60s"
+    );
+    static final YdbProperty<Integer> WARMUP_SNAPSHOT_SIZE = YdbProperty.integer(
+            "warmupSnapshotSize", "Maximum number of queries and tables saved in the warm-up snapshot", 100
+    );
+    static final YdbProperty<Duration> RESULT_CACHE_TTL = YdbProperty.duration(
+            "resultCacheTtl",
+            "Time to keep results of read-only autocommit queries executed in the stale or online read-only modes. "
+                    + "A value of {@code 0} disables the result cache", "0s"
+    );
+    static final YdbProperty<Integer> RESULT_CACHE_SIZE_MIB = YdbProperty.integer(
+            "resultCacheSizeMiB", "Specifies the maximum total size (in megabytes) of cached query results", 16
+    );
     static final YdbProperty<Boolean> USE_QUERY_SERVICE = YdbProperty.bool("useQueryService",
             "Use QueryService instead of TableService", true
     );
@@ -46,7 +105,9 @@ public class YdbConfig {
             "Use discovery (client balancing) for YDB cluster connection", true);
 
     static final YdbProperty<Boolean> FULLSCAN_DETECTOR_ENABLED = YdbProperty.bool(
-            "jdbcFullScanDetector", "Enable analizator for collecting query stats", false
+            "jdbcFullScanDetector", "Enable analizator for collecting query stats. Every distinct query is explained "
+                    + "in background, latency histograms and counters of executions are collected only with this "
+                    + "option", false
     );
     static final YdbProperty<Boolean> TRANSACTION_TRACER = YdbProperty.bool(
             "enableTxTracer", "Enable collecting of transaction execution traces", false
@@ -54,6 +115,42 @@ public class YdbConfig {
     static final YdbProperty<Integer> CACHED_TRANSPORT_COUNT = YdbProperty.integer(
             "cachedTransportsCount", "Use specified count of YDB transports in context cache", 1
     );
+    static final YdbProperty<Boolean> LAZY_STARTUP = YdbProperty.bool(
+            "lazyStartup", "Don't wait for discovery and validation of the database on connect. They are executed "
+                    + "in background and the first query waits for them", false
+    );
+    static final YdbProperty<Duration> STARTUP_TIMEOUT = YdbProperty.duration(
+            "startupTimeout", "Maximum time of waiting for background startup of the lazy connection", "30s"
+    );
+    // every stripe runs own discovery, so their count is limited to keep the load of the discovery service low
+    private static final int MAX_CHANNEL_STRIPES_COUNT = 8;
+    static final YdbProperty<Integer> CHANNEL_STRIPES_COUNT = YdbProperty.integer(
+            "channelStripesCount", "Count of independent GRPC channels to each endpoint. New sessions are created "
+                    + "on the channel with the fewest active streams. Every channel has own transport with own "
+                    + "discovery and session pool, limits of the session pool are split between channels. At most "
+                    + MAX_CHANNEL_STRIPES_COUNT + " channels are used", 1
+    );
+    static final YdbProperty<Boolean> USE_SHARED_SCHEDULER = YdbProperty.bool(
+            "useSharedScheduler", "Use one scheduler for all connections of the driver instead of own threads of "
+                    + "each connection", true
+    );
+    static final YdbProperty<Boolean> USE_SHARED_CHANNEL_EXECUTOR = YdbProperty.bool(
+            "useSharedChannelExecutor", "Use one bounded thread pool of the driver to process responses of GRPC "
+                    + "channels of all connections", false
+    );
+
+    // Properties which are used to create the transport and the clients, all others are applied only to the context.
+    // All properties of the connection and of the clients are taken, so a new option can't be missed in the key.
+    // useQueryService is a part of the key because the clients prewarm the session pool of the used service
+    private static final Set<String> CLIENTS_PROPERTIES = Collections.unmodifiableSet(clientsProperties(
+            USE_DISCOVERY,
+            USE_QUERY_SERVICE,
+            CACHED_TRANSPORT_COUNT,
+            CHANNEL_STRIPES_COUNT,
+            LAZY_STARTUP,
+            USE_SHARED_SCHEDULER,
+            USE_SHARED_CHANNEL_EXECUTOR
+    ));
 
     private final String url;
     private final String username;
@@ -65,14 +162,32 @@ public class YdbConfig {
     private final Properties properties;
     private final boolean isCacheConnectionsInDriver;
     private final int preparedStatementsCacheSize;
+    private final long preparedStatementsCacheWeight;
+    private final int parsedQueriesCacheSize;
+    private final int preparedTypesCacheSize;
+    private final int tableDescriptionCacheSize;
+    private final int queryStatsCacheSize;
+    private final Duration tableDescriptionRefreshTime;
+    private final Duration tableDescriptionErrorTtl;
+    private final String warmupSnapshotFile;
+    private final Duration warmupSnapshotInterval;
+    private final int warmupSnapshotSize;
+    private final Duration resultCacheTtl;
+    private final long resultCacheWeight;
 
     private final boolean useQueryService;
     private final boolean useDiscovery;
+    private final boolean lazyStartup;
+    private final Duration startupTimeout;
+    private final int channelStripesCount;
+    private final boolean useSharedScheduler;
+    private final boolean useSharedChannelExecutor;
     private final YdbValue<String> usePrefixPath;
 
     private final boolean fullScanDetectorEnabled;
     private final boolean txTracerEnabled;
     private final int transportIndex;
+    private final ClientsKey clientsKey;
 
     private YdbConfig(
             String url, String safeUrl, String connectionString, String username, String password, Properties props
@@ -85,9 +200,32 @@ public class YdbConfig {
         this.properties = props;
         this.isCacheConnectionsInDriver = CACHE_CONNECTIONS_IN_DRIVER.readValue(props).getValue();
         this.preparedStatementsCacheSize = Math.max(0, PREPARED_STATEMENT_CACHE_SIZE.readValue(props).getValue());
+        this.preparedStatementsCacheWeight = 1024L * 1024L
+                * Math.max(0, PREPARED_STATEMENT_CACHE_SIZE_MIB.readValue(props).getValue());
+        this.parsedQueriesCacheSize = Math.max(0, PARSED_QUERIES_CACHE_SIZE.readValue(props)
+                .getValueOrOther(preparedStatementsCacheSize));
+        this.preparedTypesCacheSize = Math.max(0, PREPARED_TYPES_CACHE_SIZE.readValue(props)
+                .getValueOrOther(preparedStatementsCacheSize));
+        this.tableDescriptionCacheSize = Math.max(0, TABLE_DESCRIPTION_CACHE_SIZE.readValue(props)
+                .getValueOrOther(preparedStatementsCacheSize));
+        this.queryStatsCacheSize = Math.max(0, QUERY_STATS_CACHE_SIZE.readValue(props)
+                .getValueOrOther(preparedStatementsCacheSize));
+        this.tableDescriptionRefreshTime = TABLE_DESCRIPTION_REFRESH_TIME.readValue(props).getValue();
+        this.tableDescriptionErrorTtl = TABLE_DESCRIPTION_ERROR_TTL.readValue(props).getValue();
+        this.warmupSnapshotFile = WARMUP_SNAPSHOT_FILE.readValue(props).getValue();
+        this.warmupSnapshotInterval = WARMUP_SNAPSHOT_INTERVAL.readValue(props).getValue();
+        this.warmupSnapshotSize = Math.max(0, WARMUP_SNAPSHOT_SIZE.readValue(props).getValue());
+        this.resultCacheTtl = RESULT_CACHE_TTL.readValue(props).getValue();
+        this.resultCacheWeight = 1024L * 1024L * Math.max(0, RESULT_CACHE_SIZE_MIB.readValue(props).getValue());
 
         this.useQueryService = USE_QUERY_SERVICE.readValue(props).getValue();
         this.useDiscovery = USE_DISCOVERY.readValue(props).getValue();
+        this.lazyStartup = LAZY_STARTUP.readValue(props).getValue();
+        this.startupTimeout = STARTUP_TIMEOUT.readValue(props).getValue();
+        this.channelStripesCount = Math.min(MAX_CHANNEL_STRIPES_COUNT,
+                Math.max(1, CHANNEL_STRIPES_COUNT.readValue(props).getValue()));
+        this.useSharedScheduler = USE_SHARED_SCHEDULER.readValue(props).getValue();
+        this.useSharedChannelExecutor = USE_SHARED_CHANNEL_EXECUTOR.readValue(props).getValue();
         this.usePrefixPath = USE_PREFIX_PATH.readValue(props);
 
         this.fullScanDetectorEnabled = FULLSCAN_DETECTOR_ENABLED.readValue(props).getValue();
@@ -99,6 +237,38 @@ public class YdbConfig {
         } else {
             this.transportIndex = 0;
         }
+
+        Properties clientsProps = new Properties();
+        for (Map.Entry<Object, Object> entry: props.entrySet()) {
+            if (CLIENTS_PROPERTIES.contains(String.valueOf(entry.getKey()))) {
+                clientsProps.put(entry.getKey(), entry.getValue());
+            }
+        }
+        this.clientsKey = new ClientsKey(connectionString, username, password, clientsProps, transportIndex);
+    }
+
+    private static Set<String> clientsProperties(YdbProperty<?>... configProperties) {
+        Set<String> names = new HashSet<>();
+        for (YdbProperty<?> property: configProperties) {
+            names.add(property.getName());
+        }
+        names.addAll(declaredProperties(YdbConnectionProperties.class));
+        names.addAll(declaredProperties(YdbClientProperties.class));
+        return names;
+    }
+
+    private static List<String> declaredProperties(Class<?> clazz) {
+        List<String> names = new ArrayList<>();
+        for (Field field: clazz.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && YdbProperty.class.equals(field.getType())) {
+                try {
+                    names.add(((YdbProperty<?>) field.get(null)).getName());
+                } catch (IllegalAccessException ex) {
+                    throw new IllegalStateException("Cannot read property " + field.getName(), ex);
+                }
+            }
+        }
+        return names;
     }
 
     public Properties getSafeProps() {
@@ -125,6 +295,54 @@ public class YdbConfig {
         return this.preparedStatementsCacheSize;
     }
 
+    public long getPreparedStatementsCacheWeight() {
+        return this.preparedStatementsCacheWeight;
+    }
+
+    public int getParsedQueriesCacheSize() {
+        return this.parsedQueriesCacheSize;
+    }
+
+    public int getPreparedTypesCacheSize() {
+        return this.preparedTypesCacheSize;
+    }
+
+    public int getTableDescriptionCacheSize() {
+        return this.tableDescriptionCacheSize;
+    }
+
+    public int getQueryStatsCacheSize() {
+        return this.queryStatsCacheSize;
+    }
+
+    public Duration getTableDescriptionRefreshTime() {
+        return this.tableDescriptionRefreshTime;
+    }
+
+    public Duration getTableDescriptionErrorTtl() {
+        return this.tableDescriptionErrorTtl;
+    }
+
+    public String getWarmupSnapshotFile() {
+        return this.warmupSnapshotFile;
+    }
+
+    public Duration getWarmupSnapshotInterval() {
+        return this.warmupSnapshotInterval;
+    }
+
+    public int getWarmupSnapshotSize() {
+        return this.warmupSnapshotSize;
+    }
+
+    public Duration getResultCacheTtl() {
+        return this.resultCacheTtl;
+    }
+
+    public long getResultCacheWeight() {
+        return this.resultCacheWeight;
+    }
+
     public boolean isUseQueryService() {
         return this.useQueryService;
     }
@@ -133,6 +351,26 @@ public class YdbConfig {
         return this.useDiscovery;
     }
 
+    public boolean isLazyStartup() {
+        return this.lazyStartup;
+    }
+
+    public Duration getStartupTimeout() {
+        return this.startupTimeout;
+    }
+
+    public int getChannelStripesCount() {
+        return this.channelStripesCount;
+    }
+
+    public boolean isUseSharedScheduler() {
+        return this.useSharedScheduler;
+    }
+
+    public boolean isUseSharedChannelExecutor() {
+        return this.useSharedChannelExecutor;
+    }
+
     public boolean hasPrefixPath() {
         return usePrefixPath.hasValue();
     }
@@ -176,6 +414,13 @@ public class YdbConfig {
         return url;
     }
 
+    /**
+     * @return key of the transport and the clients, configs with the same key may share them
+     */
+    public ClientsKey getClientsKey() {
+        return clientsKey;
+    }
+
     public String getSafeUrl() {
         return safeUrl;
     }
@@ -335,4 +580,46 @@ public class YdbConfig {
             throw new SQLException(ex.getMessage(), ex);
         }
     }
+
+    /**
+     * Key of the transport and the clients. It contains only connection and client properties, so the configs which
+     * differ only by operation or query properties have the same key
+     */
+    public static final class ClientsKey {
+        private final String connectionString;
+        private final String username;
+        private final String password;
+        private final Properties properties;
+        private final int transportIndex;
+
+        private ClientsKey(String connectionString, String username, String password, Properties properties,
+                int transportIndex) {
+            this.connectionString = connectionString;
+            this.username = username;
+            this.password = password;
+            this.properties = properties;
+            this.transportIndex = transportIndex;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ClientsKey)) {
+                return false;
+            }
+            ClientsKey that = (ClientsKey) o;
+            return Objects.equals(connectionString, that.connectionString)
+                    && Objects.equals(username, that.username)
+                    && Objects.equals(password, that.password)
+                    && Objects.equals(properties, that.properties)
+                    && transportIndex == that.transportIndex;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(connectionString, username, properties, transportIndex);
+        }
+    }
 }
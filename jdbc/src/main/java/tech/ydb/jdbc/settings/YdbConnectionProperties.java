@@ -269,22 +269,31 @@ public class YdbConnectionProperties {
         return builder;
     }
 
-    public void applyToClients(PooledTableClient.Builder table, QueryClient.Builder query) throws SQLException {
+    /**
+     * Applies the configured meter to the clients
+     *
+     * @param table table client builder
+     * @param query query client builder
+     * @return applied meter or null if the metrics are disabled
+     * @throws SQLException if the meter cannot be created
+     */
+    public Meter applyToClients(PooledTableClient.Builder table, QueryClient.Builder query) throws SQLException {
         if (!withMeter.hasValue()) {
-            return;
+            return null;
         }
 
         JdbcDriverVersion version = JdbcDriverVersion.getInstance();
         if (!version.isSdkVersion(2, 4, 6)) {
             LOGGER.log(Level.WARNING, "Option 'withMeter' was ignored because SDK version {0} is too old",
                     version.getSdkVersion());
-            return;
+            return null;
         }
 
         Meter meter = getMeter();
         String poolName = meterPoolName.getValue();
         table.withMeter(meter, poolName);
         query.withMeter(meter, poolName);
+        return meter;
     }
 
     private GrpcTransportBuilder applyTokenProvider(GrpcTransportBuilder builder, Object provider) throws SQLException {
@@ -5,6 +5,7 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.util.Properties;
 
+import tech.ydb.common.transaction.TxMode;
 import tech.ydb.table.values.DecimalType;
 
 
@@ -83,6 +84,61 @@ public class YdbOperationProperties {
     static final YdbProperty<Duration> QUERY_REWRITE_TABLE_TTL = YdbProperty.duration("queryRewriteTtl",
             "Name of working table to hot replacemnt of queies", "300s");
 
+    static final YdbProperty<Boolean> USE_STICKY_QUERY_SESSION = YdbProperty.bool("useStickyQuerySession",
+            "Keep one query session per connection between autocommit statements", false);
+
+    static final YdbProperty<Duration> STICKY_SESSION_MAX_IDLE_TIME = YdbProperty.duration(
+            "stickySessionMaxIdleTime", "Max idle time of sticky query session, after that the session is returned "
+                    + "to the pool. Must be less than idle timeout of sessions on the server", "1m");
+
+    static final YdbProperty<Boolean> DEFER_DML_TO_COMMIT = YdbProperty.bool("deferDmlToCommit",
+            "Defer DML statements without results until the next read or commit of transaction", false);
+
+    static final YdbProperty<Integer> MAX_DEFERRED_DML_STATEMENTS = YdbProperty.integer("maxDeferredDmlStatements",
+            "Max count of deferred DML statements, which will be sent as one multi-statement query", 1);
+
+    static final YdbProperty<TxMode> AUTOCOMMIT_READ_TX_MODE = YdbProperty.enums("autoCommitReadTxMode",
+            TxMode.class, "Read-only transaction mode for autocommit queries without writes. Possible values - "
+                    + "SNAPSHOT_RO, STALE_RO, ONLINE_RO, ONLINE_INCONSISTENT_RO");
+
+    static final YdbProperty<Boolean> USE_IMPLICIT_AUTOCOMMIT_TX = YdbProperty.bool("useImplicitAutoCommitTx",
+            "Execute single statement autocommit queries in implicit transactions", false);
+
+    static final YdbProperty<Integer> PARALLEL_SCAN_STREAMS = YdbProperty.integer("parallelScanStreams",
+            "Max count of concurrent streams for scan query over one table, values less than 2 disable it", 0);
+
+    static final YdbProperty<Boolean> PARALLEL_SCAN_ORDERED = YdbProperty.bool("parallelScanOrdered",
+            "Return rows of parallel scan query sorted by primary key", false);
+
+    static final YdbProperty<Boolean> RESUMABLE_SCAN_STREAMS = YdbProperty.bool("resumableScanStreams",
+            "Reopen failed stream of scan query sorted by primary key after the last read key, count and delays "
+            + "of reopenings are set by retry* properties", false);
+
+    static final YdbProperty<Integer> RETRY_MAX_ATTEMPTS = YdbProperty.integer("retryMaxAttempts",
+            "Max count of retries of read-only autocommit queries, 0 keeps only retries of BAD_SESSION", 0);
+
+    static final YdbProperty<Duration> RETRY_FAST_BACKOFF = YdbProperty.duration("retryFastBackoff",
+            "Base delay of retries of ABORTED, UNAVAILABLE and other transient errors", "0.01s");
+
+    static final YdbProperty<Duration> RETRY_SLOW_BACKOFF = YdbProperty.duration("retrySlowBackoff",
+            "Base delay of retries of OVERLOADED and resource exhausted errors", "0.1s");
+
+    static final YdbProperty<Duration> RETRY_MAX_BACKOFF = YdbProperty.duration("retryMaxBackoff",
+            "Max delay between two retries", "2s");
+
+    static final YdbProperty<Duration> RETRY_TIME_BUDGET = YdbProperty.duration("retryTimeBudget",
+            "Max total time of query execution with all retries", "10s");
+
+    static final YdbProperty<Boolean> RETRY_IDEMPOTENT_WRITES = YdbProperty.bool("retryIdempotentWrites",
+            "Consider all autocommit queries as idempotent and retry writing queries as read-only ones", false);
+
+    static final YdbProperty<Duration> HEDGING_DELAY = YdbProperty.duration("hedgingDelay",
+            "Delay before the duplicate of read-only autocommit query on another session, 0 disables hedging", "0s");
+
+    static final YdbProperty<Integer> HEDGING_PERCENTILE = YdbProperty.integer("hedgingPercentile",
+            "Percentile of latency of recent hedged queries used as delay if it's greater than hedgingDelay, "
+                    + "0 disables adaptive delay", 0);
+
     private final YdbValue<Duration> joinDuration;
     private final YdbValue<Duration> queryTimeout;
     private final YdbValue<Duration> scanQueryTimeout;
@@ -104,6 +160,23 @@ public class YdbOperationProperties {
     private final YdbValue<String> txValidationTable;
     private final YdbValue<String> queryRewriteTable;
     private final YdbValue<Duration> queryRewriteTTL;
+    private final YdbValue<Boolean> useStickyQuerySession;
+    private final YdbValue<Duration> stickySessionMaxIdleTime;
+    private final YdbValue<Boolean> deferDmlToCommit;
+    private final YdbValue<Integer> maxDeferredDmlStatements;
+    private final YdbValue<TxMode> autoCommitReadTxMode;
+    private final YdbValue<Boolean> useImplicitAutoCommitTx;
+    private final YdbValue<Integer> parallelScanStreams;
+    private final YdbValue<Boolean> parallelScanOrdered;
+    private final YdbValue<Boolean> resumableScanStreams;
+    private final YdbValue<Integer> retryMaxAttempts;
+    private final YdbValue<Duration> retryFastBackoff;
+    private final YdbValue<Duration> retrySlowBackoff;
+    private final YdbValue<Duration> retryMaxBackoff;
+    private final YdbValue<Duration> retryTimeBudget;
+    private final YdbValue<Boolean> retryIdempotentWrites;
+    private final YdbValue<Duration> hedgingDelay;
+    private final YdbValue<Integer> hedgingPercentile;
 
     public YdbOperationProperties(YdbConfig config) throws SQLException {
         Properties props = config.getProperties();
@@ -129,6 +202,23 @@ public class YdbOperationProperties {
         this.txValidationTable = TX_VALIDATION_TABLE.readValue(props);
         this.queryRewriteTable = QUERY_REWRITE_TABLE.readValue(props);
         this.queryRewriteTTL = QUERY_REWRITE_TABLE_TTL.readValue(props);
+        this.useStickyQuerySession = USE_STICKY_QUERY_SESSION.readValue(props);
+        this.stickySessionMaxIdleTime = STICKY_SESSION_MAX_IDLE_TIME.readValue(props);
+        this.deferDmlToCommit = DEFER_DML_TO_COMMIT.readValue(props);
+        this.maxDeferredDmlStatements = MAX_DEFERRED_DML_STATEMENTS.readValue(props);
+        this.autoCommitReadTxMode = AUTOCOMMIT_READ_TX_MODE.readValue(props);
+        this.useImplicitAutoCommitTx = USE_IMPLICIT_AUTOCOMMIT_TX.readValue(props);
+        this.parallelScanStreams = PARALLEL_SCAN_STREAMS.readValue(props);
+        this.parallelScanOrdered = PARALLEL_SCAN_ORDERED.readValue(props);
+        this.resumableScanStreams = RESUMABLE_SCAN_STREAMS.readValue(props);
+        this.retryMaxAttempts = RETRY_MAX_ATTEMPTS.readValue(props);
+        this.retryFastBackoff = RETRY_FAST_BACKOFF.readValue(props);
+        this.retrySlowBackoff = RETRY_SLOW_BACKOFF.readValue(props);
+        this.retryMaxBackoff = RETRY_MAX_BACKOFF.readValue(props);
+        this.retryTimeBudget = RETRY_TIME_BUDGET.readValue(props);
+        this.retryIdempotentWrites = RETRY_IDEMPOTENT_WRITES.readValue(props);
+        this.hedgingDelay = HEDGING_DELAY.readValue(props);
+        this.hedgingPercentile = HEDGING_PERCENTILE.readValue(props);
     }
 
     public Duration getJoinDuration() {
@@ -202,4 +292,72 @@ public class YdbOperationProperties {
     public Duration getQueryRewriteTtl() {
         return queryRewriteTTL.getValue();
     }
+
+    public boolean isUseStickyQuerySession() {
+        return useStickyQuerySession.getValue();
+    }
+
+    public Duration getStickySessionMaxIdleTime() {
+        return stickySessionMaxIdleTime.getValue();
+    }
+
+    public boolean isDeferDmlToCommit() {
+        return deferDmlToCommit.getValue();
+    }
+
+    public int getMaxDeferredDmlStatements() {
+        return maxDeferredDmlStatements.getValue();
+    }
+
+    public TxMode getAutoCommitReadTxMode() {
+        return autoCommitReadTxMode.getValue();
+    }
+
+    public boolean isUseImplicitAutoCommitTx() {
+        return useImplicitAutoCommitTx.getValue();
+    }
+
+    public int getParallelScanStreams() {
+        return parallelScanStreams.getValue();
+    }
+
+    public boolean isParallelScanOrdered() {
+        return parallelScanOrdered.getValue();
+    }
+
+    public boolean isResumableScanStreams() {
+        return resumableScanStreams.getValue();
+    }
+
+    public int getRetryMaxAttempts() {
+        return retryMaxAttempts.getValue();
+    }
+
+    public Duration getRetryFastBackoff() {
+        return retryFastBackoff.getValue();
+    }
+
+    public Duration getRetrySlowBackoff() {
+        return retrySlowBackoff.getValue();
+    }
+
+    public Duration getRetryMaxBackoff() {
+        return retryMaxBackoff.getValue();
+    }
+
+    public Duration getRetryTimeBudget() {
+        return retryTimeBudget.getValue();
+    }
+
+    public boolean isRetryIdempotentWrites() {
+        return retryIdempotentWrites.getValue();
+    }
+
+    public Duration getHedgingDelay() {
+        return hedgingDelay.getValue();
+    }
+
+    public int getHedgingPercentile() {
+        return hedgingPercentile.getValue();
+    }
 }
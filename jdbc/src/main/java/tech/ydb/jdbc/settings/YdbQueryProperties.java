@@ -25,6 +25,10 @@ public class YdbQueryProperties {
     static final YdbProperty<Boolean> DISABLE_AUTO_PREPARED_BATCHES = YdbProperty.bool("disableAutoPreparedBatches",
             "Disable automatically detect list of tuples or structs in prepared statement", false);
 
+    static final YdbProperty<Integer> PREPARE_THRESHOLD = YdbProperty.integer("prepareThreshold",
+            "Count of #prepareStatement calls with the same query text before it will be prepared on the server "
+                    + "side. Queries are executed in in-memory mode until this threshold is reached", 1);
+
     static final YdbProperty<Boolean> DISABLE_JDBC_PARAMETERS = YdbProperty.bool("disableJdbcParameters",
             "Disable auto detect JDBC standart parameters '?'", false);
 
@@ -54,6 +58,10 @@ public class YdbQueryProperties {
             "Execute all UPSERT statements as BulkUpserts", false);
     static final YdbProperty<Boolean> FORCE_SCAN_SELECT = YdbProperty.bool("forceScanSelect",
             "Execute all SELECT statements as ScanQuery", false);
+    static final YdbProperty<Boolean> USE_POINT_LOOKUP_READ_ROWS = YdbProperty.bool("usePointLookupReadRows",
+            "Execute SELECT by full primary key outside of transactions as ReadRows calls", false);
+    static final YdbProperty<Boolean> BATCH_KEY_LOOKUPS = YdbProperty.bool("batchKeyLookups",
+            "Execute batch of SELECT by full primary key as one query", false);
 
     private final boolean isDetectQueryType;
     private final boolean isDetectJdbcParameters;
@@ -63,10 +71,13 @@ public class YdbQueryProperties {
 
     private final boolean isPrepareDataQueries;
     private final boolean isDetectBatchQueries;
+    private final int prepareThreshold;
 
     private final boolean isReplaceInsertToUpsert;
     private final boolean isForceBulkUpsert;
     private final boolean isForceScanSelect;
+    private final boolean isUsePointLookupReadRows;
+    private final boolean isBatchKeyLookups;
 
     public YdbQueryProperties(YdbConfig config) throws SQLException {
         this(config.getProperties());
@@ -78,6 +89,7 @@ public class YdbQueryProperties {
 
         this.isPrepareDataQueries = !disablePrepareDataQueries;
         this.isDetectBatchQueries = !disablePrepareDataQueries && !disableAutoPreparedBatches;
+        this.prepareThreshold = Math.max(1, PREPARE_THRESHOLD.readValue(props).getValue());
 
         boolean replaceJdbcInByYqlList = REPLACE_JDBC_IN_BY_YQL_LIST.readValue(props).getValue();
         boolean disableJdbcParametersDeclare = DISABLE_JDBC_PARAMETERS_DECLARE.readValue(props).getValue();
@@ -108,6 +120,8 @@ public class YdbQueryProperties {
                 .getValueOrOther(forceScanAndBulk.getValue() || forcedType.getValue() == QueryType.BULK_QUERY);
         this.isForceScanSelect = FORCE_SCAN_SELECT.readValue(props)
                 .getValueOrOther(forceScanAndBulk.getValue() || forcedType.getValue() == QueryType.SCAN_QUERY);
+        this.isUsePointLookupReadRows = USE_POINT_LOOKUP_READ_ROWS.readValue(props).getValue();
+        this.isBatchKeyLookups = BATCH_KEY_LOOKUPS.readValue(props).getValue();
     }
 
     public boolean isDetectQueryType() {
@@ -134,6 +148,10 @@ public class YdbQueryProperties {
         return isDetectBatchQueries;
     }
 
+    public int getPrepareThreshold() {
+        return prepareThreshold;
+    }
+
     public boolean isReplaceInsertToUpsert() {
         return isReplaceInsertToUpsert;
     }
@@ -146,6 +164,14 @@ public class YdbQueryProperties {
         return isForceScanSelect;
     }
 
+    public boolean isUsePointLookupReadRows() {
+        return isUsePointLookupReadRows;
+    }
+
+    public boolean isBatchKeyLookups() {
+        return isBatchKeyLookups;
+    }
+
     public boolean isForceJdbcParameters() {
         return isForceJdbcParameters;
     }
@@ -14,11 +14,16 @@ import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import tech.ydb.jdbc.context.LatencyHistogram;
 import tech.ydb.jdbc.context.YdbContext;
 import tech.ydb.jdbc.impl.YdbConnectionImpl;
 import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
@@ -29,6 +34,8 @@ import tech.ydb.test.junit5.YdbHelperExtension;
  * @author Aleksandr Gorshenin
  */
 public class YdbDriverIntegrationTest {
+    private static final Logger LOGGER = Logger.getLogger(YdbDriverIntegrationTest.class.getName());
+
     @RegisterExtension
     private static final YdbHelperExtension ydb = new YdbHelperExtension();
 
@@ -136,6 +143,51 @@ public class YdbDriverIntegrationTest {
         Assertions.assertEquals(0, driver.getConnectionCount());
     }
 
+    @Test
+    public void testSharedClients() throws SQLException {
+        Driver jdbcDriver = DriverManager.getDriver(jdbcURL.build());
+        YdbDriver driver = (YdbDriver)jdbcDriver;
+        driver.clear();
+
+        Connection conn1 = DriverManager.getConnection(jdbcURL.build());
+        YdbContext ctx1 = conn1.unwrap(YdbConnection.class).getCtx();
+
+        // operation and query properties create new context over the same clients
+        try (Connection conn2 = DriverManager.getConnection(jdbcURL.withArg("forceScanSelect", "true").build())) {
+            YdbContext ctx2 = conn2.unwrap(YdbConnection.class).getCtx();
+            Assertions.assertEquals(2, driver.getConnectionCount());
+            Assertions.assertNotSame(ctx1, ctx2);
+            Assertions.assertSame(ctx1.getClients(), ctx2.getClients());
+            Assertions.assertSame(ctx1.getGrpcTransport(), ctx2.getGrpcTransport());
+            Assertions.assertSame(ctx1.getTableClient(), ctx2.getTableClient());
+            Assertions.assertSame(ctx1.getQueryClient(), ctx2.getQueryClient());
+            Assertions.assertTrue(conn2.isValid(5000));
+        }
+
+        // closing of the second context doesn't close the shared clients
+        Assertions.assertEquals(1, driver.getConnectionCount());
+        Assertions.assertFalse(ctx1.getClients().isClosed());
+        Assertions.assertTrue(conn1.isValid(5000));
+
+        // client properties create new clients
+        try (Connection conn3 = DriverManager.getConnection(jdbcURL.withArg("sessionPoolSizeMax", "20").build())) {
+            YdbContext ctx3 = conn3.unwrap(YdbConnection.class).getCtx();
+            Assertions.assertNotSame(ctx1.getClients(), ctx3.getClients());
+            Assertions.assertNotSame(ctx1.getGrpcTransport(), ctx3.getGrpcTransport());
+        }
+
+        // session pool of the clients is prewarmed for the used service
+        try (Connection conn4 = DriverManager.getConnection(jdbcURL.withArg("useQueryService", "false").build())) {
+            YdbContext ctx4 = conn4.unwrap(YdbConnection.class).getCtx();
+            Assertions.assertNotSame(ctx1.getClients(), ctx4.getClients());
+        }
+
+        // the last context closes the clients
+        conn1.close();
+        Assertions.assertTrue(ctx1.getClients().isClosed());
+        Assertions.assertEquals(0, driver.getConnectionCount());
+    }
+
     @Test
     public void testContextCacheDisable() throws SQLException {
         Driver jdbcDriver = DriverManager.getDriver(jdbcURL.build());
@@ -305,6 +357,84 @@ public class YdbDriverIntegrationTest {
         }
     }
 
+    @Test
+    public void autoCommitReadTxModeTest() throws SQLException {
+        String url = jdbcURL.withArg("useQueryService", "true").withArg("autoCommitReadTxMode", "SNAPSHOT_RO").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (Statement st = conn.createStatement()) {
+                try (ResultSet rs = st.executeQuery("SELECT 1 + 2;")) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(3, rs.getInt(1));
+                }
+            }
+        }
+
+        String wrongUrl = jdbcURL.withArg("useQueryService", "true")
+                .withArg("autoCommitReadTxMode", "SERIALIZABLE_RW").build();
+        SQLException ex = Assertions.assertThrows(SQLException.class, () -> DriverManager.getConnection(wrongUrl));
+        Assertions.assertEquals("Unsupported read-only transaction mode: SERIALIZABLE_RW", ex.getMessage());
+    }
+
+    @Test
+    public void implicitAutoCommitTxTest() throws SQLException {
+        String url = jdbcURL.withArg("useQueryService", "true").withArg("useImplicitAutoCommitTx", "true").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbConnectionImpl ydbConn = conn.unwrap(YdbConnectionImpl.class);
+            try (Statement st = conn.createStatement()) {
+                try (ResultSet rs = st.executeQuery("SELECT 1 + 2;")) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(3, rs.getInt(1));
+                }
+                Assertions.assertNull(ydbConn.getYdbTxId());
+
+                // multi statement query is executed in explicit transaction
+                Assertions.assertTrue(st.execute("SELECT 1; SELECT 2;"));
+                Assertions.assertNull(ydbConn.getYdbTxId());
+            }
+
+            conn.setAutoCommit(false);
+            try (Statement st = conn.createStatement()) {
+                try (ResultSet rs = st.executeQuery("SELECT 1 + 2;")) {
+                    Assertions.assertTrue(rs.next());
+                }
+                Assertions.assertNotNull(ydbConn.getYdbTxId());
+                conn.commit();
+            }
+        }
+    }
+
+    private static LatencyHistogram measureLatency(Statement st, String sql, int count) throws SQLException {
+        LatencyHistogram latency = new LatencyHistogram();
+        for (int idx = 0; idx < count; idx++) {
+            long startedAt = System.nanoTime();
+            try (ResultSet rs = st.executeQuery(sql)) {
+                Assertions.assertTrue(rs.next());
+            }
+            latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+        }
+        return latency;
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "ydb.jdbc.benchmark", matches = "true")
+    public void implicitAutoCommitTxBenchmark() throws SQLException {
+        int count = Integer.getInteger("ydb.jdbc.benchmark.queries", 10000);
+        for (String implicit: new String[] {"false", "true"}) {
+            String url = jdbcURL.withArg("useQueryService", "true")
+                    .withArg("useImplicitAutoCommitTx", implicit)
+                    .build();
+            try (Connection conn = DriverManager.getConnection(url)) {
+                try (Statement st = conn.createStatement()) {
+                    measureLatency(st, "SELECT 1 + 2", count / 10); // warm up
+                    LatencyHistogram latency = measureLatency(st, "SELECT 1 + 2", count);
+                    LOGGER.log(Level.INFO, "Implicit autocommit tx {0}: p50 {1} us, p99 {2} us, max {3} us",
+                            new Object[] {implicit, latency.getPercentile(50), latency.getPercentile(99),
+                                latency.getMax()});
+                }
+            }
+        }
+    }
+
     @Test
     public void txTracerTest() throws SQLException {
         // Disabled tx tracer
@@ -130,6 +130,56 @@ public class YdbDriverQueryRewriteTest {
         }
     }
 
+    @Test
+    public void backgroundRefreshTest() throws SQLException, InterruptedException {
+        String url = jdbcURL.withArg("withQueryRewriteTable", "query_rewrite3")
+                .withArg("queryRewriteTtl", "1s")
+                .build();
+        String insert = "INSERT INTO test3 (id, value) VALUES (?, ?)";
+
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("CREATE TABLE test3 (id Int32, value Text, PRIMARY KEY (id))");
+            }
+
+            try (PreparedStatement ps = conn.prepareStatement(insert)) {
+                ps.setInt(1, 1);
+                ps.setString(2, "v1");
+                ps.execute();
+            }
+
+            try (PreparedStatement update = jdbc.connection().prepareStatement(
+                    "UPDATE query_rewrite3 SET rewritten = ? WHERE query = ?")) {
+                update.setString(1, "UPSERT INTO test3 (id, value) VALUES (?, ?)");
+                update.setString(2, insert);
+                update.execute();
+            }
+
+            // expired rewrite is still used while the new one is loaded in background
+            boolean isRewritten = false;
+            for (int attempt = 0; attempt < 50 && !isRewritten; attempt++) {
+                Thread.sleep(100);
+                try (PreparedStatement ps = conn.prepareStatement(insert)) {
+                    ps.setInt(1, 1);
+                    ps.setString(2, "v2");
+                    ps.execute();
+                    isRewritten = true;
+                } catch (SQLException ex) {
+                    // INSERT of existing key
+                }
+            }
+
+            Assertions.assertTrue(isRewritten, "Rewritten query wasn't loaded");
+            try (Statement st = conn.createStatement()) {
+                st.execute("DROP TABLE test3");
+            }
+        } finally {
+            try (Statement st = jdbc.connection().createStatement()) {
+                st.execute("DROP TABLE query_rewrite3");
+            }
+        }
+    }
+
     @Test
     public void testContextCacheConncurrent() throws SQLException {
         String url = jdbcURL.withArg("withQueryRewriteTable", "query_rewrite2").build();
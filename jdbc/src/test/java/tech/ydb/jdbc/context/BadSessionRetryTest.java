@@ -68,4 +68,97 @@ public class BadSessionRetryTest {
             }
         }
     }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    public void retryPolicyTest(boolean useQueryService) throws SQLException {
+        GrpcTestInterceptor.reset();
+        String prefix = useQueryService ? "Cannot execute 'STREAM_QUERY >>\n" : "Cannot call 'DATA_QUERY >>\n";
+
+        String url = jdbcURL
+                .withArg("useQueryService", Boolean.toString(useQueryService))
+                .withArg("retryMaxAttempts", "3")
+                .build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            // transient errors of read-only queries will be retried
+            GrpcTestInterceptor.nextExecuteQuery(StatusCode.OVERLOADED, StatusCode.UNAVAILABLE, StatusCode.ABORTED);
+            try (Statement st = conn.createStatement()) {
+                Assertions.assertTrue(st.execute("SELECT 1 + 2"));
+            }
+
+            // but not more than retryMaxAttempts times
+            GrpcTestInterceptor.nextExecuteQuery(StatusCode.ABORTED, StatusCode.ABORTED, StatusCode.ABORTED,
+                    StatusCode.ABORTED);
+            try (Statement st = conn.createStatement()) {
+                ExceptionAssert.sqlRecoverable(""
+                        + prefix
+                        + "SELECT 1 + 2' with Status{code = ABORTED(code=400040)",
+                        () -> st.execute("SELECT 1 + 2"));
+            }
+
+            conn.setAutoCommit(false);
+
+            // policy is used only in autocommit mode
+            GrpcTestInterceptor.nextExecuteQuery(StatusCode.OVERLOADED);
+            try (Statement st = conn.createStatement()) {
+                ExceptionAssert.sqlRecoverable(""
+                        + prefix
+                        + "SELECT 1 + 2' with Status{code = OVERLOADED(code=400060)",
+                        () -> st.execute("SELECT 1 + 2"));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    public void stickySessionRetryTest(boolean useStreamResultSets) throws SQLException {
+        GrpcTestInterceptor.reset();
+
+        String url = jdbcURL
+                .withArg("useQueryService", "true")
+                .withArg("useStickyQuerySession", "true")
+                .withArg("useStreamResultSets", Boolean.toString(useStreamResultSets))
+                .build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (Statement st = conn.createStatement()) {
+                Assertions.assertTrue(st.execute("SELECT 1 + 2"));
+                String sticky = GrpcTestInterceptor.lastQuerySession();
+                Assertions.assertNotNull(sticky);
+
+                // the session of the first connection is not returned to the pool, so the other one uses another
+                try (Connection other = DriverManager.getConnection(url)) {
+                    try (Statement otherSt = other.createStatement()) {
+                        Assertions.assertTrue(otherSt.execute("SELECT 1 + 2"));
+                        Assertions.assertNotEquals(sticky, GrpcTestInterceptor.lastQuerySession());
+                    }
+                }
+
+                Assertions.assertTrue(st.execute("SELECT 1 + 2"));
+                Assertions.assertEquals(sticky, GrpcTestInterceptor.lastQuerySession());
+            }
+
+            // Sticky session is discarded after BAD_SESSION and retry uses a new one
+            GrpcTestInterceptor.nextExecuteQuery(StatusCode.BAD_SESSION);
+            try (Statement st = conn.createStatement()) {
+                Assertions.assertTrue(st.execute("SELECT 1 + 2"));
+                Assertions.assertTrue(st.execute("SELECT 1 + 2"));
+            }
+
+            // Sticky session is discarded after BAD_REQUEST too
+            GrpcTestInterceptor.nextExecuteQuery(StatusCode.BAD_REQUEST);
+            try (Statement st = conn.createStatement()) {
+                ExceptionAssert.ydbException("SELECT 1 + 2' with Status{code = BAD_REQUEST(code=400010)",
+                        () -> st.execute("SELECT 1 + 2"));
+                Assertions.assertTrue(st.execute("SELECT 1 + 2"));
+            }
+
+            conn.setAutoCommit(false);
+            try (Statement st = conn.createStatement()) {
+                Assertions.assertTrue(st.execute("SELECT 1 + 2"));
+                conn.commit();
+                Assertions.assertTrue(st.execute("SELECT 1 + 2"));
+                conn.rollback();
+            }
+        }
+    }
 }
@@ -0,0 +1,132 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class ChannelStripingTest {
+    private static final Logger LOGGER = Logger.getLogger(ChannelStripingTest.class.getName());
+
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb);
+
+    private static long runSelects(String url, int threads, long durationMs) throws Exception {
+        AtomicLong count = new AtomicLong();
+        long deadline = System.currentTimeMillis() + durationMs;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        // keeps the cached context between connections of worker threads
+        try (Connection holder = DriverManager.getConnection(url)) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int idx = 0; idx < threads; idx++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try (Connection conn = DriverManager.getConnection(url)) {
+                        try (Statement st = conn.createStatement()) {
+                            while (System.currentTimeMillis() < deadline) {
+                                try (ResultSet rs = st.executeQuery("SELECT 1")) {
+                                    Assertions.assertTrue(rs.next());
+                                }
+                                count.incrementAndGet();
+                            }
+                        }
+                    } catch (SQLException ex) {
+                        throw new AssertionError(ex);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(durationMs + 60000,
+                    TimeUnit.MILLISECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        return count.get();
+    }
+
+    @Test
+    public void stripedSessionsTest() throws Exception {
+        String url = jdbcURL.withArg("useQueryService", "false").withArg("channelStripesCount", "4").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbClients clients = conn.unwrap(YdbConnection.class).getCtx().getClients();
+            Assertions.assertEquals(4, clients.getStripesCount());
+
+            runSelects(url, 32, 2000);
+
+            // all stripes got sessions
+            for (int idx = 0; idx < clients.getStripesCount(); idx++) {
+                Assertions.assertTrue(clients.getTableClient(idx).sessionPoolStats().getIdleCount() > 0,
+                        "Stripe " + idx + " was not used");
+            }
+        }
+    }
+
+    @Test
+    public void stripedPoolLimitsTest() throws SQLException {
+        String url = jdbcURL.withArg("channelStripesCount", "4")
+                .withArg("sessionPoolSizeMin", "8")
+                .withArg("sessionPoolSizeMax", "40")
+                .build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbClients clients = conn.unwrap(YdbConnection.class).getCtx().getClients();
+            Assertions.assertEquals(4, clients.getStripesCount());
+
+            // limits of the session pool are split between stripes
+            for (int idx = 0; idx < clients.getStripesCount(); idx++) {
+                Assertions.assertEquals(10, clients.getTableClient(idx).sessionPoolStats().getMaxSize());
+                Assertions.assertEquals(2, clients.getTableClient(idx).sessionPoolStats().getMinSize());
+            }
+        }
+
+        // count of stripes is limited
+        try (Connection conn = DriverManager.getConnection(jdbcURL.withArg("channelStripesCount", "100").build())) {
+            YdbClients clients = conn.unwrap(YdbConnection.class).getCtx().getClients();
+            Assertions.assertEquals(8, clients.getStripesCount());
+        }
+    }
+
+    @Test
+    public void singleStripeTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            YdbClients clients = conn.unwrap(YdbConnection.class).getCtx().getClients();
+            Assertions.assertEquals(1, clients.getStripesCount());
+            Assertions.assertSame(clients.getQueryClient(), clients.selectQueryClient());
+            Assertions.assertSame(clients.getTableClient(), clients.selectTableClient());
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "ydb.jdbc.benchmark", matches = "true")
+    public void throughputBenchmark() throws Exception {
+        int threads = Integer.getInteger("ydb.jdbc.benchmark.threads", 256);
+        long durationMs = Long.getLong("ydb.jdbc.benchmark.duration", 20000);
+
+        for (String stripes: new String[] {"1", "4"}) {
+            String url = jdbcURL.withArg("channelStripesCount", stripes)
+                    .withArg("sessionPoolSizeMax", String.valueOf(threads))
+                    .build();
+            long count = runSelects(url, threads, durationMs);
+            LOGGER.log(Level.INFO, "Channel stripes {0}, threads {1}: {2} queries per second",
+                    new Object[] {stripes, threads, count * 1000 / durationMs});
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.impl.helper.ExceptionAssert;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.proto.query.v1.QueryServiceGrpc;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class DeferredDmlTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb)
+            .withArg("channelInitializer", GrpcTestInterceptor.class.getCanonicalName())
+            .withArg("useQueryService", "true")
+            .withArg("deferDmlToCommit", "true");
+
+    private static final String TABLE = "deferred_dml_test";
+
+    @BeforeAll
+    public static void createTable() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("CREATE TABLE " + TABLE + " (id Int32, value Text, PRIMARY KEY(id))");
+            }
+        }
+    }
+
+    @AfterAll
+    public static void dropTable() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("DROP TABLE " + TABLE);
+            }
+        }
+    }
+
+    private static int executeCalls() {
+        return GrpcTestInterceptor.callsCount(QueryServiceGrpc.getExecuteQueryMethod());
+    }
+
+    private static int commitCalls() {
+        return GrpcTestInterceptor.callsCount(QueryServiceGrpc.getCommitTransactionMethod());
+    }
+
+    private static int countRows(Statement st) throws SQLException {
+        try (ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM " + TABLE)) {
+            Assertions.assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+
+    @Test
+    public void deferredCommitTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            conn.setAutoCommit(false);
+            try (Statement st = conn.createStatement()) {
+                st.execute("DELETE FROM " + TABLE);
+                conn.commit();
+
+                GrpcTestInterceptor.reset();
+
+                // DML is executed together with commit
+                Assertions.assertEquals(1, st.executeUpdate("UPSERT INTO " + TABLE + " (id, value) VALUES (1, 'a')"));
+                Assertions.assertEquals(0, executeCalls());
+                Assertions.assertTrue(conn.unwrap(YdbConnection.class).getExecutor().isInsideTransaction());
+
+                conn.commit();
+                Assertions.assertEquals(1, executeCalls());
+                Assertions.assertEquals(0, commitCalls());
+
+                // Read executes the deferred statement before itself
+                st.executeUpdate("UPSERT INTO " + TABLE + " (id, value) VALUES (2, 'b')");
+                Assertions.assertEquals(2, countRows(st));
+                Assertions.assertEquals(3, executeCalls());
+
+                conn.commit();
+                Assertions.assertEquals(1, commitCalls());
+
+                // Rollback discards the deferred statement
+                st.executeUpdate("UPSERT INTO " + TABLE + " (id, value) VALUES (3, 'c')");
+                conn.rollback();
+                Assertions.assertEquals(2, countRows(st));
+                conn.commit();
+            }
+        }
+    }
+
+    @Test
+    public void deferredErrorTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            conn.setAutoCommit(false);
+            try (Statement st = conn.createStatement()) {
+                // Error of deferred statement is thrown by commit
+                st.executeUpdate("UPSERT INTO " + TABLE + "_wrong (id, value) VALUES (1, 'a')");
+                ExceptionAssert.ydbException("Cannot find table", conn::commit);
+
+                Assertions.assertFalse(conn.unwrap(YdbConnection.class).getExecutor().isInsideTransaction());
+
+                // Error of deferred statement is thrown by the next read
+                st.executeUpdate("UPSERT INTO " + TABLE + "_wrong (id, value) VALUES (1, 'a')");
+                ExceptionAssert.ydbException("Cannot find table", () -> countRows(st));
+
+                countRows(st);
+                conn.commit();
+            }
+        }
+    }
+
+    @Test
+    public void coalescedDmlTest() throws SQLException {
+        String url = jdbcURL.withArg("maxDeferredDmlStatements", "5").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            conn.setAutoCommit(false);
+            try (Statement st = conn.createStatement()) {
+                st.execute("DELETE FROM " + TABLE);
+                conn.commit();
+
+                GrpcTestInterceptor.reset();
+                String upsert = "UPSERT INTO " + TABLE + " (id, value) VALUES (?, ?)";
+                try (PreparedStatement ps = conn.prepareStatement(upsert)) {
+                    for (int id = 1; id <= 7; id++) {
+                        ps.setInt(1, id);
+                        ps.setString(2, "value-" + id);
+                        Assertions.assertEquals(1, ps.executeUpdate());
+                    }
+                }
+                st.executeUpdate("UPSERT INTO " + TABLE + " (id, value) VALUES (8, 'value-8')");
+
+                // first five statements are sent as soon as the sixth is deferred
+                Assertions.assertEquals(1, executeCalls());
+
+                conn.commit();
+                Assertions.assertEquals(2, executeCalls());
+                Assertions.assertEquals(0, commitCalls());
+
+                Assertions.assertEquals(8, countRows(st));
+                try (ResultSet rs = st.executeQuery("SELECT value FROM " + TABLE + " WHERE id = 6")) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals("value-6", rs.getString(1));
+                }
+                conn.commit();
+            }
+        }
+    }
+
+    @Test
+    public void readingDmlIsNotCoalescedTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            conn.setAutoCommit(false);
+            try (Statement st = conn.createStatement()) {
+                st.execute("DELETE FROM " + TABLE);
+                conn.commit();
+
+                GrpcTestInterceptor.reset();
+                st.executeUpdate("UPSERT INTO " + TABLE + " (id, value) VALUES (1, 'a')");
+                st.executeUpdate("UPDATE " + TABLE + " SET value = 'b' WHERE id = 1");
+                st.executeUpdate("DELETE FROM " + TABLE + " WHERE id = 1");
+                st.executeUpdate("UPSERT INTO " + TABLE + " (id, value) VALUES (2, 'c')");
+                st.executeUpdate("UPDATE " + TABLE + " SET value = 'd' WHERE id = 2");
+
+                // UPDATE and DELETE read the table, so each of them starts a new query after the previous changes
+                Assertions.assertEquals(3, executeCalls());
+
+                conn.commit();
+                Assertions.assertEquals(4, executeCalls());
+
+                Assertions.assertEquals(1, countRows(st));
+                try (ResultSet rs = st.executeQuery("SELECT id, value FROM " + TABLE)) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(2, rs.getInt("id"));
+                    Assertions.assertEquals("d", rs.getString("value"));
+                    Assertions.assertFalse(rs.next());
+                }
+                conn.commit();
+            }
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package tech.ydb.jdbc.context;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import io.grpc.CallOptions;
 import io.grpc.Channel;
 import io.grpc.ClientCall;
 import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
@@ -32,12 +38,40 @@ public class GrpcTestInterceptor implements Consumer<ManagedChannelBuilder<?>>,
     private static final Queue<StatusCode> EXECUTE_QUERY = new ConcurrentLinkedQueue<>();
     private static final Queue<StatusCode> COMMIT_TX = new ConcurrentLinkedQueue<>();
     private static final Queue<Status> GRPC_CALLS = new ConcurrentLinkedQueue<>();
+    private static final Queue<Long> EXECUTE_QUERY_DELAYS = new ConcurrentLinkedQueue<>();
+    private static final Map<String, AtomicInteger> CALLS_COUNT = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> CANCELS_COUNT = new ConcurrentHashMap<>();
+    private static final AtomicReference<String> LAST_QUERY_SESSION = new AtomicReference<>();
 
     public static void reset() {
         CREATE_SESSION.clear();
         EXECUTE_QUERY.clear();
         COMMIT_TX.clear();
         GRPC_CALLS.clear();
+        EXECUTE_QUERY_DELAYS.clear();
+        CALLS_COUNT.clear();
+        CANCELS_COUNT.clear();
+        LAST_QUERY_SESSION.set(null);
+    }
+
+    /**
+     * @return id of the session used by the last ExecuteQuery call of query service
+     */
+    public static String lastQuerySession() {
+        return LAST_QUERY_SESSION.get();
+    }
+
+    public static int callsCount(MethodDescriptor<?, ?> method) {
+        AtomicInteger count = CALLS_COUNT.get(method.getFullMethodName());
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * @return count of calls of the method which were cancelled by the client
+     */
+    public static int cancelsCount(MethodDescriptor<?, ?> method) {
+        AtomicInteger count = CANCELS_COUNT.get(method.getFullMethodName());
+        return count != null ? count.get() : 0;
     }
 
     public static void nextGrpcCall(Status status) {
@@ -52,6 +86,10 @@ public class GrpcTestInterceptor implements Consumer<ManagedChannelBuilder<?>>,
         EXECUTE_QUERY.addAll(Arrays.asList(codes));
     }
 
+    public static void nextExecuteQueryDelay(long millis) {
+        EXECUTE_QUERY_DELAYS.add(millis);
+    }
+
     public static void nextCommitTx(StatusCode... codes) {
         COMMIT_TX.addAll(Arrays.asList(codes));
     }
@@ -62,6 +100,8 @@ public class GrpcTestInterceptor implements Consumer<ManagedChannelBuilder<?>>,
             case BAD_SESSION: return StatusCodesProtos.StatusIds.StatusCode.BAD_SESSION;
             case BAD_REQUEST: return StatusCodesProtos.StatusIds.StatusCode.BAD_REQUEST;
             case UNDETERMINED: return StatusCodesProtos.StatusIds.StatusCode.UNDETERMINED;
+            case OVERLOADED: return StatusCodesProtos.StatusIds.StatusCode.OVERLOADED;
+            case UNAVAILABLE: return StatusCodesProtos.StatusIds.StatusCode.UNAVAILABLE;
             default:
                 throw new IllegalArgumentException("Cannot map code " + code);
         }
@@ -76,6 +116,8 @@ public class GrpcTestInterceptor implements Consumer<ManagedChannelBuilder<?>>,
     @SuppressWarnings("unchecked")
     public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
             CallOptions callOptions, Channel next) {
+        CALLS_COUNT.computeIfAbsent(method.getFullMethodName(), k -> new AtomicInteger()).incrementAndGet();
+
         Status grpc = GRPC_CALLS.poll();
         if (grpc != null) {
             return new FailCall<>(grpc);
@@ -96,6 +138,12 @@ public class GrpcTestInterceptor implements Consumer<ManagedChannelBuilder<?>>,
                 RespT resp = (RespT) YdbQuery.ExecuteQueryResponsePart.newBuilder().setStatus(toPb(status)).build();
                 return new ErrorCall<>(resp);
             }
+
+            Long delay = EXECUTE_QUERY_DELAYS.poll();
+            if (delay != null) {
+                return new SessionCall<>(method, new DelayedCall<>(next.newCall(method, callOptions), delay));
+            }
+            return new SessionCall<>(method, next.newCall(method, callOptions));
         }
 
         if (method == QueryServiceGrpc.getCommitTransactionMethod()) {
@@ -146,6 +194,58 @@ public class GrpcTestInterceptor implements Consumer<ManagedChannelBuilder<?>>,
         return next.newCall(method, callOptions);
     }
 
+    private class SessionCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+        private final MethodDescriptor<ReqT, RespT> method;
+
+        public SessionCall(MethodDescriptor<ReqT, RespT> method, ClientCall<ReqT, RespT> delegate) {
+            super(delegate);
+            this.method = method;
+        }
+
+        @Override
+        public void cancel(String message, Throwable cause) {
+            CANCELS_COUNT.computeIfAbsent(method.getFullMethodName(), k -> new AtomicInteger()).incrementAndGet();
+            super.cancel(message, cause);
+        }
+
+        @Override
+        public void sendMessage(ReqT message) {
+            if (message instanceof YdbQuery.ExecuteQueryRequest) {
+                LAST_QUERY_SESSION.set(((YdbQuery.ExecuteQueryRequest) message).getSessionId());
+            }
+            super.sendMessage(message);
+        }
+    }
+
+    private class DelayedCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+        private final long delayMillis;
+
+        public DelayedCall(ClientCall<ReqT, RespT> delegate, long delayMillis) {
+            super(delegate);
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public void start(Listener<RespT> listener, Metadata headers) {
+            super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(listener) {
+                private boolean isDelayed = false;
+
+                @Override
+                public void onMessage(RespT message) {
+                    if (!isDelayed) {
+                        isDelayed = true;
+                        try {
+                            Thread.sleep(delayMillis);
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    super.onMessage(message);
+                }
+            }, headers);
+        }
+    }
+
     private class ErrorCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
         private final RespT errorMsg;
 
@@ -0,0 +1,83 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.proto.query.v1.QueryServiceGrpc;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class HedgedQueryTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb)
+            .withArg("channelInitializer", GrpcTestInterceptor.class.getCanonicalName())
+            .withArg("useQueryService", "true")
+            .withArg("hedgingDelay", "0.1s");
+
+    private static final long SLOW_QUERY_MS = 3000;
+
+    private static int executeCalls() {
+        return GrpcTestInterceptor.callsCount(QueryServiceGrpc.getExecuteQueryMethod());
+    }
+
+    private static int cancelledCalls() {
+        return GrpcTestInterceptor.cancelsCount(QueryServiceGrpc.getExecuteQueryMethod());
+    }
+
+    private static long selectMillis(Statement st) throws SQLException {
+        long startedAt = System.nanoTime();
+        try (ResultSet rs = st.executeQuery("SELECT 1 + 2")) {
+            Assertions.assertTrue(rs.next());
+            Assertions.assertEquals(3, rs.getInt(1));
+            Assertions.assertFalse(rs.next());
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    @Test
+    public void slowQueryIsHedgedTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                selectMillis(st); // warm up
+
+                GrpcTestInterceptor.reset();
+                GrpcTestInterceptor.nextExecuteQueryDelay(SLOW_QUERY_MS);
+
+                // the duplicate returns the result before the slow first attempt
+                Assertions.assertTrue(selectMillis(st) < SLOW_QUERY_MS);
+                Assertions.assertEquals(2, executeCalls());
+                // the slow first attempt is cancelled as soon as the duplicate has won
+                Assertions.assertEquals(1, cancelledCalls());
+
+                // next queries use new sessions
+                Assertions.assertTrue(selectMillis(st) < SLOW_QUERY_MS);
+            }
+        }
+    }
+
+    @Test
+    public void transactionIsNotHedgedTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            conn.setAutoCommit(false);
+            try (Statement st = conn.createStatement()) {
+                GrpcTestInterceptor.reset();
+                GrpcTestInterceptor.nextExecuteQueryDelay(500);
+
+                Assertions.assertTrue(selectMillis(st) >= 500);
+                Assertions.assertEquals(1, executeCalls());
+                Assertions.assertEquals(0, cancelledCalls());
+                conn.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.jdbc.query.params.KeyLookupQuery;
+import tech.ydb.proto.table.v1.TableServiceGrpc;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class KeyLookupTest {
+    private static final Logger LOGGER = Logger.getLogger(KeyLookupTest.class.getName());
+
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper baseURL = new JdbcUrlHelper(ydb)
+            .withArg("channelInitializer", GrpcTestInterceptor.class.getCanonicalName());
+    private static final JdbcUrlHelper jdbcURL = baseURL.withArg("usePointLookupReadRows", "true");
+
+    private static final String TABLE = "key_lookup_test";
+
+    @BeforeAll
+    public static void createTable() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("CREATE TABLE " + TABLE + " (h Int32, k Text, value Text, PRIMARY KEY(h, k))");
+                st.execute("UPSERT INTO " + TABLE + " (h, k, value) VALUES (1, 'a', 'v1'), (2, 'b', 'v2')");
+            }
+        }
+    }
+
+    @AfterAll
+    public static void dropTable() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("DROP TABLE " + TABLE);
+            }
+        }
+    }
+
+    private static int readRowsCalls() {
+        return GrpcTestInterceptor.callsCount(TableServiceGrpc.getReadRowsMethod());
+    }
+
+    private static String selectValue(PreparedStatement ps, int h, String k) throws SQLException {
+        ps.setInt(1, h);
+        ps.setString(2, k);
+        try (ResultSet rs = ps.executeQuery()) {
+            if (!rs.next()) {
+                return null;
+            }
+            String value = rs.getString("value");
+            Assertions.assertFalse(rs.next());
+            return value;
+        }
+    }
+
+    @Test
+    public void readRowsTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            GrpcTestInterceptor.reset();
+
+            String select = "SELECT value FROM " + TABLE + " WHERE h = ? AND k = ?";
+            try (PreparedStatement ps = conn.prepareStatement(select)) {
+                Assertions.assertEquals("v1", selectValue(ps, 1, "a"));
+                Assertions.assertEquals("v2", selectValue(ps, 2, "b"));
+                Assertions.assertNull(selectValue(ps, 2, "a"));
+            }
+            Assertions.assertEquals(3, readRowsCalls());
+
+            // key columns may be in any order
+            select = "SELECT * FROM " + TABLE + " WHERE k = ? AND h = ?";
+            try (PreparedStatement ps = conn.prepareStatement(select)) {
+                ps.setString(1, "b");
+                ps.setInt(2, 2);
+                try (ResultSet rs = ps.executeQuery()) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals("v2", rs.getString("value"));
+                    Assertions.assertEquals(2, rs.getInt("h"));
+                    Assertions.assertFalse(rs.next());
+                }
+            }
+            Assertions.assertEquals(4, readRowsCalls());
+
+            // not full primary key is executed as data query
+            select = "SELECT value FROM " + TABLE + " WHERE h = ?";
+            try (PreparedStatement ps = conn.prepareStatement(select)) {
+                ps.setInt(1, 1);
+                try (ResultSet rs = ps.executeQuery()) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals("v1", rs.getString("value"));
+                }
+            }
+            Assertions.assertEquals(4, readRowsCalls());
+        }
+    }
+
+    private static List<String> selectAllColumns(Connection conn) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        try (PreparedStatement ps = conn.prepareStatement("SELECT * FROM " + TABLE + " WHERE h = ? AND k = ?")) {
+            ps.setInt(1, 1);
+            ps.setString(2, "a");
+            try (ResultSet rs = ps.executeQuery()) {
+                Assertions.assertTrue(rs.next());
+                for (int idx = 1; idx <= rs.getMetaData().getColumnCount(); idx++) {
+                    columns.add(rs.getMetaData().getColumnName(idx));
+                }
+            }
+        }
+        return columns;
+    }
+
+    @Test
+    public void selectAllColumnsOrderTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            GrpcTestInterceptor.reset();
+            List<String> readRows = selectAllColumns(conn);
+            Assertions.assertEquals(1, readRowsCalls());
+
+            conn.setAutoCommit(false);
+            List<String> dataQuery = selectAllColumns(conn);
+            conn.commit();
+            Assertions.assertEquals(1, readRowsCalls());
+
+            // both ways return columns in order of the table description
+            Assertions.assertEquals(Arrays.asList("h", "k", "value"), readRows);
+            Assertions.assertEquals(readRows, dataQuery);
+        }
+    }
+
+    @Test
+    public void readRowsTimeoutTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            GrpcTestInterceptor.reset();
+
+            String select = "SELECT value FROM " + TABLE + " WHERE h = ? AND k = ?";
+            try (PreparedStatement ps = conn.prepareStatement(select)) {
+                ps.setQueryTimeout(5);
+                Assertions.assertEquals("v1", selectValue(ps, 1, "a"));
+            }
+            Assertions.assertEquals(1, readRowsCalls());
+        }
+    }
+
+    private static LatencyHistogram measureLookups(PreparedStatement ps, int count) throws SQLException {
+        LatencyHistogram latency = new LatencyHistogram();
+        for (int idx = 0; idx < count; idx++) {
+            long startedAt = System.nanoTime();
+            Assertions.assertEquals("v1", selectValue(ps, 1, "a"));
+            latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+        }
+        return latency;
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "ydb.jdbc.benchmark", matches = "true")
+    public void readRowsBenchmark() throws SQLException {
+        int count = Integer.getInteger("ydb.jdbc.benchmark.queries", 10000);
+        for (String readRows: new String[] {"false", "true"}) {
+            String url = baseURL.withArg("usePointLookupReadRows", readRows).build();
+            try (Connection conn = DriverManager.getConnection(url)) {
+                String select = "SELECT value FROM " + TABLE + " WHERE h = ? AND k = ?";
+                try (PreparedStatement ps = conn.prepareStatement(select)) {
+                    measureLookups(ps, count / 10); // warm up
+                    LatencyHistogram latency = measureLookups(ps, count);
+                    LOGGER.log(Level.INFO, "Point lookup by ReadRows {0}: p50 {1} us, p99 {2} us, max {3} us",
+                            new Object[] {readRows, latency.getPercentile(50), latency.getPercentile(99),
+                                latency.getMax()});
+                }
+            }
+        }
+    }
+
+    @Test
+    public void transactionLookupTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            conn.setAutoCommit(false);
+            GrpcTestInterceptor.reset();
+
+            String select = "SELECT value FROM " + TABLE + " WHERE h = ? AND k = ?";
+            try (PreparedStatement ps = conn.prepareStatement(select)) {
+                Assertions.assertEquals("v1", selectValue(ps, 1, "a"));
+                Assertions.assertNull(selectValue(ps, 2, "a"));
+            }
+            conn.commit();
+
+            // ReadRows is not used inside transactions
+            Assertions.assertEquals(0, readRowsCalls());
+        }
+    }
+
+    @Test
+    public void batchLookupTest() throws SQLException {
+        String url = jdbcURL.withArg("batchKeyLookups", "true").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            String select = "SELECT k, value FROM " + TABLE + " WHERE h = ? AND k = ?";
+            try (PreparedStatement ps = conn.prepareStatement(select)) {
+                String[][] keys = new String[][] {{"2", "b"}, {"3", "c"}, {"1", "a"}, {"2", "b"}};
+                for (String[] key: keys) {
+                    ps.setInt(1, Integer.parseInt(key[0]));
+                    ps.setString(2, key[1]);
+                    ps.addBatch();
+                }
+                Assertions.assertEquals(4, ps.executeBatch().length);
+
+                // one result set with rows of all found keys in order of the batch
+                try (ResultSet rs = ps.getResultSet()) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(0, rs.getInt(KeyLookupQuery.BATCH_INDEX_COLUMN));
+                    Assertions.assertEquals("v2", rs.getString("value"));
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(2, rs.getInt(KeyLookupQuery.BATCH_INDEX_COLUMN));
+                    Assertions.assertEquals("v1", rs.getString("value"));
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(3, rs.getInt(KeyLookupQuery.BATCH_INDEX_COLUMN));
+                    Assertions.assertEquals("b", rs.getString("k"));
+                    Assertions.assertFalse(rs.next());
+                }
+
+                // single execution after batch
+                Assertions.assertEquals("v1", selectValue(ps, 1, "a"));
+            }
+        }
+    }
+}
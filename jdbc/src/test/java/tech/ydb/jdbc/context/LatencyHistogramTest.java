@@ -0,0 +1,44 @@
+package tech.ydb.jdbc.context;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketsTest() {
+        for (long value = 0; value < 100_000; value += 1) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            Assertions.assertTrue(value <= LatencyHistogram.upperBoundOf(bucket), "Wrong bucket of " + value);
+            if (bucket > 0) {
+                Assertions.assertTrue(value > LatencyHistogram.upperBoundOf(bucket - 1), "Wrong bucket of " + value);
+            }
+        }
+
+        Assertions.assertTrue(LatencyHistogram.bucketOf(Long.MAX_VALUE) > 0);
+    }
+
+    @Test
+    public void percentilesTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assertions.assertEquals(0, histogram.getCount());
+        Assertions.assertEquals(0, histogram.getPercentile(50));
+        Assertions.assertEquals(0, histogram.getMax());
+
+        for (long value = 1; value <= 1000; value += 1) {
+            histogram.record(value);
+        }
+
+        Assertions.assertEquals(1000, histogram.getCount());
+        Assertions.assertEquals(1000, histogram.getMax());
+
+        assertNear(500, histogram.getPercentile(50));
+        assertNear(900, histogram.getPercentile(90));
+        assertNear(990, histogram.getPercentile(99));
+        Assertions.assertEquals(1000, histogram.getPercentile(100));
+    }
+
+    private static void assertNear(long expected, long value) {
+        Assertions.assertTrue(value >= expected && value <= expected * 1.125, "Wrong percentile " + value);
+    }
+}
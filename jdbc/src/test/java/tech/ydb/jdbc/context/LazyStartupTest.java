@@ -0,0 +1,121 @@
+package tech.ydb.jdbc.context;
+
+import java.net.ServerSocket;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.core.StatusCode;
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.impl.helper.JdbcConnectionExtention;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class LazyStartupTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    @RegisterExtension
+    private static final JdbcConnectionExtention jdbc = new JdbcConnectionExtention(ydb)
+            .withArg("usePrefixPath", "lazy_startup");
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb)
+            .withArg("lazyStartup", "true")
+            .withArg("startupTimeout", "10s")
+            .withArg("usePrefixPath", "lazy_startup");
+
+    private static final JdbcUrlHelper failingURL = new JdbcUrlHelper(ydb)
+            .withArg("lazyStartup", "true")
+            .withArg("startupTimeout", "1s")
+            .withArg("cacheConnectionsInDriver", "false")
+            .withArg("channelInitializer", GrpcTestInterceptor.class.getCanonicalName());
+
+    private static int selectOne(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            try (ResultSet rs = st.executeQuery("SELECT 1")) {
+                Assertions.assertTrue(rs.next());
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    @Test
+    public void lazyConnectTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            // the first query waits for the background startup
+            Assertions.assertEquals(1, selectOne(conn));
+
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            ctx.awaitStartup();
+            Assertions.assertEquals(1, selectOne(conn));
+        }
+    }
+
+    @Test
+    public void lazyTxValidationTableTest() throws SQLException {
+        String url = jdbcURL.withArg("withTxValidationTable", "lazy_tx_store").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            conn.setAutoCommit(false);
+            try (Statement st = conn.createStatement()) {
+                // the first query waits for the creation of the validation table
+                Assertions.assertTrue(st.execute("SELECT * FROM lazy_tx_store"));
+            }
+            conn.commit();
+        } finally {
+            jdbc.connection().createStatement().execute("DROP TABLE lazy_tx_store");
+        }
+    }
+
+    @Test
+    public void connectWithoutServerTest() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        String url = "jdbc:ydb:grpc://localhost:" + port + "/local?lazyStartup=true&startupTimeout=2s"
+                + "&cacheConnectionsInDriver=false";
+        long startedAt = System.currentTimeMillis();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            // connect doesn't wait for the server
+            Assertions.assertTrue(System.currentTimeMillis() - startedAt < 2000);
+
+            // the first query fails after the startup timeout
+            Assertions.assertThrows(SQLException.class, () -> selectOne(conn));
+        }
+    }
+
+    @Test
+    public void startupFailureTest() throws Exception {
+        GrpcTestInterceptor.reset();
+        StatusCode[] failures = new StatusCode[1000];
+        Arrays.fill(failures, StatusCode.UNAVAILABLE);
+        GrpcTestInterceptor.nextCreateSession(failures);
+
+        try (Connection conn = DriverManager.getConnection(failingURL.build())) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+
+            // background startup cannot create a session in the startup timeout
+            CompletableFuture<Void> startup = ctx.getStartupFuture();
+            Assertions.assertThrows(ExecutionException.class, () -> startup.get(10, TimeUnit.SECONDS));
+
+            // the first query repeats the validation and works after the recovery
+            GrpcTestInterceptor.reset();
+            Assertions.assertEquals(1, selectOne(conn));
+            Assertions.assertTrue(ctx.getStartupFuture().isDone());
+            Assertions.assertFalse(ctx.getStartupFuture().isCompletedExceptionally());
+        } finally {
+            GrpcTestInterceptor.reset();
+        }
+    }
+}
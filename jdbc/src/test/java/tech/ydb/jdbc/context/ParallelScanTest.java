@@ -0,0 +1,149 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.proto.table.v1.TableServiceGrpc;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class ParallelScanTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb)
+            .withArg("parallelScanStreams", "3");
+
+    private static final String TABLE = "parallel_scan_test";
+    private static final int ROWS_COUNT = 50;
+
+    @BeforeAll
+    public static void createTable() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("CREATE TABLE " + TABLE + " (id Int32, value Text, PRIMARY KEY(id)) "
+                        + "WITH (PARTITION_AT_KEYS = (10, 20, 30, 40))");
+
+                StringBuilder upsert = new StringBuilder("UPSERT INTO " + TABLE + " (id, value) VALUES ");
+                for (int id = 0; id < ROWS_COUNT; id++) {
+                    upsert.append(id > 0 ? ", " : "").append("(").append(id).append(", 'v").append(id).append("')");
+                }
+                st.execute(upsert.toString());
+            }
+        }
+    }
+
+    @AfterAll
+    public static void dropTable() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("DROP TABLE " + TABLE);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    public void unorderedScanTest(boolean useStreamResultSets) throws SQLException {
+        String url = jdbcURL.withArg("useStreamResultSets", Boolean.toString(useStreamResultSets)).build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (Statement st = conn.createStatement()) {
+                Set<Integer> ids = new HashSet<>();
+                try (ResultSet rs = st.executeQuery("SCAN SELECT id, value FROM " + TABLE)) {
+                    while (rs.next()) {
+                        Assertions.assertEquals("v" + rs.getInt("id"), rs.getString("value"));
+                        Assertions.assertTrue(ids.add(rs.getInt("id")));
+                    }
+                }
+                Assertions.assertEquals(ROWS_COUNT, ids.size());
+
+                ids.clear();
+                try (ResultSet rs = st.executeQuery("SCAN SELECT * FROM " + TABLE + " WHERE id % 2 = 0")) {
+                    while (rs.next()) {
+                        Assertions.assertTrue(ids.add(rs.getInt("id")));
+                    }
+                }
+                Assertions.assertEquals(ROWS_COUNT / 2, ids.size());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    public void orderedScanTest(boolean useStreamResultSets) throws SQLException {
+        String url = jdbcURL.withArg("useStreamResultSets", Boolean.toString(useStreamResultSets))
+                .withArg("parallelScanOrdered", "true")
+                .build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (Statement st = conn.createStatement()) {
+                int expected = 0;
+                try (ResultSet rs = st.executeQuery("SCAN SELECT id FROM " + TABLE)) {
+                    while (rs.next()) {
+                        Assertions.assertEquals(expected, rs.getInt("id"));
+                        expected++;
+                    }
+                }
+                Assertions.assertEquals(ROWS_COUNT, expected);
+            }
+        }
+    }
+
+    @Test
+    public void partitionsAreDescribedOnceTest() throws SQLException {
+        GrpcTestInterceptor.reset();
+        String url = jdbcURL.withArg("parallelScanOrdered", "true")
+                .withArg("channelInitializer", GrpcTestInterceptor.class.getCanonicalName())
+                .build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (Statement st = conn.createStatement()) {
+                for (int iter = 0; iter < 3; iter++) {
+                    int expected = 0;
+                    try (ResultSet rs = st.executeQuery("SCAN SELECT id FROM " + TABLE + " WHERE id < 25")) {
+                        while (rs.next()) {
+                            Assertions.assertEquals(expected, rs.getInt("id"));
+                            expected++;
+                        }
+                    }
+                    Assertions.assertEquals(25, expected);
+                }
+            }
+        }
+
+        // partition boundaries are cached
+        Assertions.assertEquals(1, GrpcTestInterceptor.callsCount(TableServiceGrpc.getDescribeTableMethod()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    public void notSplittedScanTest(boolean useStreamResultSets) throws SQLException {
+        String url = jdbcURL.withArg("useStreamResultSets", Boolean.toString(useStreamResultSets)).build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (Statement st = conn.createStatement()) {
+                try (ResultSet rs = st.executeQuery("SCAN SELECT COUNT(*) FROM " + TABLE)) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(ROWS_COUNT, rs.getInt(1));
+                    Assertions.assertFalse(rs.next());
+                }
+
+                try (ResultSet rs = st.executeQuery("SCAN SELECT id FROM " + TABLE + " ORDER BY id DESC LIMIT 1")) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(ROWS_COUNT - 1, rs.getInt(1));
+                    Assertions.assertFalse(rs.next());
+                }
+            }
+        }
+    }
+}
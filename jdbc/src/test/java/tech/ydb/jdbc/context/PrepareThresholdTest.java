@@ -0,0 +1,79 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.proto.table.v1.TableServiceGrpc;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class PrepareThresholdTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb)
+            .withArg("channelInitializer", GrpcTestInterceptor.class.getCanonicalName());
+
+    private static final String DECLARE = "DECLARE $p1 AS Int32; DECLARE $p2 AS Int32; ";
+    private static final String SUM_QUERY = DECLARE + "SELECT $p1 + $p2 AS sum";
+
+    private static int prepareCount() {
+        return GrpcTestInterceptor.callsCount(TableServiceGrpc.getPrepareDataQueryMethod());
+    }
+
+    private static void assertSum(Connection conn, String sql) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, 1);
+            ps.setInt(2, 2);
+            try (ResultSet rs = ps.executeQuery()) {
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals(3, rs.getInt(1));
+                Assertions.assertFalse(rs.next());
+            }
+        }
+    }
+
+    @Test
+    public void defaultThresholdTest() throws SQLException {
+        GrpcTestInterceptor.reset();
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            assertSum(conn, DECLARE + "SELECT $p1 + $p2");
+            Assertions.assertEquals(1, prepareCount());
+
+            assertSum(conn, DECLARE + "SELECT $p1 + $p2");
+            Assertions.assertEquals(1, prepareCount());
+        }
+    }
+
+    @Test
+    public void customThresholdTest() throws SQLException {
+        GrpcTestInterceptor.reset();
+        String url = jdbcURL.withArg("prepareThreshold", "3").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            // first executions are processed in memory
+            assertSum(conn, SUM_QUERY);
+            Assertions.assertEquals(0, prepareCount());
+            assertSum(conn, SUM_QUERY);
+            Assertions.assertEquals(0, prepareCount());
+
+            // third one reaches the threshold
+            assertSum(conn, SUM_QUERY);
+            Assertions.assertEquals(1, prepareCount());
+
+            // next executions use cached types
+            assertSum(conn, SUM_QUERY);
+            Assertions.assertEquals(1, prepareCount());
+
+            // another text has its own counter
+            assertSum(conn, DECLARE + "SELECT $p1 + $p2 AS other");
+            Assertions.assertEquals(1, prepareCount());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class QueryExplainQueueTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb)
+            .withArg("jdbcFullScanDetector", "true");
+
+    @Test
+    public void backgroundExplainTest() throws SQLException, InterruptedException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            AtomicInteger explained = new AtomicInteger();
+            QueryExplainQueue queue = new QueryExplainQueue(ctx, 8, stat -> explained.incrementAndGet());
+
+            QueryStat ok = new QueryStat("SELECT 1", "SELECT 1");
+            QueryStat wrong = new QueryStat("SELECT * FROM wrong_table", "SELECT * FROM wrong_table");
+            for (QueryStat stat: new QueryStat[] {ok, wrong}) {
+                Assertions.assertTrue(stat.tryQueue());
+                Assertions.assertTrue(queue.offer(stat));
+                // stat is already in the queue
+                Assertions.assertFalse(stat.tryQueue());
+            }
+
+            Assertions.assertTrue(ok.awaitExplain(10000));
+            Assertions.assertTrue(wrong.awaitExplain(10000));
+            Assertions.assertEquals(2, explained.get());
+
+            Assertions.assertFalse(ok.isError());
+            Assertions.assertNotNull(ok.getAst());
+            Assertions.assertNotNull(ok.getPlan());
+
+            Assertions.assertTrue(wrong.isError());
+            Assertions.assertNull(wrong.getAst());
+        }
+    }
+
+    @Test
+    public void queueIsFullTest() throws SQLException, InterruptedException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            QueryExplainQueue queue = new QueryExplainQueue(ctx, 1, stat -> { });
+
+            List<QueryStat> accepted = new ArrayList<>();
+            List<QueryStat> rejected = new ArrayList<>();
+            for (int idx = 0; idx < 3; idx++) {
+                QueryStat stat = new QueryStat("SELECT " + idx, "SELECT " + idx);
+                Assertions.assertTrue(stat.tryQueue());
+                if (queue.offer(stat)) {
+                    accepted.add(stat);
+                } else {
+                    stat.cancelQueue();
+                    rejected.add(stat);
+                }
+            }
+
+            // the first explain is still in progress, so the queue of capacity 1 cannot accept all of them
+            Assertions.assertFalse(rejected.isEmpty());
+            for (QueryStat stat: accepted) {
+                Assertions.assertTrue(stat.awaitExplain(10000));
+            }
+
+            for (QueryStat stat: rejected) {
+                Assertions.assertFalse(stat.isExplained());
+                // rejected stat can be queued again
+                Assertions.assertTrue(stat.tryQueue());
+                Assertions.assertTrue(queue.offer(stat));
+                Assertions.assertTrue(stat.awaitExplain(10000));
+            }
+        }
+    }
+
+    @Test
+    public void printStatsWaitsForExplainTest() throws SQLException {
+        String url = jdbcURL.withArg("usePrefixPath", "explain_queue").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (Statement st = conn.createStatement()) {
+                Assertions.assertTrue(st.execute("SELECT 2 + 2"));
+                Assertions.assertTrue(st.execute("SCAN SELECT 3 + 3"));
+
+                // print_jdbc_stats waits for explains of just traced queries
+                Assertions.assertTrue(st.execute("print_jdbc_stats();"));
+                int count = 0;
+                try (ResultSet rs = st.getResultSet()) {
+                    while (rs.next()) {
+                        count++;
+                        Assertions.assertFalse(rs.getBoolean("is_error"), rs.getString("plan"));
+                        Assertions.assertNotNull(rs.getString("ast"));
+                        Assertions.assertNotNull(rs.getString("plan"));
+                        // table path prefix is added only on explain
+                        Assertions.assertFalse(rs.getString("yql").contains("PRAGMA"), rs.getString("yql"));
+                    }
+                }
+                Assertions.assertEquals(2, count);
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.proto.query.v1.QueryServiceGrpc;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class ResultCacheTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb)
+            .withArg("channelInitializer", GrpcTestInterceptor.class.getCanonicalName())
+            .withArg("useQueryService", "true")
+            .withArg("resultCacheTtl", "1m");
+
+    private static final String TABLE = "result_cache_test";
+
+    @BeforeAll
+    public static void createTable() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("CREATE TABLE " + TABLE + " (id Int32, value Text, PRIMARY KEY(id))");
+                st.execute("UPSERT INTO " + TABLE + " (id, value) VALUES (1, 'a'), (2, 'b')");
+            }
+        }
+    }
+
+    @AfterAll
+    public static void dropTable() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("DROP TABLE " + TABLE);
+            }
+        }
+    }
+
+    private static int executeCalls() {
+        return GrpcTestInterceptor.callsCount(QueryServiceGrpc.getExecuteQueryMethod());
+    }
+
+    private static String readValue(PreparedStatement ps, int id) throws SQLException {
+        ps.setInt(1, id);
+        try (ResultSet rs = ps.executeQuery()) {
+            Assertions.assertTrue(rs.next());
+            String value = rs.getString("value");
+            Assertions.assertFalse(rs.next());
+            return value;
+        }
+    }
+
+    @Test
+    public void staleReadCacheTest() throws SQLException {
+        try (Connection reader = DriverManager.getConnection(jdbcURL.build())) {
+            reader.setReadOnly(true);
+            reader.setTransactionIsolation(YdbConst.STALE_CONSISTENT_READ_ONLY);
+
+            String select = "SELECT value FROM " + TABLE + " WHERE id = ?";
+            try (PreparedStatement ps = reader.prepareStatement(select)) {
+                GrpcTestInterceptor.reset();
+                Assertions.assertEquals("a", readValue(ps, 1));
+                Assertions.assertEquals("b", readValue(ps, 2));
+                Assertions.assertEquals(2, executeCalls());
+
+                // the same queries with the same parameters are read from cache
+                Assertions.assertEquals("a", readValue(ps, 1));
+                Assertions.assertEquals("b", readValue(ps, 2));
+                Assertions.assertEquals("a", readValue(ps, 1));
+                Assertions.assertEquals(2, executeCalls());
+
+                // write to the table invalidates the cached results
+                try (Connection writer = DriverManager.getConnection(jdbcURL.build())) {
+                    try (Statement st = writer.createStatement()) {
+                        st.execute("UPSERT INTO " + TABLE + " (id, value) VALUES (1, 'c')");
+                    }
+                }
+
+                GrpcTestInterceptor.reset();
+                Assertions.assertEquals("c", readValue(ps, 1));
+                Assertions.assertEquals(1, executeCalls());
+                Assertions.assertEquals("c", readValue(ps, 1));
+                Assertions.assertEquals(1, executeCalls());
+            }
+        }
+    }
+
+    @Test
+    public void transactionInvalidatesOnCommitTest() throws SQLException {
+        String[] writerURLs = new String[] {
+            jdbcURL.build(),
+            jdbcURL.withArg("deferDmlToCommit", "true").build(),
+        };
+        String[] values = new String[] { "d", "b" };
+
+        try (Connection reader = DriverManager.getConnection(jdbcURL.build())) {
+            reader.setReadOnly(true);
+            reader.setTransactionIsolation(YdbConst.STALE_CONSISTENT_READ_ONLY);
+
+            String select = "SELECT value FROM " + TABLE + " WHERE id = ?";
+            try (PreparedStatement ps = reader.prepareStatement(select)) {
+                for (int idx = 0; idx < writerURLs.length; idx++) {
+                    String prev = readValue(ps, 2);
+                    try (Connection writer = DriverManager.getConnection(writerURLs[idx])) {
+                        writer.setAutoCommit(false);
+                        try (Statement st = writer.createStatement()) {
+                            st.execute("UPSERT INTO " + TABLE + " (id, value) VALUES (2, '" + values[idx] + "')");
+
+                            // changes are not committed, so the cached result is still valid
+                            GrpcTestInterceptor.reset();
+                            Assertions.assertEquals(prev, readValue(ps, 2));
+                            Assertions.assertEquals(0, executeCalls());
+
+                            writer.commit();
+                        }
+                    }
+
+                    // commit invalidates the cached results of the changed table
+                    GrpcTestInterceptor.reset();
+                    Assertions.assertEquals(values[idx], readValue(ps, 2));
+                    Assertions.assertEquals(1, executeCalls());
+                }
+            }
+        }
+    }
+
+    private static void assertExecuteCalls(Statement st, String sql, int expectedCalls) throws SQLException {
+        GrpcTestInterceptor.reset();
+        for (int idx = 0; idx < 3; idx++) {
+            try (ResultSet rs = st.executeQuery(sql)) {
+                Assertions.assertTrue(rs.next());
+            }
+        }
+        Assertions.assertEquals(expectedCalls, executeCalls(), sql);
+    }
+
+    @Test
+    public void unknownTablesNotCachedTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            conn.setReadOnly(true);
+            conn.setTransactionIsolation(YdbConst.STALE_CONSISTENT_READ_ONLY);
+            try (Statement st = conn.createStatement()) {
+                // comments and literals are not parsed as table names
+                assertExecuteCalls(st, "SELECT value, 'FROM x' AS c FROM " + TABLE + " /* JOIN y */ WHERE id = 1", 1);
+
+                // named expressions and table functions are not cached
+                assertExecuteCalls(st, "$t = SELECT * FROM " + TABLE + "; SELECT value FROM $t WHERE id = 1", 3);
+                assertExecuteCalls(st, "SELECT * FROM AS_TABLE([<|value: 'a'|>])", 3);
+            }
+        }
+    }
+
+    @Test
+    public void prefixPathInvalidationTest() throws SQLException {
+        String prefixURL = jdbcURL.withArg("usePrefixPath", "result_cache").build();
+        try (Connection conn = DriverManager.getConnection(prefixURL)) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("CREATE TABLE prefixed (id Int32, value Text, PRIMARY KEY(id))");
+                st.execute("UPSERT INTO prefixed (id, value) VALUES (1, 'a')");
+            }
+        }
+
+        // connections with the same URL share the context and its cache
+        try (Connection reader = DriverManager.getConnection(prefixURL)) {
+            reader.setReadOnly(true);
+            reader.setTransactionIsolation(YdbConst.STALE_CONSISTENT_READ_ONLY);
+            String select = "SELECT value FROM `" + ydb.database() + "/result_cache/prefixed` WHERE id = ?";
+            try (PreparedStatement ps = reader.prepareStatement(select)) {
+                Assertions.assertEquals("a", readValue(ps, 1));
+
+                // write by the relative name invalidates the result of the query by the full name
+                try (Connection writer = DriverManager.getConnection(prefixURL)) {
+                    String upsert = "UPSERT INTO prefixed (id, value) VALUES (?, ?)";
+                    try (PreparedStatement ups = writer.prepareStatement(upsert)) {
+                        ups.setInt(1, 1);
+                        ups.setString(2, "b");
+                        ups.executeUpdate();
+                    }
+                }
+                Assertions.assertEquals("b", readValue(ps, 1));
+            }
+        } finally {
+            try (Connection conn = DriverManager.getConnection(prefixURL)) {
+                try (Statement st = conn.createStatement()) {
+                    st.execute("DROP TABLE prefixed");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void serializableNotCachedTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                GrpcTestInterceptor.reset();
+                for (int idx = 0; idx < 3; idx++) {
+                    try (ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM " + TABLE)) {
+                        Assertions.assertTrue(rs.next());
+                        Assertions.assertEquals(2, rs.getInt(1));
+                    }
+                }
+                Assertions.assertEquals(3, executeCalls());
+            }
+        }
+    }
+}
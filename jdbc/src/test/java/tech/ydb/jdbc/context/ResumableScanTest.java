@@ -0,0 +1,117 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.Value;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class ResumableScanTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb)
+            .withArg("useStreamResultSets", "true")
+            .withArg("resumableScanStreams", "true");
+
+    private static final String TABLE = "resumable_scan_test";
+    private static final int ROWS_COUNT = 50;
+
+    @BeforeAll
+    public static void createTable() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("CREATE TABLE " + TABLE + " (h Int32, k Int32, value Text, PRIMARY KEY(h, k))");
+
+                StringBuilder upsert = new StringBuilder("UPSERT INTO " + TABLE + " (h, k, value) VALUES ");
+                for (int id = 0; id < ROWS_COUNT; id++) {
+                    upsert.append(id > 0 ? ", " : "")
+                            .append("(").append(id / 10).append(", ").append(id % 10).append(", 'v").append(id)
+                            .append("')");
+                }
+                st.execute(upsert.toString());
+            }
+        }
+    }
+
+    @AfterAll
+    public static void dropTable() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("DROP TABLE " + TABLE);
+            }
+        }
+    }
+
+    @Test
+    public void orderedScanTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            try (Statement st = conn.createStatement()) {
+                st.setFetchSize(7);
+                int id = 0;
+                try (ResultSet rs = st.executeQuery("SCAN SELECT * FROM " + TABLE + " ORDER BY h, k")) {
+                    while (rs.next()) {
+                        Assertions.assertEquals(id / 10, rs.getInt("h"));
+                        Assertions.assertEquals(id % 10, rs.getInt("k"));
+                        Assertions.assertEquals("v" + id, rs.getString("value"));
+                        id++;
+                    }
+                }
+                Assertions.assertEquals(ROWS_COUNT, id);
+
+                // not full primary key in ORDER BY is executed as usual scan
+                id = 0;
+                try (ResultSet rs = st.executeQuery("SCAN SELECT value FROM " + TABLE + " ORDER BY h")) {
+                    while (rs.next()) {
+                        id++;
+                    }
+                }
+                Assertions.assertEquals(ROWS_COUNT, id);
+            }
+        }
+    }
+
+    @Test
+    public void resumeAfterKeyTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+            String select = "SELECT h, k, value FROM " + TABLE + " WHERE k < 5 ORDER BY h, k";
+
+            ResumableScan scan = ResumableScan.parse(ctx, select, Params.empty());
+            Assertions.assertNotNull(scan);
+            Assertions.assertEquals(Arrays.asList("h", "k"), scan.getKeyColumns());
+
+            ParallelScan.RangeQuery next = scan.resumeAfter(new Value<?>[] {
+                PrimitiveValue.newInt32(3), PrimitiveValue.newInt32(2)
+            });
+            Assertions.assertNotNull(next);
+            Assertions.assertTrue(next.getYql().contains("(k < 5) AND (`h` > $__resume_key0 OR (`h` = $__resume_key0 "
+                    + "AND (`k` > $__resume_key1))) ORDER BY h, k"), next.getYql());
+            Assertions.assertEquals(PrimitiveValue.newInt32(3), next.getParams().values().get("$__resume_key0"));
+
+            // key with NULL cannot be continued
+            Assertions.assertNull(scan.resumeAfter(new Value<?>[] {
+                PrimitiveValue.newInt32(3), PrimitiveType.Int32.makeOptional().emptyValue()
+            }));
+
+            // key columns must be selected
+            Assertions.assertNull(ResumableScan.parse(ctx, "SELECT value FROM " + TABLE + " ORDER BY h, k",
+                    Params.empty()));
+        }
+    }
+}
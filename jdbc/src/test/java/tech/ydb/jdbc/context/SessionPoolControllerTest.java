@@ -0,0 +1,82 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.table.Session;
+import tech.ydb.table.stats.SessionPoolStats;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class SessionPoolControllerTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb);
+
+    @Test
+    public void adaptivePoolTest() throws SQLException {
+        String url = jdbcURL.withArg("sessionPoolSizeMax", "20").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbClients clients = conn.unwrap(YdbConnection.class).getCtx().getClients();
+            // controller without the scheduled ticks
+            SessionPoolController controller = new SessionPoolController(
+                    Collections.singletonList(clients.getTableClient()),
+                    Collections.singletonList(clients.getQueryClient()), 100, null);
+            Assertions.assertEquals(20, controller.getMaxSize());
+
+            // low utilization doesn't change the initial size
+            controller.tick();
+            Assertions.assertEquals(20, controller.getMaxSize());
+
+            // 17 of 20 sessions are acquired
+            List<Session> sessions = new ArrayList<>();
+            for (int idx = 0; idx < 17; idx++) {
+                sessions.add(clients.getTableClient().createSession(Duration.ofSeconds(5)).join().getValue());
+            }
+            Assertions.assertEquals(17, controller.getAcquiredCount());
+            controller.tick();
+            Assertions.assertEquals(30, controller.getMaxSize());
+            Assertions.assertEquals(30, clients.getTableClient().sessionPoolStats().getMaxSize());
+
+            sessions.forEach(Session::close);
+            Assertions.assertEquals(0, controller.getAcquiredCount());
+
+            // pool is shrunk only after long low utilization, the first tick still sees the peak of the previous one
+            for (int idx = 0; idx < 31; idx++) {
+                controller.tick();
+            }
+            Assertions.assertEquals(23, controller.getMaxSize());
+
+            for (int idx = 0; idx < 60; idx++) {
+                controller.tick();
+            }
+            Assertions.assertEquals(20, controller.getMaxSize());
+        }
+    }
+
+    @Test
+    public void prewarmTest() throws SQLException, InterruptedException {
+        String url = jdbcURL.withArg("useQueryService", "false").withArg("sessionPoolSizeMin", "5").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbContext ctx = conn.unwrap(YdbConnection.class).getCtx();
+
+            SessionPoolStats stats = ctx.getTableClient().sessionPoolStats();
+            for (int idx = 0; idx < 50 && stats.getIdleCount() < 5; idx++) {
+                Thread.sleep(100);
+                stats = ctx.getTableClient().sessionPoolStats();
+            }
+            Assertions.assertTrue(stats.getIdleCount() >= 5, "Unexpected pool stats " + stats);
+        }
+    }
+}
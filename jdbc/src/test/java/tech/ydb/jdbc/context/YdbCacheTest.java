@@ -0,0 +1,192 @@
+package tech.ydb.jdbc.context;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.proto.table.v1.TableServiceGrpc;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class YdbCacheTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb)
+            .withArg("channelInitializer", GrpcTestInterceptor.class.getCanonicalName());
+
+    @Test
+    public void concurrentPrepareTest() throws Exception {
+        GrpcTestInterceptor.reset();
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int idx = 0; idx < threads; idx++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    String sql = "DECLARE $p1 AS Int32; DECLARE $p2 AS Int32; SELECT $p1 * $p2";
+                    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                        Assertions.assertNotNull(ps);
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> f: futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // all waiters are served by the single prepare call
+        Assertions.assertEquals(1, GrpcTestInterceptor.callsCount(TableServiceGrpc.getPrepareDataQueryMethod()));
+    }
+
+    @Test
+    public void failedPrepareIsNotCachedTest() throws SQLException {
+        GrpcTestInterceptor.reset();
+
+        String sql = "DECLARE $p1 AS Int32; SELECT * FROM unknown_table WHERE id = $p1;";
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            for (int idx = 0; idx < 2; idx++) {
+                Assertions.assertThrows(SQLException.class, () -> conn.prepareStatement(sql));
+            }
+        }
+
+        Assertions.assertEquals(2, GrpcTestInterceptor.callsCount(TableServiceGrpc.getPrepareDataQueryMethod()));
+    }
+
+    @Test
+    public void failedDescribeIsCachedTest() throws SQLException {
+        GrpcTestInterceptor.reset();
+
+        String sql = "UPSERT INTO unknown_batch_table (id, value) VALUES (?, ?)";
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            for (int idx = 0; idx < 3; idx++) {
+                // table doesn't exist, so statement is not batched and will fail only on execution
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    Assertions.assertNotNull(ps);
+                }
+            }
+        }
+
+        Assertions.assertEquals(1, GrpcTestInterceptor.callsCount(TableServiceGrpc.getDescribeTableMethod()));
+    }
+
+    @Test
+    public void disabledErrorsCacheTest() throws SQLException {
+        GrpcTestInterceptor.reset();
+
+        String sql = "UPSERT INTO unknown_batch_table (id, value) VALUES (?, ?)";
+        String url = jdbcURL.withArg("tableDescriptionErrorTtl", "0s").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            for (int idx = 0; idx < 3; idx++) {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    Assertions.assertNotNull(ps);
+                }
+            }
+        }
+
+        Assertions.assertEquals(3, GrpcTestInterceptor.callsCount(TableServiceGrpc.getDescribeTableMethod()));
+    }
+
+    @Test
+    public void printCacheStatsTest() throws SQLException {
+        String sql = "DECLARE $p1 AS Int32; SELECT $p1 + 1";
+        String url = jdbcURL.withArg("jdbcFullScanDetector", "true")
+                .withArg("preparedTypesCacheSize", "8")
+                .build();
+
+        try (Connection conn = DriverManager.getConnection(url)) {
+            for (int idx = 0; idx < 2; idx++) {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    Assertions.assertNotNull(ps);
+                }
+            }
+
+            try (Statement st = conn.createStatement()) {
+                Assertions.assertTrue(st.execute("print_jdbc_stats();"));
+                // the first result set contains the full scan detector stats
+                Assertions.assertTrue(st.getMoreResults());
+
+                List<String> names = new ArrayList<>();
+                try (ResultSet rs = st.getResultSet()) {
+                    while (rs.next()) {
+                        String name = rs.getString("cache");
+                        names.add(name);
+                        if ("prepared_types".equals(name)) {
+                            Assertions.assertEquals(1, rs.getLong("size"));
+                            Assertions.assertEquals(1, rs.getLong("hits"));
+                            Assertions.assertEquals(1, rs.getLong("misses"));
+                            Assertions.assertEquals(1, rs.getLong("loads"));
+                            Assertions.assertEquals(0, rs.getLong("load_errors"));
+                        }
+                    }
+                }
+
+                Assertions.assertEquals(
+                        Arrays.asList("queries", "prepared_types", "query_stats", "table_descriptions"), names
+                );
+                Assertions.assertFalse(st.getMoreResults());
+            }
+        }
+    }
+
+    @Test
+    public void warmupSnapshotTest(@TempDir Path dir) throws SQLException, InterruptedException {
+        Path file = dir.resolve("warmup.snapshot");
+        String sql = "DECLARE $p1 AS Int32; SELECT $p1 * 3";
+        String url = jdbcURL.withArg("warmupSnapshotFile", file.toString())
+                .withArg("warmupSnapshotInterval", "0s")
+                .build();
+
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                Assertions.assertNotNull(ps);
+            }
+        }
+
+        // snapshot is saved on closing of the context
+        Assertions.assertTrue(Files.exists(file));
+
+        GrpcTestInterceptor.reset();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            // query is prepared in background on the context creation
+            for (int attempt = 0; attempt < 50; attempt++) {
+                if (GrpcTestInterceptor.callsCount(TableServiceGrpc.getPrepareDataQueryMethod()) > 0) {
+                    break;
+                }
+                Thread.sleep(100);
+            }
+            Assertions.assertEquals(1, GrpcTestInterceptor.callsCount(TableServiceGrpc.getPrepareDataQueryMethod()));
+
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                Assertions.assertNotNull(ps);
+            }
+            Assertions.assertEquals(1, GrpcTestInterceptor.callsCount(TableServiceGrpc.getPrepareDataQueryMethod()));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.jdbc.exception.ExceptionFactory;
+
+public class YdbRetryPolicyTest {
+    private static final YdbRetryPolicy POLICY = new YdbRetryPolicy(3, Duration.ofMillis(10), Duration.ofMillis(100),
+            Duration.ofMillis(150), Duration.ofSeconds(10), false);
+
+    private static SQLException error(StatusCode code) {
+        return ExceptionFactory.createException("Test error", new UnexpectedResultException("Test", Status.of(code)));
+    }
+
+    @Test
+    public void backoffTest() {
+        for (int idx = 0; idx < 100; idx++) {
+            long fast = POLICY.backoffMillis(StatusCode.ABORTED, 0);
+            Assertions.assertTrue(fast >= 5 && fast <= 10, "Unexpected delay " + fast);
+
+            fast = POLICY.backoffMillis(StatusCode.UNAVAILABLE, 2);
+            Assertions.assertTrue(fast >= 20 && fast <= 40, "Unexpected delay " + fast);
+
+            long slow = POLICY.backoffMillis(StatusCode.OVERLOADED, 0);
+            Assertions.assertTrue(slow >= 50 && slow <= 100, "Unexpected delay " + slow);
+
+            // delay is limited by max backoff
+            slow = POLICY.backoffMillis(StatusCode.OVERLOADED, 5);
+            Assertions.assertTrue(slow >= 75 && slow <= 150, "Unexpected delay " + slow);
+        }
+    }
+
+    @Test
+    public void retryLimitTest() {
+        YdbRetryPolicy.Retry retry = POLICY.new Retry(false, true);
+        Assertions.assertTrue(retry.nextDelayMillis(error(StatusCode.OVERLOADED)) >= 0);
+        Assertions.assertTrue(retry.nextDelayMillis(error(StatusCode.UNDETERMINED)) >= 0);
+        Assertions.assertEquals(0, retry.nextDelayMillis(error(StatusCode.SESSION_BUSY)));
+        // BAD_SESSION doesn't use attempts
+        Assertions.assertEquals(0, retry.nextDelayMillis(error(StatusCode.BAD_SESSION)));
+        Assertions.assertEquals(-1, retry.nextDelayMillis(error(StatusCode.ABORTED)));
+
+        retry = POLICY.new Retry(false, true);
+        Assertions.assertEquals(-1, retry.nextDelayMillis(error(StatusCode.BAD_REQUEST)));
+        Assertions.assertEquals(-1, retry.nextDelayMillis(error(StatusCode.SCHEME_ERROR)));
+        Assertions.assertEquals(-1, retry.nextDelayMillis(new SQLException("Not YDB error")));
+    }
+
+    @Test
+    public void noBackoffTest() {
+        // queries without backoff are retried only on BAD_SESSION
+        YdbRetryPolicy.Retry retry = POLICY.new Retry(false, false);
+        Assertions.assertEquals(0, retry.nextDelayMillis(error(StatusCode.BAD_SESSION)));
+        Assertions.assertEquals(-1, retry.nextDelayMillis(error(StatusCode.OVERLOADED)));
+
+        // queries inside transactions are never retried
+        retry = POLICY.new Retry(true, false);
+        Assertions.assertEquals(-1, retry.nextDelayMillis(error(StatusCode.BAD_SESSION)));
+    }
+
+    @Test
+    public void timeBudgetTest() {
+        YdbRetryPolicy policy = new YdbRetryPolicy(10, Duration.ofMillis(100), Duration.ofMillis(100),
+                Duration.ofMillis(100), Duration.ofMillis(40), false);
+        YdbRetryPolicy.Retry retry = policy.new Retry(false, true);
+        // delay is at least 50 ms and exceeds the budget
+        Assertions.assertEquals(-1, retry.nextDelayMillis(error(StatusCode.ABORTED)));
+        Assertions.assertEquals(0, retry.nextDelayMillis(error(StatusCode.SESSION_BUSY)));
+    }
+}
@@ -0,0 +1,70 @@
+package tech.ydb.jdbc.context;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class YdbSharedResourcesTest {
+
+    private static String threadName(ScheduledExecutorService scheduler) throws InterruptedException,
+            ExecutionException, TimeoutException {
+        CompletableFuture<String> name = new CompletableFuture<>();
+        scheduler.schedule(() -> name.complete(Thread.currentThread().getName()), 1, TimeUnit.MILLISECONDS);
+        return name.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void sharedSchedulerTest() throws Exception {
+        YdbSharedResources resources = new YdbSharedResources();
+
+        ScheduledExecutorService first = resources.retainScheduler();
+        ScheduledExecutorService second = resources.retainScheduler();
+        Assertions.assertEquals(2, resources.getSchedulerRefs());
+
+        Assertions.assertTrue(threadName(first).startsWith("ydb-jdbc-scheduler-thread-"));
+        Assertions.assertTrue(threadName(second).startsWith("ydb-jdbc-scheduler-thread-"));
+
+        ScheduledFuture<?> firstTask = first.scheduleWithFixedDelay(() -> { }, 1, 1, TimeUnit.SECONDS);
+        ScheduledFuture<?> secondTask = second.scheduleWithFixedDelay(() -> { }, 1, 1, TimeUnit.SECONDS);
+
+        // shutdown of the view cancels only its own tasks
+        first.shutdownNow();
+        first.shutdown();
+        Assertions.assertTrue(first.isShutdown());
+        Assertions.assertTrue(firstTask.isCancelled());
+        Assertions.assertFalse(secondTask.isCancelled());
+        Assertions.assertEquals(1, resources.getSchedulerRefs());
+        Assertions.assertThrows(RejectedExecutionException.class, () -> first.execute(() -> { }));
+
+        Assertions.assertTrue(threadName(second).startsWith("ydb-jdbc-scheduler-thread-"));
+
+        second.shutdown();
+        Assertions.assertTrue(secondTask.isCancelled());
+        Assertions.assertEquals(0, resources.getSchedulerRefs());
+
+        // new view starts new scheduler
+        ScheduledExecutorService third = resources.retainScheduler();
+        Assertions.assertTrue(threadName(third).startsWith("ydb-jdbc-scheduler-thread-"));
+        third.shutdown();
+        Assertions.assertEquals(0, resources.getSchedulerRefs());
+    }
+
+    @Test
+    public void sharedChannelExecutorTest() {
+        YdbSharedResources resources = new YdbSharedResources();
+
+        Assertions.assertSame(resources.retainChannelExecutor(), resources.retainChannelExecutor());
+        Assertions.assertEquals(2, resources.getChannelExecutorRefs());
+
+        resources.releaseChannelExecutor();
+        resources.releaseChannelExecutor();
+        Assertions.assertEquals(0, resources.getChannelExecutorRefs());
+    }
+}
@@ -1110,7 +1110,8 @@ public class YdbConnectionImplTest {
                     check.nextRow(
                             sa.sql("select * from wrong_table;"),
                             sa.yql("select * from wrong_table;"),
-                            sa.isNotFullScan(), sa.isError(), sa.executed(1), sa.hasNoAst(), sa.hasPlan()
+                            sa.isNotFullScan(), sa.isError(), sa.executed(1), sa.hasNoAst(), sa.hasPlan(),
+                            sa.errors(1), sa.retries(0)
                     ).assertAll();
 
                     check.assertNoRows();
@@ -1218,6 +1219,40 @@ public class YdbConnectionImplTest {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    public void fullScanAnalyzerRowsTest(boolean useStreamResultSets) throws SQLException {
+        StatsAssert sa = new StatsAssert();
+        Properties props = new Properties();
+        props.setProperty("jdbcFullScanDetector", "true");
+        props.setProperty("useStreamResultSets", Boolean.toString(useStreamResultSets));
+
+        String select = "SELECT 1 AS a UNION ALL SELECT 2 AS a UNION ALL SELECT 3 AS a;";
+        String scan = "SCAN SELECT 4 AS a UNION ALL SELECT 5 AS a;";
+
+        try (Connection connection = jdbc.createCustomConnection(props)) {
+            try (Statement st = connection.createStatement()) {
+                // select is executed twice, so it is printed first
+                for (String query: new String[] { select, select, scan }) {
+                    try (ResultSet rs = st.executeQuery(query)) {
+                        while (rs.next()) {
+                            Assertions.assertTrue(rs.getInt("a") > 0);
+                        }
+                    }
+                }
+
+                // rows of streamed results are counted as they arrive
+                try (ResultSet rs = st.executeQuery("print_JDBC_stats();")) {
+                    TableAssert.ResultSetAssert check = sa.check(rs).assertMetaColumns();
+
+                    check.nextRow(sa.sql(select), sa.executed(2), sa.rows(6), sa.errors(0)).assertAll();
+                    check.nextRow(sa.sql(scan), sa.executed(1), sa.rows(2), sa.errors(0)).assertAll();
+                    check.assertNoRows();
+                }
+            }
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = { true, false })
     public void fullScanAnalyzerPreparedStatementTest(boolean useStreamResultSets) throws SQLException {
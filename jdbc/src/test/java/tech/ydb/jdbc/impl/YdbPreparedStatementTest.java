@@ -208,6 +208,30 @@ public class YdbPreparedStatementTest {
                 () -> jdbc.connection().prepareStatement(bulk));
     }
 
+    @Test
+    public void executeWithDroppedTable() throws SQLException {
+        String tableName = "ydb_prepared_dropped";
+        String errorMessage = "Cannot find table 'db.[" + jdbc.database() + "/" + tableName + "]";
+        SqlQueries queries = new SqlQueries(tableName);
+
+        try (Statement statement = jdbc.connection().createStatement()) {
+            statement.execute(queries.createTableSQL());
+        }
+
+        String batched = queries.upsertOne(SqlQueries.JdbcQuery.BATCHED, "c_Text", "Text");
+        try (PreparedStatement statement = jdbc.connection().prepareStatement(batched)) {
+            try (Statement st = jdbc.connection().createStatement()) {
+                st.execute(queries.dropTableSQL());
+            }
+
+            statement.setInt(1, 1);
+            statement.setString(2, "value-1");
+            // the failed prepare doesn't replace the origin error and doesn't reset the parameters
+            ExceptionAssert.ydbException(errorMessage, statement::execute);
+            ExceptionAssert.ydbException(errorMessage, statement::execute);
+        }
+    }
+
     @ParameterizedTest(name = "with {0}")
     @ValueSource(strings = {"unknown_table"/*, "YDB_PREPARED_TEST", "ydD_prepared_test"*/})
     public void executeWithWrongTableName(String tableName) throws SQLException {
@@ -1098,7 +1098,8 @@ public class YdbTableConnectionImplTest {
                     check.nextRow(
                             sa.sql("select * from wrong_table;"),
                             sa.yql("select * from wrong_table;"),
-                            sa.isNotFullScan(), sa.isError(), sa.executed(1), sa.hasNoAst(), sa.hasPlan()
+                            sa.isNotFullScan(), sa.isError(), sa.executed(1), sa.hasNoAst(), sa.hasPlan(),
+                            sa.errors(1), sa.retries(0)
                     ).assertAll();
 
                     check.assertNoRows();
@@ -12,6 +12,13 @@ public final class StatsAssert extends TableAssert {
     private final TextColumn queryYql= addTextColumn("yql", "Text");
     private final TextColumn queryAst = addTextColumn("ast", "Text");
     private final TextColumn queryPlan = addTextColumn("plan", "Text");
+    private final LongColumn p50 = addLongColumn("p50_us", "Int64").defaultNotNull();
+    private final LongColumn p90 = addLongColumn("p90_us", "Int64").defaultNotNull();
+    private final LongColumn p99 = addLongColumn("p99_us", "Int64").defaultNotNull();
+    private final LongColumn max = addLongColumn("max_us", "Int64").defaultNotNull();
+    private final LongColumn rows = addLongColumn("rows", "Int64").defaultNotNull();
+    private final LongColumn retries = addLongColumn("retries", "Int64").defaultNotNull();
+    private final LongColumn errors = addLongColumn("errors", "Int64").defaultNotNull();
 
     public ValueAssert sql(String sql) {
         return querySql.eq(sql);
@@ -37,6 +44,18 @@ public final class StatsAssert extends TableAssert {
         return executed.eq(count);
     }
 
+    public ValueAssert rows(long count) {
+        return rows.eq(count);
+    }
+
+    public ValueAssert retries(long count) {
+        return retries.eq(count);
+    }
+
+    public ValueAssert errors(long count) {
+        return errors.eq(count);
+    }
+
     public ValueAssert isFullScan() {
         return isFullScan.eq(true);
     }
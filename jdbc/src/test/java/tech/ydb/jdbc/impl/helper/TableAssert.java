@@ -348,11 +348,26 @@ public class TableAssert {
             return this;
         }
 
+        public LongColumn defaultNotNull() {
+            defaultValues.put(this, isNotNull());
+            return this;
+        }
+
         public LongColumn defaultValue(long defaultValue) {
             defaultValues.put(this, eq(defaultValue));
             return this;
         }
 
+        public ValueAssert isNotNull() {
+            return new ValueAssert(this) {
+                @Override
+                public void assertValue(ResultSet rs) throws SQLException {
+                    rs.getLong(column.name);
+                    Assertions.assertFalse(rs.wasNull(), "Null value for column label " + column.name);
+                }
+            };
+        }
+
         public ValueAssert eq(long value) {
             return new ValueAssert(this) {
                 @Override
@@ -126,6 +126,19 @@ public class YdbQueryParserTest {
         Assertions.assertEquals(QueryCmd.UNKNOWN, statement.getCmd());
     }
 
+    @Test
+    public void addNamesPrefixTest() {
+        Assertions.assertEquals("SELECT 1", YdbQueryParser.addNamesPrefix("SELECT 1", "d0_"));
+        Assertions.assertEquals(""
+                + "DECLARE $d0_p1 AS Int32; DECLARE $d0_jp1 AS Text;\n"
+                + "UPSERT INTO t (a, b, c) VALUES ($d0_p1, $d0_jp1, '$p1'); -- $p1\n"
+                + "$d0_x = SELECT * FROM `$t` /* $p1 */ WHERE a = $d0_p1;",
+                YdbQueryParser.addNamesPrefix(""
+                        + "DECLARE $p1 AS Int32; DECLARE $jp1 AS Text;\n"
+                        + "UPSERT INTO t (a, b, c) VALUES ($p1, $jp1, '$p1'); -- $p1\n"
+                        + "$x = SELECT * FROM `$t` /* $p1 */ WHERE a = $p1;", "d0_"));
+    }
+
     @Test
     public void wrongSqlCommandTest() throws SQLException {
         String query = "SC;";
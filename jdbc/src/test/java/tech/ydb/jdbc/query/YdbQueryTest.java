@@ -43,6 +43,46 @@ public class YdbQueryTest {
         Assertions.assertEquals("Query cannot contain expressions with different types: " + types, ex.getMessage());
     }
 
+    private static boolean isReadOnly(YdbQueryProperties opts, String sql) throws SQLException {
+        return YdbQuery.parseQuery(new QueryKey(sql), opts, new YdbTypes(false, DecimalType.getDefault()))
+                .isReadOnly();
+    }
+
+    @Test
+    public void readOnlyQueriesTest() throws SQLException {
+        YdbQueryProperties opts = new ParamsBuilder().build();
+
+        Assertions.assertTrue(isReadOnly(opts, "SELECT id, value FROM test_table"));
+        Assertions.assertTrue(isReadOnly(opts, "DECLARE $p1 AS Int32; SELECT id, value FROM test_table WHERE id = $p1"));
+        Assertions.assertTrue(isReadOnly(opts, "SELECT 1; SELECT id FROM test_table WHERE id = ?"));
+
+        Assertions.assertFalse(isReadOnly(opts, "UPSERT INTO test_table VALUES (?, ?)"));
+        Assertions.assertFalse(isReadOnly(opts, "SELECT id FROM test_table; DELETE FROM test_table"));
+        Assertions.assertFalse(isReadOnly(opts, "$x = SELECT 1; SELECT $x"));
+        Assertions.assertFalse(isReadOnly(opts, "CREATE TABLE test_table (id int, value text)"));
+        Assertions.assertFalse(isReadOnly(opts, "SCAN SELECT id, value FROM test_table"));
+    }
+
+    private static boolean isBlindWrite(YdbQueryProperties opts, String sql) throws SQLException {
+        return YdbQuery.parseQuery(new QueryKey(sql), opts, new YdbTypes(false, DecimalType.getDefault()))
+                .isBlindWrite();
+    }
+
+    @Test
+    public void blindWriteQueriesTest() throws SQLException {
+        YdbQueryProperties opts = new ParamsBuilder().build();
+
+        Assertions.assertTrue(isBlindWrite(opts, "UPSERT INTO test_table (id, value) VALUES (?, ?)"));
+        Assertions.assertTrue(isBlindWrite(opts, "DECLARE $p1 AS Int32; REPLACE INTO test_table (id) VALUES ($p1)"));
+        Assertions.assertTrue(isBlindWrite(opts, "INSERT INTO t1 (id) VALUES (1); UPSERT INTO t2 (id) VALUES (2)"));
+
+        Assertions.assertFalse(isBlindWrite(opts, "UPDATE test_table SET value = ? WHERE id = ?"));
+        Assertions.assertFalse(isBlindWrite(opts, "DELETE FROM test_table WHERE id = ?"));
+        Assertions.assertFalse(isBlindWrite(opts, "UPSERT INTO test_table SELECT id, value FROM test_table2"));
+        Assertions.assertFalse(isBlindWrite(opts, "UPSERT INTO test_table (id) VALUES (1); DELETE FROM test_table"));
+        Assertions.assertFalse(isBlindWrite(opts, "SELECT id, value FROM test_table"));
+    }
+
     @Test
     public void queryTypesTest() throws SQLException {
         YdbQueryProperties opts = new ParamsBuilder().build();